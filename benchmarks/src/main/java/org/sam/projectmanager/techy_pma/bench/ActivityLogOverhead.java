@@ -0,0 +1,133 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.ProjectActivityDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectDAO;
+import org.sam.projectmanager.techy_pma.database.UnitOfWork;
+import org.sam.projectmanager.techy_pma.metrics.Counter;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * What the project activity log costs the write it records, measured on
+ * {@code ProjectDAO.updateProgress} issued back to back, as a burst of edits would be:
+ *
+ * <ul>
+ *   <li>no log — the update alone, the baseline</li>
+ *   <li>same transaction — the update and its log row in one {@link UnitOfWork}, the
+ *       straightforward synchronous design</li>
+ *   <li>group commit — the update alone, its row queued for the background writer
+ *       (how the app records activity)</li>
+ * </ul>
+ *
+ * <p>The log rows are not done when the group commit loop ends, so the time until the writer
+ * has flushed them and the number of commits it used are reported too.</p>
+ * <pre>
+ * java -cp target/benchmarks.jar org.sam.projectmanager.techy_pma.bench.ActivityLogOverhead [--rows 10000] [--repeat 2000]
+ * </pre>
+ */
+public class ActivityLogOverhead {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO project_activity (project_id, actor_id, action, subject_id, detail, ts) VALUES (?, NULL, 'progress', NULL, ?, ?)";
+
+    private static final DateTimeFormatter TS_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private static final Counter LOG_BATCHES = Metrics.counter("db.activity.batches");
+
+    private final Random random = new Random(11);
+    private final int projectCount;
+
+    /** One variant of the write, timed per call */
+    private interface Write {
+        void run(int projectId, int progress) throws SQLException;
+    }
+
+    private ActivityLogOverhead(int rows) {
+        this.projectCount = rows;
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = CommandLine.parse(args);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "10000"));
+        int repeat = Integer.parseInt(options.getOrDefault("repeat", "2000"));
+
+        Path database = BenchmarkDataset.prepareWorkingCopy(rows);
+        DatabaseManager.setDatabaseUrl("jdbc:sqlite:" + database);
+        DatabaseManager.initializeDatabase();
+
+        ActivityLogOverhead bench = new ActivityLogOverhead(rows);
+
+        // Warm every variant before measuring any, so class loading, the JIT and the
+        // page cache favour none of them
+        for (int round = 0; round < 2; round++) {
+            bench.run(false, Math.min(repeat, 500));
+        }
+        bench.run(true, repeat);
+    }
+
+    private void run(boolean print, int repeat) throws SQLException {
+        if (print) {
+            System.out.printf("%-18s %10s %10s %12s %18s%n", "updateProgress", "p50 ms", "p99 ms", "total ms", "log commits");
+        }
+        ProjectActivityDAO.setEnabled(false);
+        report(print, "no log", repeat, ProjectDAO::updateProgress);
+        report(print, "same transaction", repeat, ActivityLogOverhead::updateWithLogRow);
+
+        ProjectActivityDAO.setEnabled(true);
+        report(print, "group commit", repeat, ProjectDAO::updateProgress);
+    }
+
+    private void report(boolean print, String variant, int repeat, Write write) throws SQLException {
+        long batches = LOG_BATCHES.get();
+        long start = System.nanoTime();
+        long[] nanos = measure(write, repeat);
+        long loopEnd = System.nanoTime();
+        ProjectActivityDAO.flush();
+        long flushed = System.nanoTime();
+
+        if (!print) return;
+
+        Arrays.sort(nanos);
+        long logCommits = LOG_BATCHES.get() - batches;
+        System.out.printf("%-18s %10.3f %10.3f %12.1f %18s%n", variant,
+                nanos[repeat / 2] / 1e6, nanos[(int) (repeat * 0.99)] / 1e6, (loopEnd - start) / 1e6,
+                logCommits == 0 ? "-" : String.format("%,d (+%.1f ms)", logCommits, (flushed - loopEnd) / 1e6));
+    }
+
+    private long[] measure(Write write, int repeat) throws SQLException {
+        long[] nanos = new long[repeat];
+        for (int i = 0; i < repeat; i++) {
+            int projectId = 1 + random.nextInt(projectCount);
+            int progress = random.nextInt(101);
+            long start = System.nanoTime();
+            write.run(projectId, progress);
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    /** The synchronous alternative: the log row is written and committed with the update */
+    private static void updateWithLogRow(int projectId, int progress) throws SQLException {
+        try (UnitOfWork unit = UnitOfWork.begin()) {
+            if (!ProjectDAO.updateProgress(projectId, progress)) return;
+            try (PreparedStatement stmt = unit.connection().prepareStatement(INSERT_SQL)) {
+                stmt.setInt(1, projectId);
+                stmt.setString(2, String.valueOf(progress));
+                stmt.setString(3, LocalDateTime.now(ZoneOffset.UTC).format(TS_FORMAT));
+                stmt.executeUpdate();
+            }
+            unit.commit();
+        }
+    }
+}
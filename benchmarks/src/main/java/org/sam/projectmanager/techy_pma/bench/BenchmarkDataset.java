@@ -0,0 +1,78 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Seeded SQLite databases for the DAO benchmarks.
+ *
+ * <p>A dataset of size {@code rows} holds {@code rows} projects, {@code rows / 10} users
+ * and about three memberships per project on average, distributed with Zipf skew by
+ * {@link DatabaseSeeder} (a few very large projects, most with just their owner). Each
+ * size is generated once into {@code target/bench-data/template-<rows>.db} with a fixed
+ * seed, and every trial works on a fresh copy so write benchmarks never leak into the next run.</p>
+ */
+public final class BenchmarkDataset {
+
+    private static final Path DATA_DIR = Path.of("target", "bench-data");
+    private static final int MEMBERSHIPS_PER_PROJECT = 3;
+    private static final double PROJECT_SKEW = 1.1;
+    private static final double USER_SKEW = 0.8;
+
+    private BenchmarkDataset() {
+    }
+
+    /** @return Number of users in a dataset of the given size */
+    public static int userCount(int rows) {
+        return Math.max(rows / 10, 10);
+    }
+
+    /**
+     * Returns a fresh working copy of the dataset, generating the template on first use.
+     *
+     * @param rows Dataset size (number of projects)
+     * @return Path of a database file the caller may modify freely
+     */
+    public static Path prepareWorkingCopy(int rows) throws IOException, SQLException {
+        Files.createDirectories(DATA_DIR);
+        Path template = DATA_DIR.resolve("template-" + rows + ".db");
+        if (!Files.exists(template)) {
+            seed(template, rows);
+        }
+
+        Path work = DATA_DIR.resolve("work-" + rows + ".db");
+        Files.copy(template, work, StandardCopyOption.REPLACE_EXISTING);
+        // The archive database that went with the previous copy (DatabaseManager.getArchivePath())
+        Files.deleteIfExists(DATA_DIR.resolve("work-" + rows + "-archive.db"));
+        return work;
+    }
+
+    /**
+     * @param url    JDBC URL of a seeded database
+     * @param column {@code "user_id"} or {@code "project_id"}
+     * @return The user or project with the most memberships, the heaviest case for screens and queries
+     */
+    public static int busiest(String url, String column) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT " + column + " FROM project_members GROUP BY "
+                     + column + " ORDER BY COUNT(*) DESC LIMIT 1")) {
+            if (!rs.next()) throw new SQLException("No memberships in " + url);
+            return rs.getInt(1);
+        }
+    }
+
+    /** Generates a skewed dataset with {@link DatabaseSeeder}, seeded by the size so it is reproducible */
+    private static void seed(Path file, int rows) throws SQLException {
+        DatabaseSeeder.Result result = DatabaseSeeder.seed("jdbc:sqlite:" + file, new DatabaseSeeder.Config(
+                userCount(rows), rows, MEMBERSHIPS_PER_PROJECT * rows, PROJECT_SKEW, USER_SKEW, rows));
+        System.err.println("Seeded " + file + ": " + result);
+    }
+}
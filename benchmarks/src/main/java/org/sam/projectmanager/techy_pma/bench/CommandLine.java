@@ -0,0 +1,27 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** Minimal {@code --name value} argument parsing for the command-line tools in this module */
+final class CommandLine {
+
+    private CommandLine() {
+    }
+
+    /**
+     * @param args Arguments of the form {@code --name value}
+     * @return Option values keyed by name without the leading dashes
+     * @throws IllegalArgumentException If an option is missing its value or does not start with {@code --}
+     */
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,229 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.ProjectActivityDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectMemberDAO;
+import org.sam.projectmanager.techy_pma.database.UnitOfWork;
+import org.sam.projectmanager.techy_pma.models.Project;
+import org.sam.projectmanager.techy_pma.models.ProjectMember;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Counts the commits each write action costs, done the way the app did it before
+ * {@link UnitOfWork} (every DAO call auto-committed on its own) and the way it does now,
+ * and times both. Every commit is a journal write and an fsync, so on a real disk the
+ * commit count sets the latency far more than the statements do.
+ *
+ * <ul>
+ *   <li>CREATE — insert a project, then its Owner membership</li>
+ *   <li>LEAVE — check the member's role, then remove the membership</li>
+ *   <li>INVITE — add {@value #INVITE_SIZE} members: one {@code addMember} each, against one {@code addMembers}</li>
+ * </ul>
+ *
+ * <p>Commits are read from the file change counter in the database header, which SQLite
+ * increments once per write transaction in rollback-journal mode, so statements that
+ * auto-commit and a unit of work that commits once are counted the same way. Setup and
+ * cleanup of each repetition happen outside the measurement.</p>
+ * <pre>
+ * java -cp target/benchmarks.jar org.sam.projectmanager.techy_pma.bench.CommitsPerAction [--rows 10000] [--repeat 200]
+ * </pre>
+ */
+public class CommitsPerAction {
+
+    private static final int INVITE_SIZE = 20;
+
+    // Bytes 24..27 of the header: the file change counter, big-endian
+    private static final int CHANGE_COUNTER_OFFSET = 24;
+
+    private final Path database;
+    private final Random random = new Random(7);
+    private final int userCount;
+    private final int projectCount;
+
+    /** One action, measured by {@link #run()}, with untimed setup before and cleanup after */
+    private interface Step {
+        void setup() throws SQLException;
+
+        void run() throws SQLException;
+
+        void cleanup() throws SQLException;
+    }
+
+    private CommitsPerAction(Path database, int rows) {
+        this.database = database;
+        this.userCount = BenchmarkDataset.userCount(rows);
+        this.projectCount = rows;
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = CommandLine.parse(args);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "10000"));
+        int repeat = Integer.parseInt(options.getOrDefault("repeat", "200"));
+
+        Path database = BenchmarkDataset.prepareWorkingCopy(rows);
+        DatabaseManager.setDatabaseUrl("jdbc:sqlite:" + database);
+        DatabaseManager.initializeDatabase();
+        // The activity log commits on its own thread, which the change counter would count as the action's
+        ProjectActivityDAO.setEnabled(false);
+
+        CommitsPerAction bench = new CommitsPerAction(database, rows);
+        System.out.printf("%-8s %-14s %12s %12s%n", "ACTION", "", "commits/op", "p50 ms");
+        bench.report("CREATE", repeat, bench.create(false), bench.create(true));
+        bench.report("LEAVE", repeat, bench.leave(false), bench.leave(true));
+        bench.report("INVITE", repeat, bench.invite(false), bench.invite(true));
+    }
+
+    private void report(String action, int repeat, Step before, Step after) throws IOException, SQLException {
+        // A short warmup per variant so class loading and the JIT are not in the first numbers
+        measure(before, Math.min(repeat, 20));
+        measure(after, Math.min(repeat, 20));
+
+        double[] old = measure(before, repeat);
+        double[] now = measure(after, repeat);
+        System.out.printf("%-8s %-14s %12.2f %12.3f%n", action, "autocommit", old[0], old[1]);
+        System.out.printf("%-8s %-14s %12.2f %12.3f%n", "", "unit of work", now[0], now[1]);
+    }
+
+    /** @return Commits per repetition and median milliseconds per repetition */
+    private double[] measure(Step step, int repeat) throws IOException, SQLException {
+        long commits = 0;
+        long[] nanos = new long[repeat];
+        for (int i = 0; i < repeat; i++) {
+            step.setup();
+            long counter = changeCounter();
+            long start = System.nanoTime();
+            step.run();
+            nanos[i] = System.nanoTime() - start;
+            commits += changeCounter() - counter;
+            step.cleanup();
+        }
+        Arrays.sort(nanos);
+        return new double[]{(double) commits / repeat, nanos[repeat / 2] / 1e6};
+    }
+
+    private long changeCounter() throws IOException {
+        try (FileChannel channel = FileChannel.open(database)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            channel.read(header, CHANGE_COUNTER_OFFSET);
+            return Integer.toUnsignedLong(header.flip().getInt());
+        }
+    }
+
+    // ─── ACTIONS ───
+
+    private Step create(boolean unitOfWork) {
+        return new Step() {
+            int userId;
+            int projectId;
+
+            @Override
+            public void setup() {
+                userId = 1 + random.nextInt(userCount);
+            }
+
+            @Override
+            public void run() throws SQLException {
+                Project project = new Project("Commit check project", "Created by CommitsPerAction", userId);
+                if (!unitOfWork) {
+                    projectId = ProjectDAO.insertProject(project);
+                    ProjectMemberDAO.addMember(new ProjectMember(projectId, userId, "Owner"));
+                    return;
+                }
+                try (UnitOfWork unit = UnitOfWork.begin()) {
+                    projectId = ProjectDAO.insertProject(project);
+                    if (ProjectMemberDAO.addMember(new ProjectMember(projectId, userId, "Owner")) > 0) unit.commit();
+                }
+            }
+
+            @Override
+            public void cleanup() {
+                ProjectMemberDAO.removeMember(projectId, userId);
+                ProjectDAO.deleteProject(projectId);
+            }
+        };
+    }
+
+    private Step leave(boolean unitOfWork) {
+        return new Step() {
+            int projectId;
+            int userId;
+
+            @Override
+            public void setup() {
+                do {
+                    projectId = 1 + random.nextInt(projectCount);
+                    userId = 1 + random.nextInt(userCount);
+                } while (ProjectMemberDAO.isMember(projectId, userId));
+                ProjectMemberDAO.addMember(new ProjectMember(projectId, userId, "Member"));
+            }
+
+            @Override
+            public void run() throws SQLException {
+                if (!unitOfWork) {
+                    if (!"Owner".equals(ProjectMemberDAO.getUserRole(projectId, userId))) {
+                        ProjectMemberDAO.removeMember(projectId, userId);
+                    }
+                    return;
+                }
+                try (UnitOfWork unit = UnitOfWork.begin()) {
+                    if (!"Owner".equals(ProjectMemberDAO.getUserRole(projectId, userId))
+                            && ProjectMemberDAO.removeMember(projectId, userId)) {
+                        unit.commit();
+                    }
+                }
+            }
+
+            @Override
+            public void cleanup() {
+            }
+        };
+    }
+
+    private Step invite(boolean batched) {
+        return new Step() {
+            int projectId;
+            final List<Integer> userIds = new ArrayList<>();
+
+            @Override
+            public void setup() {
+                projectId = 1 + random.nextInt(projectCount);
+                Set<Integer> picked = new LinkedHashSet<>();
+                while (picked.size() < INVITE_SIZE) {
+                    int userId = 1 + random.nextInt(userCount);
+                    if (!ProjectMemberDAO.isMember(projectId, userId)) picked.add(userId);
+                }
+                userIds.clear();
+                userIds.addAll(picked);
+            }
+
+            @Override
+            public void run() {
+                if (batched) {
+                    ProjectMemberDAO.addMembers(projectId, userIds, "Member");
+                    return;
+                }
+                for (int userId : userIds) {
+                    ProjectMemberDAO.addMember(new ProjectMember(projectId, userId, "Member"));
+                }
+            }
+
+            @Override
+            public void cleanup() {
+                for (int userId : userIds) ProjectMemberDAO.removeMember(projectId, userId);
+            }
+        };
+    }
+}
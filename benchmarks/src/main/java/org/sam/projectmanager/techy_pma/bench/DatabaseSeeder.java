@@ -0,0 +1,270 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Fills {@code users}, {@code projects} and {@code project_members} with a realistic, skewed dataset.
+ *
+ * <ul>
+ *   <li>Project sizes follow a Zipf distribution: a few huge projects, a long tail of tiny ones</li>
+ *   <li>User activity is skewed too: some users create and join many projects, most only a few</li>
+ *   <li>Every project has its creator as Owner; about 5% of other memberships are Admin</li>
+ * </ul>
+ *
+ * <p>Rows are inserted with JDBC batches inside a single transaction, in primary-key order,
+ * with SQLite's durability relaxed and the secondary indexes dropped for the duration of
+ * the load. The same seed always produces the same database.</p>
+ *
+ * <p>Command line (all options optional):</p>
+ * <pre>
+ * java -cp target/benchmarks.jar org.sam.projectmanager.techy_pma.bench.DatabaseSeeder \
+ *      --db target/loadtest.db --users 100000 --projects 200000 --memberships 1000000 \
+ *      --project-skew 1.1 --user-skew 0.8 --seed 42
+ * </pre>
+ */
+public class DatabaseSeeder {
+
+    /** Names are built from these words so searches hit a predictable fraction of projects */
+    public static final String[] NAME_WORDS = {
+            "alpha", "beta", "gamma", "delta", "apollo", "atlas", "nova", "orion",
+            "phoenix", "titan", "zephyr", "vega", "lyra", "draco", "hydra", "cygnus"
+    };
+
+    public static final String[] STATUSES = {"not started", "in progress", "completed", "published"};
+
+    private static final DateTimeFormatter SQLITE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private static final int HISTORY_MINUTES = 3 * 365 * 24 * 60;   // Creation dates spread over ~3 years
+    private static final int BATCH_SIZE = 50_000;
+    private static final int MAX_DRAW_ROUNDS = 20;
+
+    /**
+     * Size and shape of a generated dataset.
+     *
+     * @param users       Number of users
+     * @param projects    Number of projects
+     * @param memberships Target number of project_members rows, owners included; with very
+     *                    strong skew there may be fewer distinct pairs, and the result is lower
+     * @param projectSkew Zipf exponent for project sizes
+     * @param userSkew    Zipf exponent for user activity
+     * @param seed        Random seed
+     */
+    public record Config(int users, int projects, int memberships,
+                         double projectSkew, double userSkew, long seed) {
+    }
+
+    /** Row counts actually written */
+    public record Result(int users, int projects, int memberships, long millis) {
+        @Override
+        public String toString() {
+            return String.format("%,d users, %,d projects, %,d memberships in %,d ms", users, projects, memberships, millis);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = CommandLine.parse(args);
+        Path db = Path.of(options.getOrDefault("db", "target/loadtest.db"));
+        Config config = new Config(
+                Integer.parseInt(options.getOrDefault("users", "100000")),
+                Integer.parseInt(options.getOrDefault("projects", "200000")),
+                Integer.parseInt(options.getOrDefault("memberships", "1000000")),
+                Double.parseDouble(options.getOrDefault("project-skew", "1.1")),
+                Double.parseDouble(options.getOrDefault("user-skew", "0.8")),
+                Long.parseLong(options.getOrDefault("seed", "42"))
+        );
+
+        if (Files.exists(db)) throw new IllegalArgumentException(db + " already exists; seed into a new file");
+        if (db.getParent() != null) Files.createDirectories(db.getParent());
+
+        System.out.println("Seeding " + db + " with " + config);
+        System.out.println("✓ " + seed("jdbc:sqlite:" + db, config));
+    }
+
+    /**
+     * Creates the schema through {@link DatabaseManager} and loads a generated dataset.
+     * The target database is expected to be empty.
+     *
+     * @param url    JDBC URL of the database to fill
+     * @param config Dataset size and shape
+     * @return The number of rows written and the time taken
+     */
+    public static Result seed(String url, Config config) throws SQLException {
+        long start = System.nanoTime();
+
+        DatabaseManager.setDatabaseUrl(url);
+        DatabaseManager.initializeDatabase();
+        DatabaseManager.closeConnection();
+
+        Random random = new Random(config.seed());
+
+        // Ranks are mapped through a shuffle so the "huge" projects and "heavy" users are not simply the lowest IDs
+        int[] projectByRank = shuffledIds(config.projects(), random);
+        int[] userByRank = shuffledIds(config.users(), random);
+        ZipfSampler projectSampler = new ZipfSampler(config.projects(), config.projectSkew(), random);
+        ZipfSampler userSampler = new ZipfSampler(config.users(), config.userSkew(), random);
+
+        int minutesPerProject = Math.max(1, HISTORY_MINUTES / config.projects());
+        int memberships = 0;
+        List<String> secondaryIndexes = new ArrayList<>();
+
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement pragma = conn.createStatement()) {
+                // Bulk load: a failed seed is simply re-run, so durability is not needed here
+                pragma.execute("PRAGMA synchronous = OFF");
+                pragma.execute("PRAGMA journal_mode = MEMORY");
+                pragma.execute("PRAGMA cache_size = -262144");
+
+                // Secondary indexes are cheaper to build once, sorted, than to maintain row by row
+                try (ResultSet indexes = pragma.executeQuery(
+                        "SELECT name FROM sqlite_master WHERE type = 'index' AND name LIKE 'idx_%'")) {
+                    while (indexes.next()) secondaryIndexes.add(indexes.getString(1));
+                }
+                for (String index : secondaryIndexes) pragma.execute("DROP INDEX " + index);
+            }
+            conn.setAutoCommit(false);
+
+            // ─── USERS ───
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO users (user_id, username, email, password, created_at) VALUES (?, ?, ?, ?, ?)")) {
+                for (int id = 1; id <= config.users(); id++) {
+                    stmt.setInt(1, id);
+                    stmt.setString(2, "user" + id);
+                    stmt.setString(3, "user" + id + "@bench.local");
+                    stmt.setString(4, "$2a$10$seededseededseededseededseededseededseededseededsee");
+                    stmt.setString(5, timestamp(0));
+                    stmt.addBatch();
+                    if (id % BATCH_SIZE == 0) stmt.executeBatch();
+                }
+                stmt.executeBatch();
+            }
+
+            // ─── PROJECTS ───
+            int[] ownerOf = new int[config.projects() + 1];
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO projects (project_id, project_name, project_description, project_progress,"
+                            + " created_by, created_at, status) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                for (int id = 1; id <= config.projects(); id++) {
+                    ownerOf[id] = userByRank[userSampler.next() - 1];
+
+                    stmt.setInt(1, id);
+                    stmt.setString(2, NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " project " + id);
+                    stmt.setString(3, "Generated project " + id);
+                    stmt.setInt(4, random.nextInt(101));
+                    stmt.setInt(5, ownerOf[id]);
+                    stmt.setString(6, timestamp(id * minutesPerProject));
+                    stmt.setString(7, STATUSES[random.nextInt(STATUSES.length)]);
+                    stmt.addBatch();
+                    if (id % BATCH_SIZE == 0) stmt.executeBatch();
+                }
+                stmt.executeBatch();
+            }
+
+            // ─── MEMBERSHIPS ───
+            long[] pairs = drawMemberships(config, ownerOf, projectByRank, userByRank, projectSampler, userSampler);
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO project_members (project_id, user_id, role, joined_at) VALUES (?, ?, ?, ?)")) {
+                for (long pair : pairs) {
+                    int projectId = (int) (pair >>> 32);
+                    int userId = (int) pair;
+                    int createdAt = projectId * minutesPerProject;
+
+                    stmt.setInt(1, projectId);
+                    stmt.setInt(2, userId);
+                    if (ownerOf[projectId] == userId) {
+                        stmt.setString(3, "Owner");
+                        stmt.setString(4, timestamp(createdAt));
+                    } else {
+                        stmt.setString(3, random.nextInt(20) == 0 ? "Admin" : "Member");
+                        stmt.setString(4, timestamp(createdAt + 1 + random.nextInt(HISTORY_MINUTES / 3)));
+                    }
+                    stmt.addBatch();
+                    if (++memberships % BATCH_SIZE == 0) stmt.executeBatch();
+                }
+                stmt.executeBatch();
+            }
+
+            conn.commit();
+        }
+
+        // Re-running the schema setup recreates the dropped indexes
+        DatabaseManager.initializeDatabase();
+        DatabaseManager.closeConnection();
+
+        return new Result(config.users(), config.projects(), memberships, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Draws distinct (project, user) pairs: one Owner pair per project, then skewed extra
+     * pairs until the target is reached or the skew leaves too few distinct pairs.
+     *
+     * <p>Pairs are packed as {@code projectId << 32 | userId} and returned sorted, so the
+     * inserts walk the UNIQUE(project_id, user_id) index in order instead of splitting
+     * random B-tree pages, which is most of the cost of a million-row load.</p>
+     */
+    private static long[] drawMemberships(Config config, int[] ownerOf, int[] projectByRank, int[] userByRank,
+                                          ZipfSampler projectSampler, ZipfSampler userSampler) {
+        int target = Math.max(config.memberships(), config.projects());
+        long[] pairs = new long[target];
+        for (int id = 1; id <= config.projects(); id++) {
+            pairs[id - 1] = pack(id, ownerOf[id]);
+        }
+
+        int distinct = config.projects();
+        for (int attempt = 0; attempt < MAX_DRAW_ROUNDS && distinct < target; attempt++) {
+            for (int i = distinct; i < target; i++) {
+                pairs[i] = pack(projectByRank[projectSampler.next() - 1], userByRank[userSampler.next() - 1]);
+            }
+            Arrays.sort(pairs);
+            distinct = dedupeSorted(pairs);
+        }
+        return Arrays.copyOf(pairs, distinct);
+    }
+
+    private static long pack(int projectId, int userId) {
+        return (long) projectId << 32 | userId;
+    }
+
+    /** Moves the distinct values of a sorted array to its front and returns how many there are */
+    private static int dedupeSorted(long[] sorted) {
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) sorted[distinct++] = sorted[i];
+        }
+        return distinct;
+    }
+
+    /** @return IDs 1..n in a random order (Fisher–Yates) */
+    private static int[] shuffledIds(int n, Random random) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) ids[i] = i + 1;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+        return ids;
+    }
+
+    /** Minutes after the dataset epoch, in the text format SQLite's CURRENT_TIMESTAMP uses */
+    private static String timestamp(int minutes) {
+        return EPOCH.plusMinutes(minutes).format(SQLITE_TIMESTAMP);
+    }
+}
@@ -0,0 +1,60 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shared JMH state: points {@link DatabaseManager} at a fresh copy of a seeded
+ * dataset for each trial and hands out random IDs that exist in it.
+ *
+ * <p>Every benchmark method takes this state, even when it does not need an ID,
+ * so that the trial setup runs and the {@code rows} parameter applies.</p>
+ */
+@State(Scope.Benchmark)
+public class DatasetState {
+
+    /** Dataset size in projects, see {@link BenchmarkDataset} */
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    public int userCount;
+    public int projectCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Path work = BenchmarkDataset.prepareWorkingCopy(rows);
+        DatabaseManager.setDatabaseUrl("jdbc:sqlite:" + work);
+
+        userCount = BenchmarkDataset.userCount(rows);
+        projectCount = rows;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseManager.closeConnection();
+    }
+
+    public int randomUserId() {
+        return 1 + ThreadLocalRandom.current().nextInt(userCount);
+    }
+
+    public int randomProjectId() {
+        return 1 + ThreadLocalRandom.current().nextInt(projectCount);
+    }
+
+    public String randomStatus() {
+        return DatabaseSeeder.STATUSES[ThreadLocalRandom.current().nextInt(DatabaseSeeder.STATUSES.length)];
+    }
+
+    public String randomNameWord() {
+        return DatabaseSeeder.NAME_WORDS[ThreadLocalRandom.current().nextInt(DatabaseSeeder.NAME_WORDS.length)];
+    }
+}
@@ -0,0 +1,65 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sam.projectmanager.techy_pma.logging.Level;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caller-side cost of the DAO log statements.
+ *
+ * <p>Run with {@code -prof gc}: the disabled-DEBUG cases should report 0 B/op.
+ * {@code infoEnabled} measures the enqueue into the async appender; at this rate
+ * the ring fills and most events are dropped, so it is an upper bound on caller
+ * cost rather than a throughput figure for the file writer.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final Logger LOG = Log.getLogger(LoggingBenchmark.class);
+
+    private int projectId = 42;
+    private int count = 17;
+    private String status = "in progress";
+
+    @Setup
+    public void setUp() {
+        Log.setLevel(Level.INFO);
+    }
+
+    @Benchmark
+    public void debugDisabledPrimitives() {
+        LOG.debug("Retrieved {} projects for user {}", count, projectId);
+    }
+
+    @Benchmark
+    public void debugDisabledObject() {
+        LOG.debug("Retrieved {} projects with status '{}'", count, status);
+    }
+
+    @Benchmark
+    public void debugDisabledSupplier() {
+        LOG.debug(() -> "Retrieved " + count + " projects with status '" + status + "'");
+    }
+
+    @Benchmark
+    public void infoEnabled() {
+        LOG.info("Project {} progress updated to {}%", projectId, count);
+    }
+}
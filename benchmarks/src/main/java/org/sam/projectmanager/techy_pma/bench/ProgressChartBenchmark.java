@@ -0,0 +1,153 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.ProgressHistoryDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectActivityDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectDAO;
+import org.sam.projectmanager.techy_pma.models.ProgressBucket;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Cost of the progress chart on a project with a long, dense history, read from the
+ * rollups as the details screen does, against aggregating the raw samples on every view;
+ * and what keeping the rollups current adds to a progress update.
+ *
+ * <p>The history is {@code --years} of one change every {@code --interval-minutes}, inserted
+ * into progress_history with past timestamps, so the rollup trigger builds the buckets as it
+ * would have over those years. The update cost is {@code ProjectDAO.updateProgress} with the
+ * triggers in place against the same call after they are dropped from the working copy.</p>
+ * <pre>
+ * java -cp target/benchmarks.jar org.sam.projectmanager.techy_pma.bench.ProgressChartBenchmark \
+ *      [--rows 10000] [--years 5] [--interval-minutes 60] [--repeat 200]
+ * </pre>
+ */
+public class ProgressChartBenchmark {
+
+    // What the details screen reads for each granularity: the latest N buckets
+    private static final Map<ProgressBucket.Granularity, Integer> CHART_POINTS = Map.of(
+            ProgressBucket.Granularity.DAY, 92,
+            ProgressBucket.Granularity.WEEK, 157,
+            ProgressBucket.Granularity.MONTH, 600);
+
+    // The same buckets computed from the raw samples; last value by the max(ts) bare-column rule
+    static final Map<ProgressBucket.Granularity, String> RAW_BUCKET = Map.of(
+            ProgressBucket.Granularity.DAY, "ts - ts % 86400",
+            ProgressBucket.Granularity.WEEK, "ts - (ts - 345600) % 604800",
+            ProgressBucket.Granularity.MONTH, "CAST(strftime('%s', ts, 'unixepoch', 'start of month') AS INTEGER)");
+
+    private static final String RAW_SQL = """
+            SELECT bucket, COUNT(*), MIN(progress), MAX(progress), AVG(progress), progress, MAX(ts) FROM (
+                SELECT %s AS bucket, ts, progress FROM progress_history WHERE project_id = ?
+            ) GROUP BY bucket ORDER BY bucket DESC LIMIT ?
+            """;
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = CommandLine.parse(args);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "10000"));
+        int years = Integer.parseInt(options.getOrDefault("years", "5"));
+        int intervalMinutes = Integer.parseInt(options.getOrDefault("interval-minutes", "60"));
+        int repeat = Integer.parseInt(options.getOrDefault("repeat", "200"));
+
+        DatabaseManager.setDatabaseUrl("jdbc:sqlite:" + BenchmarkDataset.prepareWorkingCopy(rows));
+        DatabaseManager.initializeDatabase();
+        // Only the history's own cost is measured; the activity log has ActivityLogOverhead
+        ProjectActivityDAO.setEnabled(false);
+
+        int projectId = 1;
+        long start = System.nanoTime();
+        int samples = seedHistory(projectId, years, intervalMinutes);
+        System.out.printf("Seeded %,d samples over %d years in %,.1f s (%,.1f us per sample incl. rollups)%n%n",
+                samples, years, (System.nanoTime() - start) / 1e9, (System.nanoTime() - start) / 1e3 / samples);
+
+        System.out.printf("%-8s %8s %16s %16s%n", "CHART", "points", "rollups p50 ms", "raw p50 ms");
+        for (ProgressBucket.Granularity granularity : ProgressBucket.Granularity.values()) {
+            int limit = CHART_POINTS.get(granularity);
+            int points = ProgressHistoryDAO.getBuckets(projectId, granularity, limit).size();
+            double rollup = median(repeat, () -> ProgressHistoryDAO.getBuckets(projectId, granularity, limit));
+            double raw = median(Math.max(repeat / 20, 5), () -> rawBuckets(projectId, granularity, limit));
+            System.out.printf("%-8s %8d %16.3f %16.3f%n", granularity, points, rollup, raw);
+        }
+
+        Random random = new Random(3);
+        int projects = rows;
+        double withTriggers = median(repeat, () -> ProjectDAO.updateProgress(1 + random.nextInt(projects), random.nextInt(101)));
+        dropTriggers();
+        double withoutTriggers = median(repeat, () -> ProjectDAO.updateProgress(1 + random.nextInt(projects), random.nextInt(101)));
+        System.out.printf("%nupdateProgress p50: %.3f ms with history and rollups, %.3f ms without%n", withTriggers, withoutTriggers);
+    }
+
+    /** @return Number of samples inserted */
+    private static int seedHistory(int projectId, int years, int intervalMinutes) throws SQLException {
+        long end = LocalDateTime.now(ZoneOffset.UTC).toEpochSecond(ZoneOffset.UTC);
+        long first = end - years * 365L * 86400;
+        Random random = new Random(42);
+        int progress = 0;
+        int samples = 0;
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "INSERT INTO progress_history (project_id, ts, progress) VALUES (?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (long ts = first; ts < end; ts += intervalMinutes * 60L) {
+                // A random walk that drifts upwards, with the occasional setback
+                progress = Math.clamp(progress + random.nextInt(5) - 1, 0, 100);
+                stmt.setInt(1, projectId);
+                stmt.setLong(2, ts);
+                stmt.setInt(3, progress);
+                stmt.addBatch();
+                if (++samples % 10_000 == 0) stmt.executeBatch();
+            }
+            stmt.executeBatch();
+            conn.commit();
+            conn.setAutoCommit(true);
+        }
+        return samples;
+    }
+
+    private static void rawBuckets(int projectId, ProgressBucket.Granularity granularity, int limit) {
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(RAW_SQL.formatted(RAW_BUCKET.get(granularity)))) {
+            stmt.setInt(1, projectId);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rs.getInt(6);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void dropTriggers() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TRIGGER projects_progress_update");
+            stmt.execute("DROP TRIGGER progress_history_rollup");
+        }
+    }
+
+    /** @return Median milliseconds of {@code runs} calls, after a few unmeasured ones */
+    private static double median(int runs, Runnable query) {
+        for (int i = 0; i < 3; i++) query.run();
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            query.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[runs / 2] / 1e6;
+    }
+}
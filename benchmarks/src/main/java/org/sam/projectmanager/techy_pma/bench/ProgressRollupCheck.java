@@ -0,0 +1,139 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.ProjectActivityDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectDAO;
+import org.sam.projectmanager.techy_pma.database.TaskDAO;
+import org.sam.projectmanager.techy_pma.models.ProgressBucket;
+import org.sam.projectmanager.techy_pma.models.Task;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that every progress rollup agrees with the samples in progress_history when a
+ * project changes several times within one second, the resolution of the history's clock.
+ * Exits with status 1 on any mismatch, so it can gate a CI build like {@link QueryPlanCheck}.
+ *
+ * <p>Three cases, each followed by a comparison of every rollup row (samples, min, max, sum,
+ * last value) with the same aggregate over the raw samples:</p>
+ * <ul>
+ *   <li>{@code ProjectDAO.updateProgress} to 10, then to 90, back to back</li>
+ *   <li>Two tasks of one project ticked done back to back, each re-deriving its progress</li>
+ *   <li>The startup backfill of a database without history, right after such changes, when
+ *       the activity log and the current progress give samples in the same second</li>
+ * </ul>
+ * <pre>
+ * java -cp target/benchmarks.jar org.sam.projectmanager.techy_pma.bench.ProgressRollupCheck [--rows 1000]
+ * </pre>
+ */
+public class ProgressRollupCheck {
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = CommandLine.parse(args);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "1000"));
+
+        DatabaseManager.setDatabaseUrl("jdbc:sqlite:" + BenchmarkDataset.prepareWorkingCopy(rows));
+        DatabaseManager.initializeDatabase();
+
+        List<String> mismatches = new ArrayList<>();
+
+        inOneSecond(() -> {
+            ProjectDAO.updateProgress(1, 10);
+            ProjectDAO.updateProgress(1, 90);
+        });
+        mismatches.addAll(compare("updateProgress twice"));
+
+        Task first = new Task(2, "Rollup check task 1", null, 1);
+        Task second = new Task(2, "Rollup check task 2", null, 1);
+        TaskDAO.insertTask(first);
+        TaskDAO.insertTask(second);
+        inOneSecond(() -> {
+            TaskDAO.updateStatus(first.getTaskId(), "done");
+            TaskDAO.updateStatus(second.getTaskId(), "done");
+        });
+        mismatches.addAll(compare("two tasks done"));
+
+        inOneSecond(() -> ProjectDAO.updateProgress(3, 40));
+        ProjectActivityDAO.flush();
+        dropHistory();
+        DatabaseManager.initializeDatabase();
+        mismatches.addAll(compare("startup backfill"));
+
+        mismatches.forEach(m -> System.out.println("MISMATCH: " + m));
+        System.out.println(mismatches.isEmpty() ? "Rollups match the history" : mismatches.size() + " mismatch(es)");
+        System.exit(mismatches.isEmpty() ? 0 : 1);
+    }
+
+    /** Runs {@code changes} again until they all fall within one wall-clock second */
+    private static void inOneSecond(Runnable changes) {
+        while (true) {
+            long second = System.currentTimeMillis() / 1000;
+            changes.run();
+            if (System.currentTimeMillis() / 1000 == second) return;
+        }
+    }
+
+    /** @return One line per rollup row that differs from its bucket's raw samples, or raw bucket it lacks */
+    private static List<String> compare(String label) throws SQLException {
+        List<String> mismatches = new ArrayList<>();
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (ProgressBucket.Granularity granularity : ProgressBucket.Granularity.values()) {
+                String raw = """
+                        SELECT project_id, bucket, COUNT(*) AS samples, MIN(progress) AS min_progress,
+                               MAX(progress) AS max_progress, SUM(progress) AS sum_progress
+                        FROM (SELECT project_id, %s AS bucket, progress FROM progress_history)
+                        GROUP BY project_id, bucket
+                        """.formatted(ProgressChartBenchmark.RAW_BUCKET.get(granularity));
+                try (ResultSet rs = stmt.executeQuery("""
+                        SELECT a.project_id, a.bucket, r.samples, a.samples, r.min_progress, a.min_progress,
+                               r.max_progress, a.max_progress, r.sum_progress, a.sum_progress, r.last_progress,
+                               (SELECT h.progress FROM progress_history h WHERE h.project_id = r.project_id
+                                AND h.ts = r.last_ts ORDER BY h.id DESC LIMIT 1)
+                        FROM (%s) a
+                        LEFT JOIN progress_rollup r ON r.project_id = a.project_id
+                            AND r.granularity = '%s' AND r.bucket_start = a.bucket
+                        """.formatted(raw, granularity.dbValue()))) {
+                    while (rs.next()) {
+                        if (rs.getObject(3) == null
+                                || rs.getInt(3) != rs.getInt(4) || rs.getInt(5) != rs.getInt(6)
+                                || rs.getInt(7) != rs.getInt(8) || rs.getLong(9) != rs.getLong(10)
+                                || rs.getInt(11) != rs.getInt(12)) {
+                            mismatches.add(String.format("%s: project %d %s %d: rollup samples=%s min=%s max=%s sum=%s last=%s,"
+                                            + " history samples=%d min=%d max=%d sum=%d last=%s",
+                                    label, rs.getInt(1), granularity.dbValue(), rs.getLong(2),
+                                    rs.getObject(3), rs.getObject(5), rs.getObject(7), rs.getObject(9), rs.getObject(11),
+                                    rs.getInt(4), rs.getInt(6), rs.getInt(8), rs.getLong(10), rs.getObject(12)));
+                        }
+                    }
+                }
+                try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM progress_rollup WHERE granularity = '"
+                        + granularity.dbValue() + "' AND NOT EXISTS (SELECT 1 FROM progress_history h"
+                        + " WHERE h.project_id = progress_rollup.project_id AND h.ts >= bucket_start AND h.ts <= last_ts)")) {
+                    if (rs.next() && rs.getInt(1) > 0) {
+                        mismatches.add(label + ": " + rs.getInt(1) + " " + granularity.dbValue() + " rollup rows without samples");
+                    }
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    /** Leaves the working copy as it was before progress history existed, so startup backfills it */
+    private static void dropHistory() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TRIGGER projects_progress_insert");
+            stmt.execute("DROP TRIGGER projects_progress_update");
+            stmt.execute("DROP TABLE progress_history");
+            stmt.execute("DROP TABLE progress_rollup");
+        }
+    }
+}
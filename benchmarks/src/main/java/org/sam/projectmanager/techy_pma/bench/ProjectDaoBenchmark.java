@@ -0,0 +1,99 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sam.projectmanager.techy_pma.database.ProjectDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectQuery;
+import org.sam.projectmanager.techy_pma.models.Project;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for every {@link ProjectDAO} method.
+ * Writes are paired with their inverse so the dataset keeps its size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectDaoBenchmark {
+
+    // ─── POINT LOOKUPS ───
+
+    @Benchmark
+    public Project getProjectById(DatasetState data) {
+        return ProjectDAO.getProjectById(data.randomProjectId());
+    }
+
+    // ─── LIST QUERIES ───
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Project> getAllProjects(DatasetState data) {
+        return ProjectDAO.getAllProjects();
+    }
+
+    @Benchmark
+    public List<Project> getProjectsCreatedByUser(DatasetState data) {
+        return ProjectDAO.getProjectsCreatedByUser(data.randomUserId());
+    }
+
+    @Benchmark
+    public List<Project> getProjectsByUser(DatasetState data) {
+        return ProjectDAO.getProjectsByUser(data.randomUserId());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Project> getProjectsByStatus(DatasetState data) {
+        return ProjectDAO.getProjectsByStatus(data.randomStatus());
+    }
+
+    // ─── SEARCH ───
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Project> searchProjectsByName(DatasetState data) {
+        return ProjectDAO.searchProjectsByName(data.randomNameWord());
+    }
+
+    @Benchmark
+    public List<Project> findProjectsFirstPage(DatasetState data) {
+        return ProjectDAO.findProjects(new ProjectQuery()
+                .nameContains(data.randomNameWord())
+                .statusIn(List.of(data.randomStatus()))
+                .limit(50));
+    }
+
+    // ─── WRITES ───
+
+    @Benchmark
+    public boolean updateProject(DatasetState data) {
+        Project project = ProjectDAO.getProjectById(data.randomProjectId());
+        return ProjectDAO.updateProject(project);
+    }
+
+    @Benchmark
+    public boolean updateProgress(DatasetState data) {
+        return ProjectDAO.updateProgress(data.randomProjectId(), ThreadLocalRandom.current().nextInt(101));
+    }
+
+    @Benchmark
+    public boolean updateStatus(DatasetState data) {
+        return ProjectDAO.updateStatus(data.randomProjectId(), data.randomStatus());
+    }
+
+    @Benchmark
+    public boolean insertAndDeleteProject(DatasetState data) {
+        int projectId = ProjectDAO.insertProject(new Project("bench insert", "", data.randomUserId()));
+        return ProjectDAO.deleteProject(projectId);
+    }
+}
@@ -0,0 +1,122 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sam.projectmanager.techy_pma.database.ProjectMemberDAO;
+import org.sam.projectmanager.techy_pma.models.MemberProfile;
+import org.sam.projectmanager.techy_pma.models.ProjectMember;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for every {@link ProjectMemberDAO} method.
+ * Writes are paired with their inverse so the dataset keeps its size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectMemberDaoBenchmark {
+
+    // ─── MEMBERSHIP CHECKS ───
+
+    @Benchmark
+    public boolean isMember(DatasetState data) {
+        return ProjectMemberDAO.isMember(data.randomProjectId(), data.randomUserId());
+    }
+
+    @Benchmark
+    public String getUserRole(DatasetState data) {
+        return ProjectMemberDAO.getUserRole(data.randomProjectId(), data.randomUserId());
+    }
+
+    @Benchmark
+    public int getMemberCount(DatasetState data) {
+        return ProjectMemberDAO.getMemberCount(data.randomProjectId());
+    }
+
+    @Benchmark
+    public int getMemberCountByRole(DatasetState data) {
+        return ProjectMemberDAO.getMemberCount(data.randomProjectId(), "Member");
+    }
+
+    // ─── LIST QUERIES ───
+
+    @Benchmark
+    public List<ProjectMember> getMembersByProject(DatasetState data) {
+        return ProjectMemberDAO.getMembersByProject(data.randomProjectId());
+    }
+
+    @Benchmark
+    public List<ProjectMember> getProjectsByUser(DatasetState data) {
+        return ProjectMemberDAO.getProjectsByUser(data.randomUserId());
+    }
+
+    @Benchmark
+    public List<MemberProfile> getMemberPage(DatasetState data) {
+        return ProjectMemberDAO.getMemberPage(data.randomProjectId(), null, null, 50);
+    }
+
+    // ─── WRITES ───
+
+    @Benchmark
+    public boolean updateRole(DatasetState data) {
+        int projectId = data.randomProjectId();
+        List<ProjectMember> members = ProjectMemberDAO.getMembersByProject(projectId);
+        ProjectMember member = members.get(members.size() - 1);
+        return ProjectMemberDAO.updateRole(projectId, member.getUserId(), member.getRole());
+    }
+
+    @Benchmark
+    public boolean addAndRemoveMember(DatasetState data) {
+        int projectId = data.randomProjectId();
+        int userId = data.randomUserId();
+        if (ProjectMemberDAO.isMember(projectId, userId)) return false;
+
+        ProjectMemberDAO.addMember(new ProjectMember(projectId, userId, "Member"));
+        return ProjectMemberDAO.removeMember(projectId, userId);
+    }
+
+    // ─── BULK INVITES ───
+    // Both add the same number of users and remove them one by one, so the difference is the add
+
+    private static final int INVITE_BATCH = 20;
+
+    @Benchmark
+    public int inviteOneByOne(DatasetState data) {
+        int projectId = data.randomProjectId();
+        List<Integer> added = new ArrayList<>();
+        for (int userId : inviteCandidates(data)) {
+            if (ProjectMemberDAO.addMember(new ProjectMember(projectId, userId, "Member")) > 0) added.add(userId);
+        }
+        return removeAll(projectId, added);
+    }
+
+    @Benchmark
+    public int inviteBatch(DatasetState data) {
+        int projectId = data.randomProjectId();
+        List<Integer> added = ProjectMemberDAO.addMembers(projectId, inviteCandidates(data), "Member");
+        return removeAll(projectId, added);
+    }
+
+    private static Set<Integer> inviteCandidates(DatasetState data) {
+        Set<Integer> userIds = new LinkedHashSet<>();
+        while (userIds.size() < INVITE_BATCH) userIds.add(data.randomUserId());
+        return userIds;
+    }
+
+    private static int removeAll(int projectId, List<Integer> userIds) {
+        for (int userId : userIds) ProjectMemberDAO.removeMember(projectId, userId);
+        return userIds.size();
+    }
+}
@@ -0,0 +1,342 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.ProgressHistoryDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectActivityDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectMemberDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectQuery;
+import org.sam.projectmanager.techy_pma.database.TaskDAO;
+import org.sam.projectmanager.techy_pma.database.UserDAO;
+import org.sam.projectmanager.techy_pma.database.archive.ProjectArchiver;
+import org.sam.projectmanager.techy_pma.database.profiling.QueryProfiler;
+import org.sam.projectmanager.techy_pma.database.profiling.StatementStats;
+import org.sam.projectmanager.techy_pma.models.MemberProfile;
+import org.sam.projectmanager.techy_pma.models.ProgressBucket;
+import org.sam.projectmanager.techy_pma.models.Project;
+import org.sam.projectmanager.techy_pma.models.ProjectActivity;
+import org.sam.projectmanager.techy_pma.models.ProjectMember;
+import org.sam.projectmanager.techy_pma.models.Task;
+import org.sam.projectmanager.techy_pma.models.User;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Runs {@code EXPLAIN QUERY PLAN} for every statement the DAOs issue and fails on plans
+ * that will not scale. Exits with status 1 on any violation, so it can gate a CI build.
+ *
+ * <p>Every public method of {@link UserDAO}, {@link ProjectDAO}, {@link ProjectMemberDAO},
+ * {@link ProjectActivityDAO}, {@link ProgressHistoryDAO} and {@link TaskDAO}, and
+ * {@link ProjectArchiver#archive(int)}, is called against a seeded copy of the schema (every
+ * {@link ProjectQuery} shape for {@code findProjects}), and the statements it prepared are captured through
+ * {@link QueryProfiler}. Each plan is then checked for:</p>
+ * <ul>
+ *   <li>{@code SCAN <table>} — a full pass over a table or index; every table in the app grows with use</li>
+ *   <li>{@code USE TEMP B-TREE FOR ORDER BY} — a sort of the whole result before the first row comes back</li>
+ * </ul>
+ *
+ * <p>Intentional cases go in {@code query-plan-allowlist.properties} next to this class
+ * (or {@code --allowlist <file>}): the key is the DAO method, the value a {@code ;}-separated
+ * list of plan lines, or parts of them, that method may produce. An entry of the form
+ * {@code <plan line> @ <sql fragment>} only applies to that method's statements containing the fragment.</p>
+ * <pre>
+ * java -cp target/benchmarks.jar org.sam.projectmanager.techy_pma.bench.QueryPlanCheck [--rows 10000] [--allowlist file]
+ * </pre>
+ */
+public class QueryPlanCheck {
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("^SCAN \\w+");
+    private static final Pattern TEMP_SORT = Pattern.compile("USE TEMP B-TREE FOR (RIGHT PART OF |LAST TERM OF )?ORDER BY");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Set<String> EXPLAINABLE = Set.of("SELECT", "INSERT", "UPDATE", "DELETE", "WITH", "REPLACE");
+
+    private final Map<String, List<String>> statementsByMethod = new LinkedHashMap<>();
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = CommandLine.parse(args);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "10000"));
+        Properties allowlist = loadAllowlist(options.get("allowlist"));
+
+        String url = "jdbc:sqlite:" + BenchmarkDataset.prepareWorkingCopy(rows);
+        if (!QueryProfiler.isEnabled()) {
+            throw new IllegalStateException("QueryPlanCheck captures SQL through QueryProfiler; remove -Dtechy.db.profile=false");
+        }
+        DatabaseManager.setDatabaseUrl(url);
+        // Cached templates may predate the latest indexes; bring the copy up to the current schema
+        DatabaseManager.initializeDatabase();
+
+        QueryPlanCheck check = new QueryPlanCheck();
+        check.exerciseDaos(url);
+
+        List<String> violations = check.explainAll(url, allowlist);
+        violations.forEach(v -> System.out.println("VIOLATION: " + v));
+        System.out.println(violations.isEmpty() ? "No query plan violations" : violations.size() + " violation(s)");
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    // ─── CAPTURE ───
+
+    /** Calls one DAO method and records the statements it prepared under its name */
+    private void call(String method, Runnable daoCall) {
+        QueryProfiler.reset();
+        daoCall.run();
+
+        List<String> statements = statementsByMethod.computeIfAbsent(method, m -> new ArrayList<>());
+        for (StatementStats stats : QueryProfiler.getStats()) {
+            if (!statements.contains(stats.getExampleSql())) statements.add(stats.getExampleSql());
+        }
+    }
+
+    private void exerciseDaos(String url) throws SQLException {
+        int userId = BenchmarkDataset.busiest(url, "user_id");
+        int projectId = BenchmarkDataset.busiest(url, "project_id");
+        User user = UserDAO.getUserById(userId);
+
+        // ─── UserDAO ───
+        User scratchUser = new User("plan_check_user", "plan_check@example.com", "not-a-real-hash");
+        call("UserDAO.insertUser", () -> UserDAO.insertUser(scratchUser));
+        call("UserDAO.getUserById", () -> UserDAO.getUserById(userId));
+        call("UserDAO.getUserByUsername", () -> UserDAO.getUserByUsername(user.getUsername()));
+        call("UserDAO.getUserByEmail", () -> UserDAO.getUserByEmail(user.getEmail()));
+        call("UserDAO.getAllUsers", UserDAO::getAllUsers);
+        call("UserDAO.usernameExists", () -> UserDAO.usernameExists(user.getUsername()));
+        call("UserDAO.emailExists", () -> UserDAO.emailExists(user.getEmail()));
+        call("UserDAO.updateUser", () -> UserDAO.updateUser(scratchUser));
+        call("UserDAO.findInvitableUsers", () -> {
+            UserDAO.findInvitableUsers(projectId, "", 100);
+            UserDAO.findInvitableUsers(projectId, user.getUsername().substring(0, 1), 100);
+        });
+
+        // ─── ProjectDAO ───
+        Project scratchProject = new Project("Plan check project", "Created by QueryPlanCheck", scratchUser.getUserId());
+        call("ProjectDAO.insertProject", () -> ProjectDAO.insertProject(scratchProject));
+        call("ProjectDAO.getProjectById", () -> ProjectDAO.getProjectById(projectId));
+        call("ProjectDAO.getAllProjects", ProjectDAO::getAllProjects);
+        call("ProjectDAO.getProjectsCreatedByUser", () -> ProjectDAO.getProjectsCreatedByUser(userId));
+        call("ProjectDAO.getProjectsByUser", () -> ProjectDAO.getProjectsByUser(userId));
+        call("ProjectDAO.getProjectsByStatus", () -> ProjectDAO.getProjectsByStatus(DatabaseSeeder.STATUSES[1]));
+        call("ProjectDAO.searchProjectsByName", () -> ProjectDAO.searchProjectsByName(DatabaseSeeder.NAME_WORDS[0]));
+        for (ProjectQuery query : queryShapes(userId)) {
+            call("ProjectDAO.findProjects", () -> ProjectDAO.findProjects(query));
+        }
+        call("ProjectDAO.updateProject", () -> ProjectDAO.updateProject(scratchProject));
+        call("ProjectDAO.updateProgress", () -> ProjectDAO.updateProgress(scratchProject.getProjectId(), 50));
+        call("ProjectDAO.updateStatus", () -> ProjectDAO.updateStatus(scratchProject.getProjectId(), DatabaseSeeder.STATUSES[2]));
+
+        // ─── ProjectMemberDAO ───
+        call("ProjectMemberDAO.addMember", () -> ProjectMemberDAO.addMember(
+                new ProjectMember(scratchProject.getProjectId(), scratchUser.getUserId(), "Member")));
+        call("ProjectMemberDAO.addMembers", () -> ProjectMemberDAO.addMembers(
+                scratchProject.getProjectId(), List.of(scratchUser.getUserId(), userId), "Member"));
+        call("ProjectMemberDAO.getMembersByProject", () -> ProjectMemberDAO.getMembersByProject(projectId));
+        List<MemberProfile> firstPage = ProjectMemberDAO.getMemberPage(projectId, null, null, 50);
+        call("ProjectMemberDAO.getMemberPage", () -> {
+            ProjectMemberDAO.getMemberPage(projectId, null, null, 50);
+            ProjectMemberDAO.getMemberPage(projectId, "Member", null, 50);
+            if (!firstPage.isEmpty()) {
+                ProjectMember last = firstPage.getLast().getMembership();
+                ProjectMemberDAO.getMemberPage(projectId, null, last, 50);
+                ProjectMemberDAO.getMemberPage(projectId, "Member", last, 50);
+            }
+        });
+        call("ProjectMemberDAO.getProjectsByUser", () -> ProjectMemberDAO.getProjectsByUser(userId));
+        call("ProjectMemberDAO.getUserRole", () -> ProjectMemberDAO.getUserRole(projectId, userId));
+        call("ProjectMemberDAO.isMember", () -> ProjectMemberDAO.isMember(projectId, userId));
+        call("ProjectMemberDAO.getMemberCount", () -> {
+            ProjectMemberDAO.getMemberCount(projectId);
+            ProjectMemberDAO.getMemberCount(projectId, "Member");
+        });
+        call("ProjectMemberDAO.updateRole", () -> ProjectMemberDAO.updateRole(
+                scratchProject.getProjectId(), scratchUser.getUserId(), "Admin"));
+        call("ProjectMemberDAO.removeMember", () -> ProjectMemberDAO.removeMember(
+                scratchProject.getProjectId(), scratchUser.getUserId()));
+        call("ProjectMemberDAO.repairMemberCounts", ProjectMemberDAO::repairMemberCounts);
+
+        // ─── TaskDAO, on the scratch project ───
+        Task scratchTask = new Task(scratchProject.getProjectId(), "Plan check task", userId, 2);
+        call("TaskDAO.insertTask", () -> {
+            TaskDAO.insertTask(scratchTask);
+            TaskDAO.insertTask(new Task(scratchProject.getProjectId(), "Plan check task 2", null, 1));
+        });
+        call("TaskDAO.getTaskPage", () -> {
+            for (String status : new String[]{null, "todo"}) {
+                TaskDAO.getTaskPage(scratchProject.getProjectId(), status, null, 50);
+                TaskDAO.getTaskPage(scratchProject.getProjectId(), status, scratchTask, 50);
+            }
+        });
+        call("TaskDAO.getTotals", () -> TaskDAO.getTotals(scratchProject.getProjectId()));
+        call("TaskDAO.updateStatus", () -> TaskDAO.updateStatus(scratchTask.getTaskId(), "done"));
+        call("TaskDAO.updateTask", () -> TaskDAO.updateTask(scratchTask));
+
+        // ─── Archive: moves the old completed/published projects of the working copy ───
+        call("ProjectArchiver.archive", () -> {
+            try {
+                ProjectArchiver.archive(ProjectArchiver.DEFAULT_AFTER_DAYS);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        call("ProjectMemberDAO.getArchivedMembers", () -> ProjectMemberDAO.getArchivedMembers(projectId));
+        call("TaskDAO.getArchivedTasks", () -> TaskDAO.getArchivedTasks(projectId));
+
+        call("ProgressHistoryDAO.getBuckets", () -> {
+            for (ProgressBucket.Granularity granularity : ProgressBucket.Granularity.values()) {
+                ProgressHistoryDAO.getBuckets(projectId, granularity, 100);
+            }
+        });
+        call("ProgressHistoryDAO.getHistoryStart", () -> ProgressHistoryDAO.getHistoryStart(projectId));
+        call("ProgressHistoryDAO.getArchivedBuckets", () -> {
+            for (ProgressBucket.Granularity granularity : ProgressBucket.Granularity.values()) {
+                ProgressHistoryDAO.getArchivedBuckets(projectId, granularity, 100);
+            }
+        });
+        call("ProgressHistoryDAO.getArchivedHistoryStart", () -> ProgressHistoryDAO.getArchivedHistoryStart(projectId));
+
+        // The writes above were logged in the background; wait so the cursor page has rows to follow
+        ProjectActivityDAO.flush();
+        int activityProject = scratchProject.getProjectId();
+        List<ProjectActivity> timeline = ProjectActivityDAO.getTimelinePage(activityProject, null, 50);
+        call("ProjectActivityDAO.getTimelinePage", () -> {
+            ProjectActivityDAO.getTimelinePage(activityProject, null, 50);
+            if (!timeline.isEmpty()) ProjectActivityDAO.getTimelinePage(activityProject, timeline.getLast(), 50);
+        });
+
+        // ─── Deletes last, on the scratch rows ───
+        call("TaskDAO.deleteTask", () -> TaskDAO.deleteTask(scratchTask.getTaskId()));
+        call("ProjectMemberDAO.deleteOrphans", ProjectMemberDAO::deleteOrphans);
+        call("ProjectDAO.deleteProject", () -> ProjectDAO.deleteProject(scratchProject.getProjectId()));
+        int bulkScratch = ProjectDAO.insertProject(new Project("Plan check bulk delete", "", scratchUser.getUserId()));
+        call("ProjectDAO.deleteProjects", () -> ProjectDAO.deleteProjects(List.of(bulkScratch, scratchProject.getProjectId())));
+        call("UserDAO.deleteUser", () -> UserDAO.deleteUser(scratchUser.getUserId()));
+    }
+
+    /** Every sort order, alone and with each filter, with and without the archive, the way the Browse screen combines them */
+    private static List<ProjectQuery> queryShapes(int userId) {
+        List<ProjectQuery> shapes = new ArrayList<>();
+        for (boolean archive : new boolean[]{false, true}) {
+            for (ProjectQuery.SortKey sort : ProjectQuery.SortKey.values()) {
+                shapes.add(new ProjectQuery().includeArchive(archive).sortBy(sort).limit(50));
+                shapes.add(new ProjectQuery().includeArchive(archive).sortBy(sort).limit(50)
+                        .nameContains(DatabaseSeeder.NAME_WORDS[0]));
+                shapes.add(new ProjectQuery().includeArchive(archive).sortBy(sort).limit(50)
+                        .statusIn(List.of(DatabaseSeeder.STATUSES[1])));
+                shapes.add(new ProjectQuery().includeArchive(archive).sortBy(sort).limit(50)
+                        .statusIn(List.of(DatabaseSeeder.STATUSES[0], DatabaseSeeder.STATUSES[1])));
+                shapes.add(new ProjectQuery().includeArchive(archive).sortBy(sort).limit(50).createdBy(userId));
+                shapes.add(new ProjectQuery().includeArchive(archive).sortBy(sort).limit(50).memberOf(userId));
+            }
+        }
+        return shapes;
+    }
+
+    // ─── EXPLAIN ───
+
+    private List<String> explainAll(String url, Properties allowlist) throws SQLException {
+        List<String> violations = new ArrayList<>();
+
+        // A plain connection, so the EXPLAIN statements themselves are not profiled
+        try (Connection conn = DriverManager.getConnection(url)) {
+            // Archive statements name archive.* tables
+            try (PreparedStatement attach = conn.prepareStatement("ATTACH DATABASE ? AS archive")) {
+                attach.setString(1, DatabaseManager.getArchivePath());
+                attach.execute();
+            }
+            for (Map.Entry<String, List<String>> entry : statementsByMethod.entrySet()) {
+                String method = entry.getKey();
+                List<String[]> allowed = parseAllowed(allowlist.getProperty(method));
+
+                for (String sql : entry.getValue()) {
+                    if (!isExplainable(sql)) continue;
+
+                    List<String> plan = explain(conn, sql);
+                    System.out.printf("%s%n    %s%n", method, oneLine(sql));
+                    for (String line : plan) {
+                        String problem = TABLE_SCAN.matcher(line).find() ? "full scan"
+                                : TEMP_SORT.matcher(line).find() ? "sort without index"
+                                : null;
+                        boolean isAllowed = problem != null && allowed.stream().anyMatch(
+                                allow -> line.contains(allow[0]) && (allow[1] == null || oneLine(sql).contains(allow[1])));
+                        System.out.printf("      %s%s%n", line,
+                                problem == null ? "" : isAllowed ? "   (allowed)" : "   <-- " + problem);
+                        if (problem != null && !isAllowed) {
+                            violations.add(method + ": " + problem + " '" + line + "' in " + oneLine(sql));
+                        }
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    /** @return The plan's detail lines; unbound parameters are explained as NULL */
+    private static List<String> explain(Connection conn, String sql) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            int parameters = stmt.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) stmt.setNull(i, Types.NULL);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) plan.add(rs.getString("detail"));
+            }
+        }
+        return plan;
+    }
+
+    private static boolean isExplainable(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) end++;
+        return EXPLAINABLE.contains(trimmed.substring(0, end).toUpperCase());
+    }
+
+    // ─── HELPERS ───
+
+    private static Properties loadAllowlist(String file) throws IOException {
+        Properties allowlist = new Properties();
+        if (file != null) {
+            try (Reader in = Files.newBufferedReader(Path.of(file))) {
+                allowlist.load(in);
+            }
+        } else {
+            try (InputStream in = QueryPlanCheck.class.getResourceAsStream("query-plan-allowlist.properties")) {
+                if (in != null) allowlist.load(in);
+            }
+        }
+        return allowlist;
+    }
+
+    /** @return {@code {planFragment, sqlFragment}} pairs, the SQL fragment null when the entry has none */
+    private static List<String[]> parseAllowed(String value) {
+        if (value == null || value.isBlank()) return List.of();
+        List<String[]> allowed = new ArrayList<>();
+        for (String part : value.split(";")) {
+            if (part.isBlank()) continue;
+            int at = part.indexOf(" @ ");
+            allowed.add(at < 0
+                    ? new String[]{part.trim(), null}
+                    : new String[]{part.substring(0, at).trim(), part.substring(at + 3).trim()});
+        }
+        return allowed;
+    }
+
+    private static String oneLine(String sql) {
+        return WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+    }
+}
@@ -0,0 +1,173 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import org.sam.projectmanager.techy_pma.Main;
+import org.sam.projectmanager.techy_pma.ui.FrameTimeSampler;
+import org.sam.projectmanager.techy_pma.ui.RenderProfile;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Frame-time comparison of {@link RenderProfile#STANDARD} and {@link RenderProfile#PERFORMANCE}
+ * while scrolling a list of project cards.
+ *
+ * <p>Builds the cards with the same structure and style classes as the Browse screen,
+ * then for each profile scrolls top to bottom and back, recording every pulse with a
+ * {@link FrameTimeSampler}. One summary line is printed per profile, e.g.</p>
+ *
+ * <pre>
+ * STANDARD     frames=598 p50=16.67ms p95=18.10ms p99=33.40ms max=50.02ms over16.7ms=41
+ * PERFORMANCE  frames=600 p50=16.66ms p95=16.90ms p99=17.30ms max=18.95ms over16.7ms=3
+ * </pre>
+ *
+ * <p>Arguments: {@code [cardCount] [scrollSeconds]}, default 1000 cards and 5 seconds per direction.</p>
+ */
+public class RenderBenchmark {
+
+    public static void main(String[] args) {
+        // Launched through a nested class so JavaFX can start from the classpath
+        Application.launch(App.class, args);
+    }
+
+    /** The benchmark window; runs each profile in turn, then exits */
+    public static class App extends Application {
+
+        private ScrollPane scrollPane;
+        private int scrollSeconds;
+        private final Queue<RenderProfile> remaining = new ArrayDeque<>(List.of(RenderProfile.values()));
+
+        @Override
+        public void start(Stage stage) {
+            List<String> args = getParameters().getRaw();
+            int cardCount = args.size() > 0 ? Integer.parseInt(args.get(0)) : 1000;
+            scrollSeconds = args.size() > 1 ? Integer.parseInt(args.get(1)) : 5;
+
+            VBox cards = new VBox(12);
+            cards.getStyleClass().add("content-inner");
+            for (int i = 0; i < cardCount; i++) {
+                cards.getChildren().add(createCard(i));
+            }
+
+            scrollPane = new ScrollPane(cards);
+            scrollPane.setFitToWidth(true);
+            scrollPane.getStyleClass().add("content-scroll");
+
+            VBox root = new VBox(scrollPane);
+            VBox.setVgrow(scrollPane, Priority.ALWAYS);
+            root.getStyleClass().add("main-content");
+            root.getStylesheets().add(
+                    Main.class.getResource("/org/sam/projectmanager/techy_pma/css/dashboard.css").toExternalForm()
+            );
+
+            Scene scene = new Scene(root, 840, 700);
+            stage.setScene(scene);
+            stage.setTitle("Render benchmark — " + cardCount + " cards");
+            stage.show();
+
+            System.out.println("Scrolling " + cardCount + " cards, " + scrollSeconds + "s each way");
+            runNextProfile();
+        }
+
+        /** Applies the next profile, lets CSS and caches settle, then measures a scroll */
+        private void runNextProfile() {
+            RenderProfile profile = remaining.poll();
+            if (profile == null) {
+                Platform.exit();
+                return;
+            }
+
+            RenderProfile.setActive(profile);
+            scrollPane.setVvalue(0);
+
+            PauseTransition settle = new PauseTransition(Duration.seconds(1));
+            settle.setOnFinished(e -> measureScroll(profile));
+            settle.play();
+        }
+
+        private void measureScroll(RenderProfile profile) {
+            FrameTimeSampler sampler = new FrameTimeSampler(scrollSeconds * 2 * 240);
+
+            Timeline scroll = new Timeline(
+                    new KeyFrame(Duration.ZERO, new KeyValue(scrollPane.vvalueProperty(), 0)),
+                    new KeyFrame(Duration.seconds(scrollSeconds), new KeyValue(scrollPane.vvalueProperty(), 1))
+            );
+            scroll.setAutoReverse(true);
+            scroll.setCycleCount(2);
+            scroll.setOnFinished(e -> {
+                sampler.stop();
+                System.out.printf("%-12s %s%n", profile, sampler.summary());
+                runNextProfile();
+            });
+
+            sampler.start();
+            scroll.play();
+        }
+
+        /** Mirrors the layout and style classes of the Browse screen's project card */
+        private VBox createCard(int index) {
+            VBox card = new VBox(12);
+            card.getStyleClass().add("project-card");
+
+            HBox topRow = new HBox(10);
+            topRow.setAlignment(Pos.CENTER_LEFT);
+            Label nameLabel = new Label("Benchmark project #" + index);
+            nameLabel.getStyleClass().add("project-name");
+            HBox.setHgrow(nameLabel, Priority.ALWAYS);
+            Label statusBadge = new Label("IN PROGRESS");
+            statusBadge.getStyleClass().addAll("badge", "badge-in-progress");
+            topRow.getChildren().addAll(nameLabel, statusBadge);
+
+            Label ownerLabel = new Label("⊙  Created by: user" + (index % 50));
+            ownerLabel.getStyleClass().add("project-owner");
+
+            Label descLabel = new Label("A representative description of moderate length, wrapped "
+                    + "across the card width the same way real project descriptions are.");
+            descLabel.getStyleClass().add("project-description");
+            descLabel.setWrapText(true);
+
+            HBox progressRow = new HBox(10);
+            progressRow.setAlignment(Pos.CENTER_LEFT);
+            ProgressBar progressBar = new ProgressBar((index % 101) / 100.0);
+            progressBar.getStyleClass().add("project-progress-bar");
+            progressBar.setPrefHeight(6);
+            progressBar.setMaxWidth(Double.MAX_VALUE);
+            HBox.setHgrow(progressBar, Priority.ALWAYS);
+            Label progressText = new Label((index % 101) + "%");
+            progressText.getStyleClass().add("project-progress-text");
+            progressRow.getChildren().addAll(progressBar, progressText);
+
+            Label membersLabel = new Label("◎  " + (index % 12 + 1) + " member(s)");
+            membersLabel.getStyleClass().add("project-owner");
+
+            HBox bottomRow = new HBox(10);
+            bottomRow.setAlignment(Pos.CENTER_RIGHT);
+            Button viewBtn = new Button("View Details →");
+            viewBtn.getStyleClass().add("project-view-btn");
+            Button joinBtn = new Button("⊕ Join Project");
+            joinBtn.getStyleClass().add("join-button");
+            bottomRow.getChildren().addAll(viewBtn, joinBtn);
+
+            card.getChildren().addAll(topRow, ownerLabel, descLabel, progressRow, membersLabel, bottomRow);
+            RenderProfile.cacheStatic(topRow, ownerLabel, descLabel, progressRow, membersLabel);
+            return card;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import org.sam.projectmanager.techy_pma.Main;
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.ProjectDAO;
+import org.sam.projectmanager.techy_pma.database.UserDAO;
+import org.sam.projectmanager.techy_pma.utils.SelectedProject;
+import org.sam.projectmanager.techy_pma.utils.Session;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the Dashboard, Browse and Project Details screens against seeded databases and
+ * checks load time, node count and memory against budgets. Exits with status 1 when any
+ * budget is exceeded, so it can gate a CI build.
+ *
+ * <p>Runs headless on the Monocle glass platform by default. For each dataset size
+ * ({@link BenchmarkDataset}) the busiest user is logged in and the largest project
+ * selected, then each screen is loaded once to warm up and {@code --runs} more times.
+ * Per screen it reports:</p>
+ * <ul>
+ *   <li>{@code loadMillis} — median time of {@code FXMLLoader.load}, which includes the controller's {@code initialize()}</li>
+ *   <li>{@code settleMillis} — median time until the node count stops changing, which covers chunked card rendering</li>
+ *   <li>{@code nodes} — scene graph nodes once settled</li>
+ *   <li>{@code retainedKB} — heap held by the screen after a full GC</li>
+ * </ul>
+ *
+ * <p>Budgets are read from {@code screen-budgets.properties} next to this class, or from
+ * {@code --budgets <file>}. A key is {@code <screen>.<metric>}, optionally suffixed with
+ * a dataset size to override it for that size only:</p>
+ * <pre>
+ * java -cp target/benchmarks.jar org.sam.projectmanager.techy_pma.bench.ScreenLoadCheck \
+ *      --sizes 1000,10000 --runs 5 [--budgets my-budgets.properties] [--headless false]
+ * </pre>
+ */
+public class ScreenLoadCheck {
+
+    private static final String FXML_DIR = "/org/sam/projectmanager/techy_pma/fxml/";
+    private static final int SETTLE_PULSES = 10;
+    private static final long SETTLE_TIMEOUT_SECONDS = 60;
+
+    private static volatile int exitStatus = 2;
+
+    enum Screen {
+        DASHBOARD("dashboard", "dashboard.fxml"),
+        BROWSE("browse", "browse-projects.fxml"),
+        DETAILS("details", "project-details.fxml");
+
+        final String key;
+        final String fxml;
+
+        Screen(String key, String fxml) {
+            this.key = key;
+            this.fxml = fxml;
+        }
+    }
+
+    record Measurement(Screen screen, int rows, double loadMillis, double settleMillis, long nodes, long retainedKB) {
+
+        double get(String metric) {
+            return switch (metric) {
+                case "loadMillis" -> loadMillis;
+                case "settleMillis" -> settleMillis;
+                case "nodes" -> nodes;
+                case "retainedKB" -> retainedKB;
+                default -> throw new IllegalArgumentException("Unknown metric in budgets: " + metric);
+            };
+        }
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = CommandLine.parse(args);
+        if (!"false".equals(options.get("headless"))) {
+            System.setProperty("glass.platform", "Monocle");
+            System.setProperty("monocle.platform", "Headless");
+            System.setProperty("prism.order", "sw");
+        }
+
+        // Launched through a nested class so JavaFX can start from the classpath
+        Application.launch(App.class, args);
+        System.exit(exitStatus);
+    }
+
+    /** Owns the stage; the measurements run on a driver thread that hands work to the FX thread */
+    public static class App extends Application {
+
+        @Override
+        public void start(Stage stage) {
+            stage.setScene(new Scene(new Pane(), 1100, 750));
+            stage.show();
+
+            Map<String, String> options = CommandLine.parse(getParameters().getRaw().toArray(String[]::new));
+            Thread driver = new Thread(() -> {
+                try {
+                    exitStatus = run(stage, options);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                } finally {
+                    Platform.exit();
+                }
+            }, "screen-load-check");
+            driver.start();
+        }
+    }
+
+    // ─── DRIVER ───
+
+    private static int run(Stage stage, Map<String, String> options) throws Exception {
+        int[] sizes = Arrays.stream(options.getOrDefault("sizes", "1000,10000").split(","))
+                .mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Properties budgets = loadBudgets(options.get("budgets"));
+
+        List<Measurement> results = new ArrayList<>();
+        for (int rows : sizes) {
+            Path db = BenchmarkDataset.prepareWorkingCopy(rows);
+            String url = "jdbc:sqlite:" + db;
+            int userId = BenchmarkDataset.busiest(url, "user_id");
+            int projectId = BenchmarkDataset.busiest(url, "project_id");
+
+            DatabaseManager.setDatabaseUrl(url);
+            Session.setCurrentUser(UserDAO.getUserById(userId));
+            SelectedProject.setProject(ProjectDAO.getProjectById(projectId));
+
+            for (Screen screen : Screen.values()) {
+                Measurement m = measure(stage, screen, rows, runs);
+                results.add(m);
+                System.out.printf("%-9s rows=%-7d load=%8.1fms settle=%8.1fms nodes=%7d retained=%8dKB%n",
+                        screen.key, rows, m.loadMillis(), m.settleMillis(), m.nodes(), m.retainedKB());
+            }
+        }
+
+        List<String> violations = checkBudgets(results, budgets);
+        violations.forEach(v -> System.out.println("OVER BUDGET: " + v));
+        System.out.println(violations.isEmpty() ? "All screens within budget" : violations.size() + " budget(s) exceeded");
+        return violations.isEmpty() ? 0 : 1;
+    }
+
+    /** One warmup load, then {@code runs} measured loads; times are medians, nodes and memory from the last run */
+    private static Measurement measure(Stage stage, Screen screen, int rows, int runs) throws Exception {
+        long[] loads = new long[runs];
+        long[] settles = new long[runs];
+        long nodes = 0;
+        long retained = 0;
+
+        for (int run = -1; run < runs; run++) {
+            onFx(() -> {
+                stage.getScene().setRoot(new Pane());
+                return null;
+            });
+            long baseline = usedHeapAfterGc();
+
+            long[] timings = loadAndSettle(stage, screen);
+            if (run < 0) continue;
+
+            loads[run] = timings[0];
+            settles[run] = timings[1];
+            nodes = timings[2];
+            retained = usedHeapAfterGc() - baseline;
+        }
+
+        return new Measurement(screen, rows, medianMillis(loads), medianMillis(settles), nodes, Math.max(0, retained / 1024));
+    }
+
+    /**
+     * Loads the screen into the stage and waits until its node count has been unchanged
+     * for {@value #SETTLE_PULSES} pulses.
+     *
+     * @return Load nanos, settle nanos (to the last pulse that changed the node count) and the final node count
+     */
+    private static long[] loadAndSettle(Stage stage, Screen screen) throws Exception {
+        CompletableFuture<long[]> settled = new CompletableFuture<>();
+
+        onFx(() -> {
+            Scene scene = stage.getScene();
+            long start = System.nanoTime();
+            Parent root = FXMLLoader.load(Main.class.getResource(FXML_DIR + screen.fxml));
+            long loaded = System.nanoTime() - start;
+            scene.setRoot(root);
+
+            scene.addPostLayoutPulseListener(new Runnable() {
+                private long lastCount = -1;
+                private long lastChange = loaded;
+                private int stablePulses;
+
+                @Override
+                public void run() {
+                    long count = countNodes(root);
+                    if (count != lastCount) {
+                        lastCount = count;
+                        lastChange = System.nanoTime() - start;
+                        stablePulses = 0;
+                    } else if (++stablePulses >= SETTLE_PULSES) {
+                        scene.removePostLayoutPulseListener(this);
+                        settled.complete(new long[]{loaded, lastChange, count});
+                        return;
+                    }
+                    // An idle scene stops pulsing; keep them coming until settled
+                    Platform.requestNextPulse();
+                }
+            });
+            Platform.requestNextPulse();
+            return null;
+        });
+
+        return settled.get(SETTLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // ─── BUDGETS ───
+
+    private static Properties loadBudgets(String file) throws IOException {
+        Properties budgets = new Properties();
+        if (file != null) {
+            try (Reader in = Files.newBufferedReader(Path.of(file))) {
+                budgets.load(in);
+            }
+        } else {
+            try (InputStream in = ScreenLoadCheck.class.getResourceAsStream("screen-budgets.properties")) {
+                if (in == null) throw new IOException("Bundled screen-budgets.properties not found");
+                budgets.load(in);
+            }
+        }
+        return budgets;
+    }
+
+    /** @return One line per measurement over its budget; the size-specific key wins over the general one */
+    private static List<String> checkBudgets(List<Measurement> results, Properties budgets) {
+        List<String> violations = new ArrayList<>();
+        for (Measurement m : results) {
+            for (String metric : List.of("loadMillis", "settleMillis", "nodes", "retainedKB")) {
+                String key = m.screen().key + "." + metric;
+                String budget = budgets.getProperty(key + "." + m.rows(), budgets.getProperty(key));
+                if (budget == null) continue;
+
+                double limit = Double.parseDouble(budget.trim());
+                double actual = m.get(metric);
+                if (actual > limit) {
+                    violations.add(String.format("%s at %d rows: %s %.1f > %.1f", m.screen().key, m.rows(), metric, actual, limit));
+                }
+            }
+        }
+        return violations;
+    }
+
+    // ─── HELPERS ───
+
+    private static <T> T onFx(Callable<T> work) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(work.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result.get(SETTLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static long countNodes(Node node) {
+        long count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) count += countNodes(child);
+        }
+        return count;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static double medianMillis(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+}
@@ -0,0 +1,139 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.ProjectActivityDAO;
+import org.sam.projectmanager.techy_pma.database.TaskDAO;
+import org.sam.projectmanager.techy_pma.database.UnitOfWork;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * What deriving a project's progress from its tasks costs a task change, as the project grows:
+ * ticking a task done or back with {@code TaskDAO.updateStatus}, the task triggers applying the
+ * change to the project's totals by delta, against the same update followed by re-summing every
+ * task of the project into its progress, in one transaction.
+ *
+ * <p>Tasks are added to one project in steps up to {@code --tasks}; each step is measured with
+ * the triggers, which are then dropped from the working copy for the re-sum runs, and recreated
+ * by {@code initializeDatabase} for the next step. The rows are the same either way.</p>
+ * <pre>
+ * java -cp target/benchmarks.jar org.sam.projectmanager.techy_pma.bench.TaskProgressBenchmark \
+ *      [--rows 10000] [--tasks 100000] [--repeat 500]
+ * </pre>
+ */
+public class TaskProgressBenchmark {
+
+    private static final String RESUM_SQL = """
+            UPDATE projects SET project_progress = (
+                SELECT SUM(IIF(status = 'done', weight, 0)) * 100 / SUM(weight) FROM tasks WHERE project_id = ?
+            ) WHERE project_id = ?
+            """;
+
+    private static final String[] TRIGGERS = {"tasks_totals_insert", "tasks_totals_delete", "tasks_totals_update"};
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = CommandLine.parse(args);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "10000"));
+        int maxTasks = Integer.parseInt(options.getOrDefault("tasks", "100000"));
+        int repeat = Integer.parseInt(options.getOrDefault("repeat", "500"));
+
+        DatabaseManager.setDatabaseUrl("jdbc:sqlite:" + BenchmarkDataset.prepareWorkingCopy(rows));
+        DatabaseManager.initializeDatabase();
+        ProjectActivityDAO.setEnabled(false);
+
+        int projectId = 1;
+        Random random = new Random(5);
+        int seeded = 0;
+
+        System.out.printf("%10s %18s %18s %10s%n", "tasks", "delta p50 ms", "re-sum p50 ms", "ratio");
+        for (int tasks = 100; tasks <= maxTasks; tasks *= 10) {
+            seeded += seedTasks(projectId, tasks - seeded, random);
+            int firstTask = firstTaskId(projectId);
+            int taskCount = tasks;
+
+            double delta = median(repeat, () -> toggle(firstTask + random.nextInt(taskCount), random));
+            dropTriggers();
+            double resum = median(repeat, () -> toggleAndResum(projectId, firstTask + random.nextInt(taskCount), random));
+            DatabaseManager.initializeDatabase();
+
+            System.out.printf("%,10d %18.3f %18.3f %9.1fx%n", tasks, delta, resum, resum / delta);
+        }
+    }
+
+    /** @return Number of tasks inserted, in one transaction */
+    private static int seedTasks(int projectId, int count, Random random) throws SQLException {
+        try (UnitOfWork unit = UnitOfWork.begin();
+             PreparedStatement stmt = unit.connection().prepareStatement(
+                     "INSERT INTO tasks (project_id, title, status, weight) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                stmt.setInt(1, projectId);
+                stmt.setString(2, "Benchmark task " + i);
+                stmt.setString(3, random.nextInt(3) == 0 ? "done" : "todo");
+                stmt.setInt(4, 1 + random.nextInt(8));
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            unit.commit();
+        }
+        return count;
+    }
+
+    private static int firstTaskId(int projectId) throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT MIN(task_id) FROM tasks WHERE project_id = ?")) {
+            stmt.setInt(1, projectId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private static void toggle(int taskId, Random random) {
+        TaskDAO.updateStatus(taskId, random.nextBoolean() ? "done" : "todo");
+    }
+
+    /** The straightforward alternative: change the task, then recompute the progress from all of them */
+    private static void toggleAndResum(int projectId, int taskId, Random random) {
+        try (UnitOfWork unit = UnitOfWork.begin();
+             PreparedStatement stmt = unit.connection().prepareStatement(RESUM_SQL)) {
+            toggle(taskId, random);
+            stmt.setInt(1, projectId);
+            stmt.setInt(2, projectId);
+            stmt.executeUpdate();
+            unit.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void dropTriggers() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String trigger : TRIGGERS) {
+                stmt.execute("DROP TRIGGER " + trigger);
+            }
+        }
+    }
+
+    /** @return Median milliseconds of {@code runs} calls, after a few unmeasured ones */
+    private static double median(int runs, Runnable write) {
+        for (int i = 0; i < 10; i++) write.run();
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            write.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[runs / 2] / 1e6;
+    }
+}
@@ -0,0 +1,74 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sam.projectmanager.techy_pma.database.UserDAO;
+import org.sam.projectmanager.techy_pma.models.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JMH benchmarks for every {@link UserDAO} method.
+ * Writes are paired with their inverse so the dataset keeps its size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDaoBenchmark {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    @Benchmark
+    public User getUserById(DatasetState data) {
+        return UserDAO.getUserById(data.randomUserId());
+    }
+
+    @Benchmark
+    public User getUserByUsername(DatasetState data) {
+        return UserDAO.getUserByUsername("user" + data.randomUserId());
+    }
+
+    @Benchmark
+    public User getUserByEmail(DatasetState data) {
+        return UserDAO.getUserByEmail("user" + data.randomUserId() + "@bench.local");
+    }
+
+    @Benchmark
+    public boolean usernameExists(DatasetState data) {
+        return UserDAO.usernameExists("user" + data.randomUserId());
+    }
+
+    @Benchmark
+    public boolean emailExists(DatasetState data) {
+        return UserDAO.emailExists("user" + data.randomUserId() + "@bench.local");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<User> getAllUsers(DatasetState data) {
+        return UserDAO.getAllUsers();
+    }
+
+    @Benchmark
+    public boolean updateUser(DatasetState data) {
+        User user = UserDAO.getUserById(data.randomUserId());
+        return UserDAO.updateUser(user);
+    }
+
+    @Benchmark
+    public boolean insertAndDeleteUser(DatasetState data) {
+        long n = SEQUENCE.incrementAndGet();
+        User user = new User("bench-new-" + n, "bench-new-" + n + "@bench.local", "hash");
+        UserDAO.insertUser(user);
+        return UserDAO.deleteUser(user.getUserId());
+    }
+}
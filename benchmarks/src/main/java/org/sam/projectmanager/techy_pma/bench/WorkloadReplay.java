@@ -0,0 +1,190 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.ProjectDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectMemberDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectQuery;
+import org.sam.projectmanager.techy_pma.models.ProjectMember;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a mixed browse/search/join/update workload against a database at a fixed rate
+ * and reports latency percentiles per operation.
+ *
+ * <p>Operations are issued on an open-loop schedule: operation {@code i} is due at
+ * {@code start + i / rate}, and its latency is measured from that due time rather than
+ * from when it actually started. A slow call therefore also counts against the calls
+ * queued behind it, as it would for a user clicking at that pace.</p>
+ *
+ * <ul>
+ *   <li>BROWSE (40%) — Browse screen status filter, first 100 results</li>
+ *   <li>SEARCH (25%) — name search, first 100 results</li>
+ *   <li>DETAILS (15%) — project, member count and first page of members</li>
+ *   <li>JOIN (10%) — membership check, then join as Member</li>
+ *   <li>UPDATE (10%) — progress or status change</li>
+ * </ul>
+ *
+ * <p>JOIN and UPDATE write to the database, so point it at a copy made by {@link DatabaseSeeder}:</p>
+ * <pre>
+ * java -cp target/benchmarks.jar org.sam.projectmanager.techy_pma.bench.WorkloadReplay \
+ *      --db target/loadtest.db --rate 200 --seconds 30 --warmup 5 --seed 7
+ * </pre>
+ */
+public class WorkloadReplay {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int MEMBER_PAGE_SIZE = 50;
+
+    enum Operation {
+        BROWSE(40), SEARCH(25), DETAILS(15), JOIN(10), UPDATE(10);
+
+        final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final Random random;
+    private final int maxUserId;
+    private final int maxProjectId;
+
+    private WorkloadReplay(long seed, int maxUserId, int maxProjectId) {
+        this.random = new Random(seed);
+        this.maxUserId = maxUserId;
+        this.maxProjectId = maxProjectId;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = CommandLine.parse(args);
+        String url = "jdbc:sqlite:" + options.getOrDefault("db", "target/loadtest.db");
+        int rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "30"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "7"));
+
+        WorkloadReplay replay = new WorkloadReplay(seed, maxId(url, "users", "user_id"), maxId(url, "projects", "project_id"));
+        DatabaseManager.setDatabaseUrl(url);
+
+        System.out.printf("Replaying %d ops/s for %ds (after %ds warmup) against %s%n", rate, seconds, warmup, url);
+        if (warmup > 0) replay.run(rate, warmup, false);
+        replay.run(rate, seconds, true);
+    }
+
+    /**
+     * Runs the schedule on the calling thread.
+     *
+     * @param report Whether to print one line per operation and a total afterwards
+     *               (warmup runs only load classes and let the JIT settle)
+     */
+    private void run(int rate, int seconds, boolean report) {
+        int total = rate * seconds;
+        long interval = 1_000_000_000L / rate;
+        long[][] latencies = new long[Operation.values().length][total];
+        int[] counts = new int[Operation.values().length];
+        long[] all = new long[total];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long due = start + i * interval;
+            long now;
+            while ((now = System.nanoTime()) < due) {
+                LockSupport.parkNanos(due - now);
+            }
+
+            Operation op = pick();
+            execute(op);
+
+            long latency = System.nanoTime() - due;
+            latencies[op.ordinal()][counts[op.ordinal()]++] = latency;
+            all[i] = latency;
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        if (!report) return;
+
+        for (Operation op : Operation.values()) {
+            System.out.println(summarize(op.name(), Arrays.copyOf(latencies[op.ordinal()], counts[op.ordinal()])));
+        }
+        System.out.println(summarize("ALL", all));
+        System.out.printf("✓ %,d ops in %.1fs (%.1f ops/s achieved, %d ops/s target)%n", total, elapsed, total / elapsed, rate);
+    }
+
+    private Operation pick() {
+        int roll = random.nextInt(100);
+        for (Operation op : Operation.values()) {
+            roll -= op.weight;
+            if (roll < 0) return op;
+        }
+        return Operation.BROWSE;
+    }
+
+    private void execute(Operation op) {
+        int projectId = 1 + random.nextInt(maxProjectId);
+        int userId = 1 + random.nextInt(maxUserId);
+
+        switch (op) {
+            case BROWSE -> ProjectDAO.findProjects(new ProjectQuery()
+                    .statusIn(List.of(randomOf(DatabaseSeeder.STATUSES)))
+                    .limit(PAGE_SIZE));
+            case SEARCH -> ProjectDAO.findProjects(new ProjectQuery()
+                    .nameContains(randomOf(DatabaseSeeder.NAME_WORDS))
+                    .limit(PAGE_SIZE));
+            case DETAILS -> {
+                ProjectDAO.getProjectById(projectId);
+                ProjectMemberDAO.getMemberCount(projectId);
+                ProjectMemberDAO.getMemberPage(projectId, null, null, MEMBER_PAGE_SIZE);
+            }
+            case JOIN -> {
+                if (!ProjectMemberDAO.isMember(projectId, userId)) {
+                    ProjectMemberDAO.addMember(new ProjectMember(projectId, userId, "Member"));
+                }
+            }
+            case UPDATE -> {
+                if (random.nextBoolean()) {
+                    ProjectDAO.updateProgress(projectId, random.nextInt(101));
+                } else {
+                    ProjectDAO.updateStatus(projectId, randomOf(DatabaseSeeder.STATUSES));
+                }
+            }
+        }
+    }
+
+    private String randomOf(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String summarize(String name, long[] latencies) {
+        if (latencies.length == 0) return String.format("%-8s n=0", name);
+        Arrays.sort(latencies);
+        return String.format("%-8s n=%,7d p50=%7.2fms p90=%7.2fms p99=%7.2fms p99.9=%7.2fms max=%7.2fms",
+                name, latencies.length,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.90),
+                percentileMillis(latencies, 0.99), percentileMillis(latencies, 0.999),
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static double percentileMillis(long[] sorted, double p) {
+        int index = Math.max(0, (int) Math.ceil(p * sorted.length) - 1);
+        return sorted[index] / 1e6;
+    }
+
+    private static int maxId(String url, String table, String column) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(" + column + ") FROM " + table)) {
+            int max = rs.next() ? rs.getInt(1) : 0;
+            if (max == 0) throw new SQLException("No rows in " + table + "; seed the database with DatabaseSeeder first");
+            return max;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.sam.projectmanager.techy_pma.bench;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws ranks 1..n with Zipf probabilities: rank k is picked with weight {@code 1 / k^exponent}.
+ *
+ * <p>With an exponent around 1, rank 1 takes a large share of the draws, a handful of
+ * low ranks take most of the rest, and the long tail is picked only a few times each.
+ * The cumulative distribution is precomputed once, so each draw is a binary search.</p>
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+    private final Random random;
+
+    /**
+     * @param n        Number of ranks
+     * @param exponent Skew; 0 is uniform, ~1 is classic Zipf, higher is more skewed
+     * @param random   Source of randomness (seeded by the caller for reproducibility)
+     */
+    public ZipfSampler(int n, double exponent, Random random) {
+        this.cumulative = new double[n];
+        this.random = random;
+
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /** @return A rank between 1 and n */
+    public int next() {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (index < 0) index = -index - 1;
+        return Math.min(index, cumulative.length - 1) + 1;
+    }
+}
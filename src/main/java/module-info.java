@@ -2,6 +2,8 @@ module org.sam.projectmanager.techy_pma {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires java.management;
+    requires jdk.jfr;
     requires jbcrypt;
 
 
@@ -3,7 +3,16 @@ package org.sam.projectmanager.techy_pma;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.stage.Stage;
+import org.sam.projectmanager.techy_pma.database.profiling.QueryProfiler;
+import org.sam.projectmanager.techy_pma.diagnostics.FlightRecording;
+import org.sam.projectmanager.techy_pma.diagnostics.StallWatchdog;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.ui.RenderProfile;
 import java.io.IOException;
 
 import static org.sam.projectmanager.techy_pma.database.DatabaseManager.initializeDatabase;
@@ -36,6 +45,12 @@ public class Main extends Application {
     @Override
     public void start(Stage stage) throws IOException {
 
+        // Opt-in JFR recording with the app's own events (-Dtechy.jfr=techy.jfr)
+        FlightRecording.startIfRequested();
+
+        // Opt-in per-action trace in Chrome trace-event format (-Dtechy.trace=trace.json)
+        Tracer.startIfRequested();
+
         // DatabaseManager — creates tables on first run, safe to call every startup
         initializeDatabase();
 
@@ -46,9 +61,27 @@ public class Main extends Application {
         FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/login.fxml"));
         Scene scene = new Scene(fxmlLoader.load(), 600, 500);
 
+        // Every navigation swaps the Scene, so apply the render profile to each new one,
+        // let Ctrl/Cmd+Shift+P toggle performance mode and Ctrl/Cmd+Shift+D dump query stats from any screen
+        stage.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene == null) return;
+            RenderProfile.applyTo(newScene);
+            newScene.getAccelerators().put(
+                    new KeyCodeCombination(KeyCode.P, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN),
+                    RenderProfile::toggle
+            );
+            newScene.getAccelerators().put(
+                    new KeyCodeCombination(KeyCode.D, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN),
+                    () -> Log.getLogger(Main.class).info("Query profile:\n{}", QueryProfiler.dump())
+            );
+        });
+
         stage.setTitle("TECHY | Project Manager - Login");
         stage.setScene(scene);
         stage.show();
+
+        // Reports FX-thread stalls (blocking DAO calls, BCrypt) with stack samples to logs/stalls.log
+        StallWatchdog.start();
     }
 
 }
\ No newline at end of file
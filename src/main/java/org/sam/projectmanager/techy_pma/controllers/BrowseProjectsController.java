@@ -9,15 +9,27 @@ import javafx.stage.Stage;
 import org.sam.projectmanager.techy_pma.Main;
 import org.sam.projectmanager.techy_pma.database.ProjectDAO;
 import org.sam.projectmanager.techy_pma.database.ProjectMemberDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectQuery;
 import org.sam.projectmanager.techy_pma.database.UserDAO;
+import org.sam.projectmanager.techy_pma.diagnostics.CardRenderEvent;
+import org.sam.projectmanager.techy_pma.diagnostics.ScreenNavigationEvent;
+import org.sam.projectmanager.techy_pma.diagnostics.Span;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
 import org.sam.projectmanager.techy_pma.models.Project;
 import org.sam.projectmanager.techy_pma.models.ProjectMember;
 import org.sam.projectmanager.techy_pma.models.User;
+import org.sam.projectmanager.techy_pma.ui.ChunkedRenderer;
+import org.sam.projectmanager.techy_pma.ui.KeyedNodeReconciler;
+import org.sam.projectmanager.techy_pma.ui.RenderProfile;
+import org.sam.projectmanager.techy_pma.utils.CurrentScreen;
 import org.sam.projectmanager.techy_pma.utils.SelectedProject;
 import org.sam.projectmanager.techy_pma.utils.Session;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Controller for the Browse Projects screen.
@@ -34,6 +46,14 @@ import java.util.List;
  */
 public class BrowseProjectsController {
 
+    private static final Logger LOG = Log.getLogger(BrowseProjectsController.class);
+
+    /** Cards built synchronously on each render — enough to fill the visible viewport */
+    private static final int FIRST_SCREEN_CARDS = 8;
+
+    /** Maximum time spent building cards per JavaFX pulse once the first screenful is shown */
+    private static final double CARD_FRAME_BUDGET_MS = 4.0;
+
     // ─── SIDEBAR FIELDS ───
 
     /** First letter of the logged-in user's username, displayed in the avatar circle */
@@ -53,6 +73,9 @@ public class BrowseProjectsController {
     /** Dropdown for filtering projects by status: All, not started, in progress, completed, published */
     @FXML private ComboBox<String> filterComboBox;
 
+    /** When checked, searches also cover projects moved to the archive database */
+    @FXML private CheckBox archiveCheckBox;
+
     /** Shows the number of projects currently displayed e.g. "5 project(s) found" */
     @FXML private Label resultsLabel;
 
@@ -64,6 +87,12 @@ public class BrowseProjectsController {
     /** Empty state panel — shown only when no projects match the current search or filter */
     @FXML private VBox emptyState;
 
+    /** Keeps {@link #projectsContainer} in sync with the latest results, keyed by project ID */
+    private KeyedNodeReconciler<Integer, Project> cardReconciler;
+
+    /** Builds the cards beyond the first screenful in time-boxed chunks, one chunk per pulse */
+    private final ChunkedRenderer cardRenderer = new ChunkedRenderer(FIRST_SCREEN_CARDS, CARD_FRAME_BUDGET_MS);
+
     // ─────────────────────────────────────────────────────────────────────────
     // INITIALIZATION
     // ─────────────────────────────────────────────────────────────────────────
@@ -82,6 +111,8 @@ public class BrowseProjectsController {
      */
     @FXML
     public void initialize() {
+        CurrentScreen.set("Browse Projects");
+        cardReconciler = new KeyedNodeReconciler<>(projectsContainer, Project::getProjectId, BrowseCard::new);
         loadUserInfo();
         setupFilterComboBox();
         loadAllProjects();
@@ -91,6 +122,7 @@ public class BrowseProjectsController {
         filterComboBox.valueProperty().addListener((observable, oldValue, newValue) -> {
             handleSearch();
         });
+        archiveCheckBox.selectedProperty().addListener((observable, oldValue, newValue) -> handleSearch());
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -152,35 +184,30 @@ public class BrowseProjectsController {
      *
      * <p>Search logic:</p>
      * <ol>
-     *   <li>If the search field is not empty, query projects by name via {@link ProjectDAO#searchProjectsByName}</li>
-     *   <li>If the search field is empty, fetch all projects</li>
-     *   <li>If a specific status is selected (not "All"), narrow results using a stream filter</li>
-     *   <li>Pass the final filtered list to {@link #displayProjects(List)}</li>
+     *   <li>If the search field is not empty, match project names containing the term</li>
+     *   <li>If a specific status is selected (not "All"), match only that status</li>
+     *   <li>If "Include archive" is checked, archived projects are searched as well</li>
+     *   <li>Both filters run inside one {@link ProjectDAO#findProjects} query, so only matching rows are read</li>
+     *   <li>Pass the results to {@link #displayProjects(List)}</li>
      * </ol>
      */
     @FXML
     private void handleSearch() {
-        String searchTerm = searchField.getText().trim();
-        String filter = filterComboBox.getValue();
+        try (Span _ = Tracer.action("Search", searchField)) {
+            String searchTerm = searchField.getText().trim();
+            String filter = filterComboBox.getValue();
 
-        List<Project> projects;
+            ProjectQuery query = new ProjectQuery()
+                    .nameContains(searchTerm)
+                    .includeArchive(archiveCheckBox.isSelected());
 
-        // Use name-based search if a term is entered, otherwise load everything
-        if (!searchTerm.isEmpty()) {
-            projects = ProjectDAO.searchProjectsByName(searchTerm);
-        } else {
-            projects = ProjectDAO.getAllProjects();
-        }
+            // "All" means no status filter
+            if (filter != null && !filter.equals("All")) {
+                query.statusIn(List.of(filter));
+            }
 
-        // Apply status filter on top of search results.
-        // "All" means no status filter — return everything from the name search.
-        if (filter != null && !filter.equals("All")) {
-            projects = projects.stream()
-                    .filter(p -> p.getStatus().equals(filter))
-                    .toList();
+            displayProjects(ProjectDAO.findProjects(query));
         }
-
-        displayProjects(projects);
     }
 
     /**
@@ -190,9 +217,12 @@ public class BrowseProjectsController {
      */
     @FXML
     private void handleClear() {
-        searchField.clear();
-        filterComboBox.setValue("All");
-        loadAllProjects();
+        try (Span _ = Tracer.action("Clear Search", searchField)) {
+            searchField.clear();
+            filterComboBox.setValue("All");
+            archiveCheckBox.setSelected(false);
+            loadAllProjects();
+        }
     }
 
     /**
@@ -208,14 +238,20 @@ public class BrowseProjectsController {
      * <ul>
      *   <li>Hides the empty state panel</li>
      *   <li>Updates {@link #resultsLabel} with the project count</li>
-     *   <li>Creates and appends a project card for each project via {@link #createBrowseCard(Project)}</li>
      * </ul>
      *
+     * <p>In both cases the cards are reconciled through {@link #cardReconciler}:
+     * cards already on screen are kept and only their changed labels are refreshed,
+     * so a search, filter change or refresh only inserts or removes the cards that differ.</p>
+     *
+     * <p>The reconciliation is driven by {@link #cardRenderer}: the first screenful of cards
+     * is placed immediately and the rest over the following pulses. A newer call replaces
+     * any reconciliation still in progress. The whole render is recorded as a JFR
+     * {@link CardRenderEvent}.</p>
+     *
      * @param projects The list of projects to render
      */
     private void displayProjects(List<Project> projects) {
-        projectsContainer.getChildren().clear();
-
         if (projects.isEmpty()) {
             emptyState.setVisible(true);
             emptyState.setManaged(true);
@@ -224,12 +260,11 @@ public class BrowseProjectsController {
             emptyState.setVisible(false);
             emptyState.setManaged(false);
             resultsLabel.setText(projects.size() + " project(s) found");
-
-            for (Project project : projects) {
-                VBox card = createBrowseCard(project);
-                projectsContainer.getChildren().add(card);
-            }
         }
+
+        CardRenderEvent renderEvent = CardRenderEvent.start("Browse Projects", projects.size());
+        KeyedNodeReconciler<Integer, Project>.Pass pass = cardReconciler.begin(projects);
+        cardRenderer.render(pass::step, () -> renderEvent.finish(pass.getTouched()));
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -237,7 +272,7 @@ public class BrowseProjectsController {
     // ─────────────────────────────────────────────────────────────────────────
 
     /**
-     * Dynamically builds a styled project card UI element for the browse list.
+     * A styled project card for the browse list, bound to one project ID.
      *
      * <p>Each card contains:</p>
      * <ul>
@@ -250,87 +285,158 @@ public class BrowseProjectsController {
      *       or a disabled "✓ Joined" button depending on membership status</li>
      * </ul>
      *
-     * @param project The {@link Project} object to build the card for
-     * @return A fully assembled {@link VBox} card ready to be added to {@link #projectsContainer}
+     * <p>An archived project's card is read-only: it says "Archived" in place of the
+     * member count and has no join button.</p>
+     *
+     * <p>The owner name and membership state are queried once when the card is built; the
+     * member count comes with the project row ({@code projects.member_count}), so no card
+     * counts memberships. When the card is reused for a newer copy of the same project,
+     * {@link #update(Project)} only rewrites the labels whose value changed.</p>
      */
-    private VBox createBrowseCard(Project project) {
-        VBox card = new VBox(12);
-        card.getStyleClass().add("project-card");
-
-        int currentUserId = Session.getCurrentUserId();
-        boolean isMember = ProjectMemberDAO.isMember(project.getProjectId(), currentUserId);
-
-        // ─── TOP ROW ───
-        HBox topRow = new HBox(10);
-        topRow.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
-
-        Label nameLabel = new Label(project.getProjectName());
-        nameLabel.getStyleClass().add("project-name");
-        HBox.setHgrow(nameLabel, Priority.ALWAYS);
-
-        Label statusBadge = new Label(project.getStatus().toUpperCase());
-        statusBadge.getStyleClass().addAll("badge", getStatusBadgeClass(project.getStatus()));
-
-        topRow.getChildren().addAll(nameLabel, statusBadge);
-
-        // ─── OWNER ───
-        User owner = UserDAO.getUserById(project.getCreatedBy());
-        String ownerName = owner != null ? owner.getUsername() : "Unknown";
-        Label ownerLabel = new Label("⊙  Created by: " + ownerName);
-        ownerLabel.getStyleClass().add("project-owner");
-
-        // ─── DESCRIPTION ───
-        String desc = project.getProjectDescription();
-        if (desc == null || desc.isEmpty()) desc = "No description provided.";
-        if (desc.length() > 150) desc = desc.substring(0, 150) + "...";
-        Label descLabel = new Label(desc);
-        descLabel.getStyleClass().add("project-description");
-        descLabel.setWrapText(true);
-
-        // ─── PROGRESS ───
-        HBox progressRow = new HBox(10);
-        progressRow.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
-
-        ProgressBar progressBar = new ProgressBar(project.getProjectProgress() / 100.0);
-        progressBar.getStyleClass().add("project-progress-bar");
-        progressBar.setPrefHeight(6);
-        HBox.setHgrow(progressBar, Priority.ALWAYS);
-        progressBar.setMaxWidth(Double.MAX_VALUE);
-
-        Label progressText = new Label(project.getProjectProgress() + "%");
-        progressText.getStyleClass().add("project-progress-text");
-
-        progressRow.getChildren().addAll(progressBar, progressText);
-
-        // ─── MEMBER COUNT ───
-        int memberCount = ProjectMemberDAO.getMemberCount(project.getProjectId());
-        Label membersLabel = new Label("◎  " + memberCount + " member(s)");
-        membersLabel.getStyleClass().add("project-owner");
-
-        // ─── BOTTOM ROW: Actions ───
-        HBox bottomRow = new HBox(10);
-        bottomRow.setAlignment(javafx.geometry.Pos.CENTER_RIGHT);
-
-        // View button — always visible regardless of membership
-        Button viewBtn = new Button("View Details →");
-        viewBtn.getStyleClass().add("project-view-btn");
-        viewBtn.setOnAction(e -> handleViewProject(project));
-
-        // Show "✓ Joined" (disabled) if already a member, otherwise show active "Join Project" button
-        if (isMember) {
-            Button joinedBtn = new Button("✓ Joined");
-            joinedBtn.getStyleClass().add("joined-button");
-            joinedBtn.setDisable(true);
-            bottomRow.getChildren().addAll(viewBtn, joinedBtn);
-        } else {
-            Button joinBtn = new Button("⊕ Join Project");
-            joinBtn.getStyleClass().add("join-button");
-            joinBtn.setOnAction(e -> handleJoinProject(project, joinBtn));
-            bottomRow.getChildren().addAll(viewBtn, joinBtn);
+    private class BrowseCard implements KeyedNodeReconciler.Binding<Project> {
+
+        private final VBox card = new VBox(12);
+        private final Label nameLabel = new Label();
+        private final Label statusBadge = new Label();
+        private final Label descLabel = new Label();
+        private final ProgressBar progressBar = new ProgressBar();
+        private final Label progressText = new Label();
+        private final Label membersLabel = new Label();
+        private final Button joinBtn = new Button();
+
+        /** Latest version of the project shown by this card, used by the button handlers */
+        private Project project;
+        private int memberCount;
+
+        BrowseCard(Project project) {
+            card.getStyleClass().add("project-card");
+
+            // ─── TOP ROW ───
+            HBox topRow = new HBox(10);
+            topRow.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
+
+            nameLabel.getStyleClass().add("project-name");
+            HBox.setHgrow(nameLabel, Priority.ALWAYS);
+
+            topRow.getChildren().addAll(nameLabel, statusBadge);
+
+            // ─── OWNER ───
+            User owner = UserDAO.getUserById(project.getCreatedBy());
+            String ownerName = owner != null ? owner.getUsername() : "Unknown";
+            Label ownerLabel = new Label("⊙  Created by: " + ownerName);
+            ownerLabel.getStyleClass().add("project-owner");
+
+            // ─── DESCRIPTION ───
+            descLabel.getStyleClass().add("project-description");
+            descLabel.setWrapText(true);
+
+            // ─── PROGRESS ───
+            HBox progressRow = new HBox(10);
+            progressRow.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
+
+            progressBar.getStyleClass().add("project-progress-bar");
+            progressBar.setPrefHeight(6);
+            HBox.setHgrow(progressBar, Priority.ALWAYS);
+            progressBar.setMaxWidth(Double.MAX_VALUE);
+
+            progressText.getStyleClass().add("project-progress-text");
+
+            progressRow.getChildren().addAll(progressBar, progressText);
+
+            // ─── MEMBER COUNT ───
+            // Archived memberships live in the archive database; the card does not count them
+            if (project.isArchived()) {
+                membersLabel.setText("▣  Archived");
+            } else {
+                setMemberCount(project.getMemberCount());
+            }
+            membersLabel.getStyleClass().add("project-owner");
+
+            // ─── BOTTOM ROW: Actions ───
+            HBox bottomRow = new HBox(10);
+            bottomRow.setAlignment(javafx.geometry.Pos.CENTER_RIGHT);
+
+            // View button — always visible regardless of membership
+            Button viewBtn = new Button("View Details →");
+            viewBtn.getStyleClass().add("project-view-btn");
+            viewBtn.setOnAction(e -> handleViewProject(this.project));
+
+            // Show "✓ Joined" (disabled) if already a member, otherwise show active "Join Project" button
+            if (project.isArchived()) {
+                bottomRow.getChildren().add(viewBtn);
+            } else {
+                if (ProjectMemberDAO.isMember(project.getProjectId(), Session.getCurrentUserId())) {
+                    markJoined();
+                } else {
+                    joinBtn.setText("⊕ Join Project");
+                    joinBtn.getStyleClass().add("join-button");
+                    joinBtn.setOnAction(e -> handleJoinProject(this));
+                }
+                bottomRow.getChildren().addAll(viewBtn, joinBtn);
+            }
+
+            card.getChildren().addAll(topRow, ownerLabel, descLabel, progressRow, membersLabel, bottomRow);
+
+            // Text rows are bitmap-cached in performance mode; the button row keeps live hover states
+            RenderProfile.cacheStatic(topRow, ownerLabel, descLabel, progressRow, membersLabel);
+
+            update(project);
+        }
+
+        @Override
+        public VBox getNode() {
+            return card;
         }
 
-        card.getChildren().addAll(topRow, ownerLabel, descLabel, progressRow, membersLabel, bottomRow);
-        return card;
+        /**
+         * Copies the project's display values onto the card, skipping any that are unchanged.
+         *
+         * @param project The latest version of the project bound to this card
+         */
+        @Override
+        public void update(Project project) {
+            Project previous = this.project;
+            this.project = project;
+
+            if (previous == null || !project.getProjectName().equals(previous.getProjectName())) {
+                nameLabel.setText(project.getProjectName());
+            }
+
+            if (previous == null || !project.getStatus().equals(previous.getStatus())) {
+                statusBadge.setText(project.getStatus().toUpperCase());
+                statusBadge.getStyleClass().setAll("badge", getStatusBadgeClass(project.getStatus()));
+            }
+
+            if (previous == null || !Objects.equals(project.getProjectDescription(), previous.getProjectDescription())) {
+                String desc = project.getProjectDescription();
+                if (desc == null || desc.isEmpty()) desc = "No description provided.";
+                if (desc.length() > 150) desc = desc.substring(0, 150) + "...";
+                descLabel.setText(desc);
+            }
+
+            if (previous == null || project.getProjectProgress() != previous.getProjectProgress()) {
+                progressBar.setProgress(project.getProjectProgress() / 100.0);
+                progressText.setText(project.getProjectProgress() + "%");
+            }
+
+            if (previous != null && !project.isArchived() && project.getMemberCount() != memberCount) {
+                setMemberCount(project.getMemberCount());
+            }
+        }
+
+        /** Switches the join button to its disabled "✓ Joined" state */
+        private void markJoined() {
+            joinBtn.setText("✓ Joined");
+            joinBtn.getStyleClass().remove("join-button");
+            joinBtn.getStyleClass().add("joined-button");
+            joinBtn.setOnAction(null);
+            joinBtn.setDisable(true);
+        }
+
+        private void setMemberCount(int memberCount) {
+            this.memberCount = memberCount;
+            membersLabel.setText("◎  " + memberCount + " member(s)");
+        }
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -345,35 +451,39 @@ public class BrowseProjectsController {
      *   <li>Re-checks membership via {@link ProjectMemberDAO#isMember} as a safety guard</li>
      *   <li>Creates a new {@link ProjectMember} with role "Member"</li>
      *   <li>Inserts the membership record via {@link ProjectMemberDAO#addMember}</li>
-     *   <li>On success, updates the button text and style to reflect joined state</li>
+     *   <li>On success, updates the card's button and member count in-place</li>
      *   <li>On failure, shows an error alert</li>
      * </ol>
      *
-     * @param project The project the user wants to join
-     * @param joinBtn The Join button on the card, updated in-place on success
+     * @param card The card of the project the user wants to join, updated in-place on success
      */
-    private void handleJoinProject(Project project, Button joinBtn) {
+    private void handleJoinProject(BrowseCard card) {
+        Project project = card.project;
         int userId = Session.getCurrentUserId();
         int projectId = project.getProjectId();
 
-        // Check if already a member
-        if (ProjectMemberDAO.isMember(projectId, userId)) {
-            showAlert("Already Joined", "You are already a member of this project!");
-            return;
-        }
+        int result;
+        try (Span action = Tracer.action("Join Project", projectsContainer)) {
+            // Check if already a member
+            if (ProjectMemberDAO.isMember(projectId, userId)) {
+                action.close(); // the alert waits for the user; keep that out of the trace
+                showAlert("Already Joined", "You are already a member of this project!");
+                return;
+            }
 
-        // Add as member
-        ProjectMember membership = new ProjectMember(projectId, userId, "Member");
-        int result = ProjectMemberDAO.addMember(membership);
+            // Add as member
+            ProjectMember membership = new ProjectMember(projectId, userId, "Member");
+            result = ProjectMemberDAO.addMember(membership);
 
-        if (result > 0) {
-            // Update button to show joined
-            joinBtn.setText("✓ Joined");
-            joinBtn.getStyleClass().remove("join-button");
-            joinBtn.getStyleClass().add("joined-button");
-            joinBtn.setDisable(true);
+            if (result > 0) {
+                // Update card to show joined — it stays on screen across later searches
+                card.markJoined();
+                card.setMemberCount(card.memberCount + 1);
+            }
+        }
 
-            System.out.println("✓ Joined project: " + project.getProjectName());
+        if (result > 0) {
+            LOG.info("Joined project: {}", project.getProjectName());
             showAlert("Success!", "You have successfully joined: " + project.getProjectName());
         } else {
             showAlert("Error", "Failed to join project. Please try again.");
@@ -390,9 +500,11 @@ public class BrowseProjectsController {
      * @param project The project whose details should be displayed
      */
     private void handleViewProject(Project project) {
-        // Store selected project for details screen
-        SelectedProject.setProject(project);
-        navigateTo("project-details.fxml", "Project Details", 1100, 700);
+        try (Span _ = Tracer.action("View Details", projectsContainer)) {
+            // Store selected project for details screen
+            SelectedProject.setProject(project);
+            navigateTo("project-details.fxml", "Project Details", 1100, 700);
+        }
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -463,14 +575,19 @@ public class BrowseProjectsController {
      * @param height   The height of the new scene in pixels
      */
     private void navigateTo(String fxmlFile, String title, int width, int height) {
-        try {
+        // Stop building cards for a screen that is about to be replaced
+        cardRenderer.cancel();
+        try (Span _ = Tracer.action("Open " + title, searchField)) {
+            ScreenNavigationEvent navigation = ScreenNavigationEvent.start(fxmlFile);
             FXMLLoader loader = new FXMLLoader(
                     Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/" + fxmlFile)
             );
             Scene scene = new Scene(loader.load(), width, height);
+            navigation.loaded();
             Stage stage = (Stage) searchField.getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("TECHY | Project Manager - " + title);
+            navigation.commitAfterFirstPulse(scene);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -8,11 +8,17 @@ import javafx.stage.Stage;
 import org.sam.projectmanager.techy_pma.Main;
 import org.sam.projectmanager.techy_pma.database.ProjectDAO;
 import org.sam.projectmanager.techy_pma.database.ProjectMemberDAO;
+import org.sam.projectmanager.techy_pma.database.UnitOfWork;
+import org.sam.projectmanager.techy_pma.diagnostics.ScreenNavigationEvent;
+import org.sam.projectmanager.techy_pma.diagnostics.Span;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
 import org.sam.projectmanager.techy_pma.models.Project;
 import org.sam.projectmanager.techy_pma.models.ProjectMember;
+import org.sam.projectmanager.techy_pma.utils.CurrentScreen;
 import org.sam.projectmanager.techy_pma.utils.Session;
 
 import java.io.IOException;
+import java.sql.SQLException;
 
 /**
  * Controller for the Create Project screen.
@@ -50,6 +56,7 @@ public class CreateProjectController {
      */
     @FXML
     public void initialize() {
+        CurrentScreen.set("Create Project");
         loadUserInfo();
         setupStatusComboBox();
         setupProgressSlider();
@@ -106,49 +113,71 @@ public class CreateProjectController {
      */
     @FXML
     private void handleCreateProject() {
-        String name = projectNameField.getText().trim();
-        String description = projectDescriptionField.getText().trim();
-        String status = statusComboBox.getValue();
-        int progress = (int) progressSlider.getValue();
-
-        // ─── VALIDATION ───
-        if (name.isEmpty()) {
-            showError("Project name is required");
-            return;
+        try (Span _ = Tracer.action("Create Project", createButton)) {
+            String name = projectNameField.getText().trim();
+            String description = projectDescriptionField.getText().trim();
+            String status = statusComboBox.getValue();
+            int progress = (int) progressSlider.getValue();
+
+            // ─── VALIDATION ───
+            if (name.isEmpty()) {
+                showError("Project name is required");
+                return;
+            }
+
+            if (name.length() < 3) {
+                showError("Project name must be at least 3 characters");
+                return;
+            }
+
+            if (status == null || status.isEmpty()) {
+                showError("Please select a status");
+                return;
+            }
+
+            int userId = Session.getCurrentUserId();
+
+            // Build the project object with form values
+            Project newProject = new Project(name, description, userId);
+            newProject.setStatus(status);
+            newProject.setProjectProgress(progress);
+
+            // Project and Owner membership are written together: one commit, and never a project without an owner
+            int projectId = createWithOwner(newProject, userId);
+
+            if (projectId > 0) {
+                showSuccess("Project '" + name + "' created successfully!");
+                createButton.setDisable(true); // Prevent duplicate submissions
+                System.out.println("✓ Project created with ID: " + projectId);
+
+                navigateToDashboard();
+            } else {
+                showError("Failed to create project. Please try again.");
+            }
         }
+    }
 
-        if (name.length() < 3) {
-            showError("Project name must be at least 3 characters");
-            return;
-        }
-
-        if (status == null || status.isEmpty()) {
-            showError("Please select a status");
-            return;
-        }
-
-        int userId = Session.getCurrentUserId();
-
-        // Build the project object with form values
-        Project newProject = new Project(name, description, userId);
-        newProject.setStatus(status);
-        newProject.setProjectProgress(progress);
-
-        // Persist to database and retrieve the generated project ID
-        int projectId = ProjectDAO.insertProject(newProject);
+    /**
+     * Inserts the project and makes its creator the Owner, in one {@link UnitOfWork}.
+     *
+     * @param project The project to insert
+     * @param userId  The creator
+     * @return The generated project ID, or -1 if either insert failed (nothing is kept then)
+     */
+    private int createWithOwner(Project project, int userId) {
+        try (UnitOfWork unit = UnitOfWork.begin()) {
+            int projectId = ProjectDAO.insertProject(project);
+            if (projectId <= 0) return -1;
 
-        if (projectId > 0) {
             // Creator is automatically assigned the Owner role
             ProjectMember ownerMembership = new ProjectMember(projectId, userId, "Owner");
-            ProjectMemberDAO.addMember(ownerMembership);
-
-            showSuccess("Project '" + name + "' created successfully!");
-            createButton.setDisable(true); // Prevent duplicate submissions
-            System.out.println("✓ Project created with ID: " + projectId);
+            if (ProjectMemberDAO.addMember(ownerMembership) <= 0) return -1;
 
-            navigateToDashboard();
-        } else {
-            showError("Failed to create project. Please try again.");
+            unit.commit();
+            return projectId;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return -1;
         }
     }
 
@@ -195,14 +224,17 @@ public class CreateProjectController {
      * @param height    Scene height in pixels
      */
     private void navigateTo(String fxmlFile, String title, int width, int height) {
-        try {
+        try (Span _ = Tracer.action("Open " + title, projectNameField)) {
+            ScreenNavigationEvent navigation = ScreenNavigationEvent.start(fxmlFile);
             FXMLLoader loader = new FXMLLoader(
                     Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/" + fxmlFile)
             );
             Scene scene = new Scene(loader.load(), width, height);
+            navigation.loaded();
             Stage stage = (Stage) projectNameField.getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("TECHY | Project Manager - " + title);
+            navigation.commitAfterFirstPulse(scene);
         } catch (IOException e) {
             e.printStackTrace();
             showError("Navigation error: " + e.getMessage());
@@ -10,8 +10,13 @@ import org.sam.projectmanager.techy_pma.Main;
 import org.sam.projectmanager.techy_pma.database.ProjectDAO;
 import org.sam.projectmanager.techy_pma.database.ProjectMemberDAO;
 import org.sam.projectmanager.techy_pma.database.UserDAO;
+import org.sam.projectmanager.techy_pma.diagnostics.ScreenNavigationEvent;
+import org.sam.projectmanager.techy_pma.diagnostics.Span;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
 import org.sam.projectmanager.techy_pma.models.Project;
 import org.sam.projectmanager.techy_pma.models.User;
+import org.sam.projectmanager.techy_pma.ui.RenderProfile;
+import org.sam.projectmanager.techy_pma.utils.CurrentScreen;
 import org.sam.projectmanager.techy_pma.utils.Session;
 import org.sam.projectmanager.techy_pma.utils.SelectedProject;
 
@@ -60,6 +65,7 @@ public class DashboardController {
      */
     @FXML
     public void initialize() {
+        CurrentScreen.set("Dashboard");
         loadUserInfo();
         loadStats();
         loadMyProjects();
@@ -263,6 +269,9 @@ public class DashboardController {
         // ─── ASSEMBLE CARD ───
         card.getChildren().addAll(topRow, ownerLabel, descLabel, progressRow, bottomRow);
 
+        // Text rows are bitmap-cached in performance mode; the button row keeps live hover states
+        RenderProfile.cacheStatic(topRow, ownerLabel, descLabel, progressRow);
+
         return card;
     }
 
@@ -289,8 +298,10 @@ public class DashboardController {
      * @param project The project whose details should be displayed
      */
     private void handleViewProject(Project project) {
-        SelectedProject.setProject(project);
-        navigateTo("project-details.fxml", "Project Details", 1100, 700);
+        try (Span _ = Tracer.action("View Details", welcomeLabel)) {
+            SelectedProject.setProject(project);
+            navigateTo("project-details.fxml", "Project Details", 1100, 700);
+        }
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -301,8 +312,10 @@ public class DashboardController {
     @FXML
     private void handleNavDashboard() {
         // Already on dashboard - refresh
-        loadMyProjects();
-        loadStats();
+        try (Span _ = Tracer.action("Refresh Dashboard", welcomeLabel)) {
+            loadMyProjects();
+            loadStats();
+        }
     }
 
     /** Navigates to the Browse Projects screen */
@@ -332,14 +345,17 @@ public class DashboardController {
      * @param height    Scene height in pixels
      */
     private void navigateTo(String fxmlFile, String title, int width, int height) {
-        try {
+        try (Span _ = Tracer.action("Open " + title, welcomeLabel)) {
+            ScreenNavigationEvent navigation = ScreenNavigationEvent.start(fxmlFile);
             FXMLLoader loader = new FXMLLoader(
                     Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/" + fxmlFile)
             );
             Scene scene = new Scene(loader.load(), width, height);
+            navigation.loaded();
             Stage stage = (Stage) welcomeLabel.getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("TECHY | Project Manager - " + title);
+            navigation.commitAfterFirstPulse(scene);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -356,14 +372,17 @@ public class DashboardController {
         Session.clearSession();
 
         // Navigate back to login
-        try {
+        try (Span _ = Tracer.action("Open Login", welcomeLabel)) {
+            ScreenNavigationEvent navigation = ScreenNavigationEvent.start("login.fxml");
             FXMLLoader fxmlLoader = new FXMLLoader(
                     Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/login.fxml")
             );
             Scene scene = new Scene(fxmlLoader.load(), 600, 500);
+            navigation.loaded();
             Stage stage = (Stage) welcomeLabel.getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("TECHY | Project Manager - Login");
+            navigation.commitAfterFirstPulse(scene);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -3,7 +3,11 @@ package org.sam.projectmanager.techy_pma.controllers;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import org.sam.projectmanager.techy_pma.database.UserDAO;
+import org.sam.projectmanager.techy_pma.diagnostics.ScreenNavigationEvent;
+import org.sam.projectmanager.techy_pma.diagnostics.Span;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
 import org.sam.projectmanager.techy_pma.models.User;
+import org.sam.projectmanager.techy_pma.utils.CurrentScreen;
 import org.sam.projectmanager.techy_pma.utils.PasswordUtil;
 import org.sam.projectmanager.techy_pma.utils.Session;
 import javafx.fxml.FXMLLoader;
@@ -64,6 +68,7 @@ public class LoginController {
      */
     @FXML
     public void initialize() {
+        CurrentScreen.set("Login");
         passwordField.setOnAction(event -> handleLogin());
     }
 
@@ -85,50 +90,55 @@ public class LoginController {
      */
     @FXML
     private void handleLogin() {
-        String username = usernameField.getText().trim();
-        String password = passwordField.getText();
-
-        // Validate input fields
-        if (username.isEmpty() || password.isEmpty()) {
-            showError("Please enter both username and password");
-            return;
-        }
-
-        // Retrieve user from database
-        User user = UserDAO.getUserByUsername(username);
-
-        // Check if user exists
-        if (user == null) {
-            showError("User not found");
-            return;
-        }
-
-        // Verify entered password against stored password hash
-        if (PasswordUtil.verifyPassword(password, user.getPassword())) {
-
-            // Store authenticated user in session
-            Session.setCurrentUser(user);
+        try (Span _ = Tracer.action("Log in", loginButton)) {
+            String username = usernameField.getText().trim();
+            String password = passwordField.getText();
+
+            // Validate input fields
+            if (username.isEmpty() || password.isEmpty()) {
+                showError("Please enter both username and password");
+                return;
+            }
 
-            // Clear any previous error message
-            hideError();
+            // Retrieve user from database
+            User user = UserDAO.getUserByUsername(username);
 
-            // Navigate to dashboard screen
-            try {
-                FXMLLoader fxmlLoader = new FXMLLoader(
-                        Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/dashboard.fxml")
-                );
-                Scene scene = new Scene(fxmlLoader.load(), 1100, 700);
-                Stage stage = (Stage) loginButton.getScene().getWindow();
-                stage.setScene(scene);
-                stage.setTitle("TECHY | Project Manager - Dashboard");
-            } catch (IOException e) {
-                e.printStackTrace();
-                showError("Error loading dashboard");
+            // Check if user exists
+            if (user == null) {
+                showError("User not found");
+                return;
             }
 
-        } else {
-            // Password does not match
-            showError("Incorrect password");
+            // Verify entered password against stored password hash
+            if (PasswordUtil.verifyPassword(password, user.getPassword())) {
+
+                // Store authenticated user in session
+                Session.setCurrentUser(user);
+
+                // Clear any previous error message
+                hideError();
+
+                // Navigate to dashboard screen
+                try {
+                    ScreenNavigationEvent navigation = ScreenNavigationEvent.start("dashboard.fxml");
+                    FXMLLoader fxmlLoader = new FXMLLoader(
+                            Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/dashboard.fxml")
+                    );
+                    Scene scene = new Scene(fxmlLoader.load(), 1100, 700);
+                    navigation.loaded();
+                    Stage stage = (Stage) loginButton.getScene().getWindow();
+                    stage.setScene(scene);
+                    stage.setTitle("TECHY | Project Manager - Dashboard");
+                    navigation.commitAfterFirstPulse(scene);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    showError("Error loading dashboard");
+                }
+
+            } else {
+                // Password does not match
+                showError("Incorrect password");
+            }
         }
     }
 
@@ -140,19 +150,24 @@ public class LoginController {
      */
     @FXML
     private void handleSignupLink() {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(
-                    Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/signup.fxml")
-            );
-            Scene scene = new Scene(fxmlLoader.load(), 600, 600);
-
-            Stage stage = (Stage) signupLink.getScene().getWindow();
-            stage.setScene(scene);
-            stage.setTitle("TECHY Project Manager - Sign Up");
-
-        } catch (IOException e) {
-            e.printStackTrace();
-            showError("Error loading signup screen");
+        try (Span _ = Tracer.action("Open Sign Up", signupLink)) {
+            try {
+                ScreenNavigationEvent navigation = ScreenNavigationEvent.start("signup.fxml");
+                FXMLLoader fxmlLoader = new FXMLLoader(
+                        Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/signup.fxml")
+                );
+                Scene scene = new Scene(fxmlLoader.load(), 600, 600);
+                navigation.loaded();
+
+                Stage stage = (Stage) signupLink.getScene().getWindow();
+                stage.setScene(scene);
+                stage.setTitle("TECHY Project Manager - Sign Up");
+                navigation.commitAfterFirstPulse(scene);
+
+            } catch (IOException e) {
+                e.printStackTrace();
+                showError("Error loading signup screen");
+            }
         }
     }
 
@@ -1,22 +1,49 @@
 package org.sam.projectmanager.techy_pma.controllers;
 
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
+import javafx.util.StringConverter;
 import org.sam.projectmanager.techy_pma.Main;
+import org.sam.projectmanager.techy_pma.database.ProjectActivityDAO;
 import org.sam.projectmanager.techy_pma.database.ProjectDAO;
 import org.sam.projectmanager.techy_pma.database.ProjectMemberDAO;
+import org.sam.projectmanager.techy_pma.database.ProgressHistoryDAO;
+import org.sam.projectmanager.techy_pma.database.TaskDAO;
+import org.sam.projectmanager.techy_pma.database.UnitOfWork;
 import org.sam.projectmanager.techy_pma.database.UserDAO;
+import org.sam.projectmanager.techy_pma.diagnostics.ScreenNavigationEvent;
+import org.sam.projectmanager.techy_pma.diagnostics.Span;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
+import org.sam.projectmanager.techy_pma.models.MemberProfile;
+import org.sam.projectmanager.techy_pma.models.ProgressBucket;
 import org.sam.projectmanager.techy_pma.models.Project;
+import org.sam.projectmanager.techy_pma.models.ProjectActivity;
 import org.sam.projectmanager.techy_pma.models.ProjectMember;
+import org.sam.projectmanager.techy_pma.models.Task;
+import org.sam.projectmanager.techy_pma.models.TaskTotals;
 import org.sam.projectmanager.techy_pma.models.User;
+import org.sam.projectmanager.techy_pma.utils.CurrentScreen;
 import org.sam.projectmanager.techy_pma.utils.SelectedProject;
 import org.sam.projectmanager.techy_pma.utils.Session;
 
 import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -26,9 +53,13 @@ import java.util.List;
  * <p>This controller:
  * <ul>
  *     <li>Displays detailed information about a selected project</li>
- *     <li>Loads project members dynamically</li>
+ *     <li>Loads project members page by page into a virtualized list</li>
+ *     <li>Charts the project's progress history from day/week/month rollups</li>
+ *     <li>Lists the project's tasks page by page; their completion drives the progress</li>
+ *     <li>Shows the project's activity timeline, newest first</li>
  *     <li>Controls role-based UI visibility (Owner/Admin/Member)</li>
  *     <li>Handles project updates (progress and status)</li>
+ *     <li>Handles inviting members in bulk</li>
  *     <li>Handles leaving a project</li>
  *     <li>Manages navigation between application screens</li>
  * </ul>
@@ -37,6 +68,9 @@ import java.util.List;
  * <ul>
  *     <li>{@link ProjectDAO} for project updates</li>
  *     <li>{@link ProjectMemberDAO} for membership operations</li>
+ *     <li>{@link ProgressHistoryDAO} for the progress chart</li>
+ *     <li>{@link TaskDAO} for tasks and their totals</li>
+ *     <li>{@link ProjectActivityDAO} for the activity timeline</li>
  *     <li>{@link UserDAO} for retrieving user information</li>
  *     <li>{@link Session} for current logged-in user</li>
  *     <li>{@link SelectedProject} for active project state</li>
@@ -51,6 +85,42 @@ import java.util.List;
  */
 public class ProjectDetailsController {
 
+    /** Number of members fetched per page */
+    private static final int MEMBER_PAGE_SIZE = 50;
+
+    /** Role filter entry that shows every member */
+    private static final String ALL_ROLES = "All roles";
+
+    /** Maximum number of users listed in the invite dialog per search */
+    private static final int INVITE_RESULT_LIMIT = 100;
+
+    /** Number of activity entries fetched per page */
+    private static final int ACTIVITY_PAGE_SIZE = 50;
+
+    /** Chart granularity entry that picks days, weeks or months by the length of the history */
+    private static final String AUTO_GRANULARITY = "Auto";
+
+    /** Histories up to this long are charted by day, up to {@link #WEEKLY_CHART_DAYS} by week, longer by month */
+    private static final int DAILY_CHART_DAYS = 92;
+    private static final int WEEKLY_CHART_DAYS = 3 * 365;
+
+    /** Buckets drawn at most: three months of days, three years of weeks, fifty years of months */
+    private static final int DAILY_CHART_POINTS = 92;
+    private static final int WEEKLY_CHART_POINTS = 157;
+    private static final int MONTHLY_CHART_POINTS = 600;
+
+    /** Number of tasks fetched per page */
+    private static final int TASK_PAGE_SIZE = 50;
+
+    /** Task filter entry that shows every task */
+    private static final String ALL_TASKS = "All tasks";
+
+    /** Largest weight the add-task dialog offers */
+    private static final int MAX_TASK_WEIGHT = 100;
+
+    /** Activity times are stored in UTC and shown in the local time zone */
+    private static final DateTimeFormatter ACTIVITY_TIME_FORMAT = DateTimeFormatter.ofPattern("MMM dd, yyyy  HH:mm");
+
     // ───────────────── SIDEBAR COMPONENTS ─────────────────
 
     /** Displays first letter of logged-in user's username */
@@ -115,15 +185,75 @@ public class ProjectDetailsController {
 
     // ───────────────── MEMBERS SECTION ─────────────────
 
-    /** Displays number of project members */
+    /** Displays number of project members matching the role filter */
     @FXML private Label memberCountLabel;
 
-    /** Container that dynamically holds member rows */
-    @FXML private VBox membersContainer;
+    /** Dropdown for filtering the member list by role: All roles, Owner, Admin, Member */
+    @FXML private ComboBox<String> roleFilterComboBox;
+
+    /** Virtualized member list — rows are recycled and pages are fetched as the user scrolls */
+    @FXML private ListView<MemberProfile> membersList;
+
+    /** True when the last fetched page was full, i.e. more members may follow */
+    private boolean hasMoreMembers;
+
+    /** Guards against requesting the same next page twice while it is being appended */
+    private boolean loadingMembers;
+
+    // ───────────────── PROGRESS HISTORY SECTION ─────────────────
+
+    /** Progress over time, one point per day, week or month */
+    @FXML private LineChart<Number, Number> progressChart;
+
+    /** Time axis of the chart, in days since the epoch */
+    @FXML private NumberAxis chartTimeAxis;
+
+    /** Dropdown for the chart's bucket size: Auto, Daily, Weekly, Monthly */
+    @FXML private ComboBox<String> chartGranularityComboBox;
+
+    /** Displays the charted bucket size and number of progress changes */
+    @FXML private Label chartSummaryLabel;
+
+    /** Bucket size of the chart as drawn, which sets the date format of the time axis */
+    private ProgressBucket.Granularity chartGranularity = ProgressBucket.Granularity.DAY;
+
+    // ───────────────── TASKS SECTION ─────────────────
+
+    /** Displays how many tasks are done, from the maintained totals */
+    @FXML private Label taskSummaryLabel;
+
+    /** Dropdown for filtering the task list by status: All tasks, todo, in progress, done */
+    @FXML private ComboBox<String> taskStatusFilterComboBox;
+
+    /** Opens the add-task dialog; shown to project members */
+    @FXML private Button addTaskButton;
+
+    /** Virtualized task list — rows are recycled and pages are fetched as the user scrolls */
+    @FXML private ListView<Task> taskList;
+
+    /** True when the last fetched task page was full, i.e. more tasks may follow */
+    private boolean hasMoreTasks;
+
+    /** Guards against requesting the same task page twice while it is being appended */
+    private boolean loadingTasks;
+
+    // ───────────────── ACTIVITY SECTION ─────────────────
+
+    /** Virtualized activity timeline, newest first — older pages are fetched as the user scrolls */
+    @FXML private ListView<ProjectActivity> activityList;
+
+    /** True when the last fetched activity page was full, i.e. older entries may follow */
+    private boolean hasMoreActivity;
+
+    /** Guards against requesting the same activity page twice while it is being appended */
+    private boolean loadingActivity;
 
     /** Holds currently selected project */
     private Project currentProject;
 
+    /** Current user's role in the project, or null for non-members and archived projects */
+    private String currentRole;
+
     /**
      * Initializes the controller.
      *
@@ -139,7 +269,12 @@ public class ProjectDetailsController {
      */
     @FXML
     public void initialize() {
+        CurrentScreen.set("Project Details");
         loadUserInfo();
+        setupMembersList();
+        setupTaskList();
+        setupActivityList();
+        setupProgressChart();
         loadProjectDetails();
         setupUpdateControls();
     }
@@ -190,7 +325,8 @@ public class ProjectDetailsController {
         int projectId = currentProject.getProjectId();
 
         projectTitleLabel.setText(currentProject.getProjectName());
-        projectSubLabel.setText("Project ID: " + projectId);
+        projectSubLabel.setText("Project ID: " + projectId
+                + (currentProject.isArchived() ? "  ·  Archived, read-only" : ""));
 
         projectNameLabel.setText(currentProject.getProjectName());
 
@@ -200,8 +336,10 @@ public class ProjectDetailsController {
         statusBadgeLabel.setText(currentProject.getStatus().toUpperCase());
         statusBadgeLabel.getStyleClass().setAll("badge", getStatusBadgeClass(currentProject.getStatus()));
 
-        String role = ProjectMemberDAO.getUserRole(projectId, userId);
-        roleBadgeLabel.setText(role != null ? role.toUpperCase() : "MEMBER");
+        // Archived projects are read-only: no role, so no owner or member controls below
+        String role = currentProject.isArchived() ? null : ProjectMemberDAO.getUserRole(projectId, userId);
+        currentRole = role;
+        roleBadgeLabel.setText(currentProject.isArchived() ? "ARCHIVED" : role != null ? role.toUpperCase() : "MEMBER");
 
         String desc = currentProject.getProjectDescription();
         descriptionLabel.setText((desc != null && !desc.isEmpty()) ? desc : "No description provided.");
@@ -225,7 +363,14 @@ public class ProjectDetailsController {
             memberControls.setManaged(true);
         }
 
+        // Any member can add and tick off tasks
+        addTaskButton.setVisible(role != null);
+        addTaskButton.setManaged(role != null);
+
+        loadProgressChart(projectId);
+        loadTasks(projectId);
         loadMembers(projectId);
+        loadActivity(projectId);
     }
 
     /**
@@ -251,72 +396,647 @@ public class ProjectDetailsController {
     }
 
     /**
-     * Loads project members and dynamically generates UI rows.
+     * Configures the virtualized member list and its role filter.
+     *
+     * <p>Rows are built by {@link MemberCell}, which recycles its nodes as the
+     * list scrolls. Changing the role filter reloads the list from the first page.</p>
+     */
+    private void setupMembersList() {
+        membersList.setCellFactory(list -> new MemberCell());
+        membersList.setPlaceholder(new Label("No members found"));
+
+        roleFilterComboBox.getItems().add(ALL_ROLES);
+        roleFilterComboBox.getItems().addAll("Owner", "Admin", "Member");
+        roleFilterComboBox.setValue(ALL_ROLES);
+        roleFilterComboBox.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (currentProject != null) loadMembers(currentProject.getProjectId());
+        });
+    }
+
+    /**
+     * Loads the member count and the first page of members for the selected role.
+     *
+     * <p>The count comes from a COUNT query rather than the size of the loaded list,
+     * since only {@value #MEMBER_PAGE_SIZE} members are fetched at a time. An archived
+     * project's members come from the archive in one list.</p>
      *
      * @param projectId ID of the project
      */
     private void loadMembers(int projectId) {
+        String role = getSelectedRole();
+
+        if (currentProject.isArchived()) {
+            // The archive returns all members at once; filter by role here
+            List<MemberProfile> members = ProjectMemberDAO.getArchivedMembers(projectId).stream()
+                    .filter(member -> role == null || role.equals(member.getMembership().getRole()))
+                    .toList();
+            memberCountLabel.setText(members.size() + " member(s)");
+            hasMoreMembers = false;
+            membersList.getItems().setAll(members);
+            membersList.scrollTo(0);
+            return;
+        }
+
+        memberCountLabel.setText(ProjectMemberDAO.getMemberCount(projectId, role) + " member(s)");
+
+        List<MemberProfile> firstPage = ProjectMemberDAO.getMemberPage(projectId, role, null, MEMBER_PAGE_SIZE);
+        hasMoreMembers = firstPage.size() == MEMBER_PAGE_SIZE;
+        membersList.getItems().setAll(firstPage);
+        membersList.scrollTo(0);
+    }
+
+    /**
+     * Appends the next page of members after the last loaded one.
+     * Called when the last row of the list becomes visible.
+     */
+    private void loadNextMemberPage() {
+        if (currentProject == null || !hasMoreMembers || loadingMembers) return;
+
+        List<MemberProfile> items = membersList.getItems();
+        ProjectMember last = items.isEmpty() ? null : items.get(items.size() - 1).getMembership();
+
+        loadingMembers = true;
+        List<MemberProfile> page = ProjectMemberDAO.getMemberPage(
+                currentProject.getProjectId(), getSelectedRole(), last, MEMBER_PAGE_SIZE
+        );
+        hasMoreMembers = page.size() == MEMBER_PAGE_SIZE;
+        items.addAll(page);
+        loadingMembers = false;
+    }
+
+    /** @return The role selected in the filter, or null when all roles are shown */
+    private String getSelectedRole() {
+        String role = roleFilterComboBox.getValue();
+        return (role == null || ALL_ROLES.equals(role)) ? null : role;
+    }
+
+    /**
+     * A recycled list cell representing a project member.
+     *
+     * <p>The row nodes are created once per visible cell; scrolling only swaps
+     * the text of the labels. Reaching the last loaded row requests the next page.</p>
+     */
+    private class MemberCell extends ListCell<MemberProfile> {
+
+        private final HBox row = new HBox(14);
+        private final Label avatarLetter = new Label();
+        private final Label nameLabel = new Label();
+        private final Label emailLabel = new Label();
+        private final Label youLabel = new Label("(You)");
+        private final Label roleBadge = new Label();
+
+        MemberCell() {
+            row.getStyleClass().add("member-row");
+            row.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
+
+            StackPane avatar = new StackPane();
+            avatar.getStyleClass().add("member-avatar");
+            avatarLetter.getStyleClass().add("member-avatar-letter");
+            avatar.getChildren().add(avatarLetter);
+
+            VBox userInfo = new VBox(3);
+            HBox.setHgrow(userInfo, Priority.ALWAYS);
+            nameLabel.getStyleClass().add("member-name");
+            emailLabel.getStyleClass().add("member-email");
+            userInfo.getChildren().addAll(nameLabel, emailLabel);
+
+            youLabel.setStyle("-fx-text-fill: #4fc3f7; -fx-font-size: 11px;");
+            youLabel.managedProperty().bind(youLabel.visibleProperty());
+
+            roleBadge.getStyleClass().add("role-badge");
+
+            row.getChildren().addAll(avatar, userInfo, youLabel, roleBadge);
+            setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        }
 
-        List<ProjectMember> members = ProjectMemberDAO.getMembersByProject(projectId);
+        @Override
+        protected void updateItem(MemberProfile profile, boolean empty) {
+            super.updateItem(profile, empty);
 
-        membersContainer.getChildren().clear();
-        memberCountLabel.setText(members.size() + " member(s)");
+            if (empty || profile == null) {
+                setGraphic(null);
+                return;
+            }
 
-        for (ProjectMember member : members) {
-            User user = UserDAO.getUserById(member.getUserId());
-            if (user != null) {
-                HBox memberRow = createMemberRow(user, member.getRole());
-                membersContainer.getChildren().add(memberRow);
+            User user = profile.getUser();
+            avatarLetter.setText(String.valueOf(user.getUsername().charAt(0)).toUpperCase());
+            nameLabel.setText(user.getUsername());
+            emailLabel.setText(user.getEmail());
+            youLabel.setVisible(user.getUserId() == Session.getCurrentUserId());
+            roleBadge.setText(profile.getMembership().getRole().toUpperCase());
+            setGraphic(row);
+
+            // Last loaded row is on screen — fetch the next page once this layout pass is done
+            if (getIndex() == getListView().getItems().size() - 1 && hasMoreMembers) {
+                Platform.runLater(ProjectDetailsController.this::loadNextMemberPage);
             }
         }
     }
 
     /**
-     * Creates a styled UI row representing a project member.
+     * Configures the progress chart's granularity dropdown and time axis labels.
+     */
+    private void setupProgressChart() {
+        chartGranularityComboBox.getItems().addAll(AUTO_GRANULARITY, "Daily", "Weekly", "Monthly");
+        chartGranularityComboBox.setValue(AUTO_GRANULARITY);
+        chartGranularityComboBox.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (currentProject != null) loadProgressChart(currentProject.getProjectId());
+        });
+
+        chartTimeAxis.setTickLabelFormatter(new StringConverter<>() {
+            @Override
+            public String toString(Number epochDay) {
+                String pattern = chartGranularity == ProgressBucket.Granularity.MONTH ? "MMM yyyy" : "MMM dd";
+                return LocalDate.ofEpochDay(epochDay.longValue()).format(DateTimeFormatter.ofPattern(pattern));
+            }
+
+            @Override
+            public Number fromString(String text) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Draws the project's progress history from the rollups: the value each bucket ended on,
+     * then the current value today. However long the history, this reads a few hundred
+     * rollup rows at most.
      *
-     * @param user The member user
-     * @param role The member role in the project
-     * @return HBox representing the member row
+     * @param projectId ID of the project
      */
-    private HBox createMemberRow(User user, String role) {
+    private void loadProgressChart(int projectId) {
+        chartGranularity = getSelectedGranularity(projectId);
+        int limit = switch (chartGranularity) {
+            case DAY -> DAILY_CHART_POINTS;
+            case WEEK -> WEEKLY_CHART_POINTS;
+            case MONTH -> MONTHLY_CHART_POINTS;
+        };
+        List<ProgressBucket> buckets = currentProject.isArchived()
+                ? ProgressHistoryDAO.getArchivedBuckets(projectId, chartGranularity, limit)
+                : ProgressHistoryDAO.getBuckets(projectId, chartGranularity, limit);
+
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        int changes = 0;
+        for (ProgressBucket bucket : buckets) {
+            series.getData().add(new XYChart.Data<>(bucket.getStart().toLocalDate().toEpochDay(), bucket.getLastProgress()));
+            changes += bucket.getSamples();
+        }
+        // Progress holds its last value until it next changes: carry it to today
+        series.getData().add(new XYChart.Data<>(LocalDate.now(ZoneOffset.UTC).toEpochDay(), currentProject.getProjectProgress()));
+
+        progressChart.getData().setAll(List.of(series));
+        String granularity = switch (chartGranularity) {
+            case DAY -> "Daily";
+            case WEEK -> "Weekly";
+            case MONTH -> "Monthly";
+        };
+        chartSummaryLabel.setText(granularity + " · " + changes + " change(s)");
+    }
 
-        HBox row = new HBox(14);
-        row.getStyleClass().add("member-row");
-        row.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
+    /**
+     * @return The granularity chosen in the dropdown, or for Auto the finest one
+     *         whose bucket count stays small for this project's history
+     */
+    private ProgressBucket.Granularity getSelectedGranularity(int projectId) {
+        String selected = chartGranularityComboBox.getValue();
+        if ("Daily".equals(selected)) return ProgressBucket.Granularity.DAY;
+        if ("Weekly".equals(selected)) return ProgressBucket.Granularity.WEEK;
+        if ("Monthly".equals(selected)) return ProgressBucket.Granularity.MONTH;
+
+        LocalDateTime start = currentProject.isArchived()
+                ? ProgressHistoryDAO.getArchivedHistoryStart(projectId)
+                : ProgressHistoryDAO.getHistoryStart(projectId);
+        long days = start == null ? 0 : Duration.between(start, LocalDateTime.now(ZoneOffset.UTC)).toDays();
+        if (days <= DAILY_CHART_DAYS) return ProgressBucket.Granularity.DAY;
+        if (days <= WEEKLY_CHART_DAYS) return ProgressBucket.Granularity.WEEK;
+        return ProgressBucket.Granularity.MONTH;
+    }
 
-        StackPane avatar = new StackPane();
-        avatar.getStyleClass().add("member-avatar");
+    /**
+     * Configures the virtualized task list and its status filter.
+     *
+     * <p>Rows are built by {@link TaskCell}. Changing the status filter reloads the
+     * list from the first page.</p>
+     */
+    private void setupTaskList() {
+        taskList.setCellFactory(list -> new TaskCell());
+        taskList.setPlaceholder(new Label("No tasks yet"));
+
+        taskStatusFilterComboBox.getItems().add(ALL_TASKS);
+        taskStatusFilterComboBox.getItems().addAll("todo", "in progress", "done");
+        taskStatusFilterComboBox.setValue(ALL_TASKS);
+        taskStatusFilterComboBox.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (currentProject != null) loadTasks(currentProject.getProjectId());
+        });
+    }
 
-        Label avatarLetter = new Label(
-                String.valueOf(user.getUsername().charAt(0)).toUpperCase()
+    /**
+     * Loads the task summary and the first page of tasks for the selected status.
+     *
+     * <p>The summary comes from the project's maintained task totals, one row however many
+     * tasks there are. A project with tasks takes its progress from them, so the progress
+     * slider is disabled. An archived project's tasks come from the archive in one list.</p>
+     *
+     * @param projectId ID of the project
+     */
+    private void loadTasks(int projectId) {
+        String status = getSelectedTaskStatus();
+
+        if (currentProject.isArchived()) {
+            List<Task> tasks = TaskDAO.getArchivedTasks(projectId);
+            long done = tasks.stream().filter(Task::isDone).count();
+            taskSummaryLabel.setText(tasks.isEmpty() ? "No tasks" : done + " of " + tasks.size() + " done");
+            hasMoreTasks = false;
+            taskList.getItems().setAll(tasks.stream()
+                    .filter(task -> status == null || status.equals(task.getStatus()))
+                    .toList());
+            taskList.scrollTo(0);
+            return;
+        }
+
+        showTaskTotals(TaskDAO.getTotals(projectId));
+
+        List<Task> firstPage = TaskDAO.getTaskPage(projectId, status, null, TASK_PAGE_SIZE);
+        hasMoreTasks = firstPage.size() == TASK_PAGE_SIZE;
+        taskList.getItems().setAll(firstPage);
+        taskList.scrollTo(0);
+    }
+
+    /**
+     * Appends the next page of tasks after the last loaded one.
+     * Called when the last row of the list becomes visible.
+     */
+    private void loadNextTaskPage() {
+        if (currentProject == null || !hasMoreTasks || loadingTasks) return;
+
+        List<Task> items = taskList.getItems();
+        Task last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        loadingTasks = true;
+        List<Task> page = TaskDAO.getTaskPage(
+                currentProject.getProjectId(), getSelectedTaskStatus(), last, TASK_PAGE_SIZE
         );
-        avatarLetter.getStyleClass().add("member-avatar-letter");
+        hasMoreTasks = page.size() == TASK_PAGE_SIZE;
+        items.addAll(page);
+        loadingTasks = false;
+    }
 
-        avatar.getChildren().add(avatarLetter);
+    /** @return The status selected in the task filter, or null when all tasks are shown */
+    private String getSelectedTaskStatus() {
+        String status = taskStatusFilterComboBox.getValue();
+        return (status == null || ALL_TASKS.equals(status)) ? null : status;
+    }
 
-        VBox userInfo = new VBox(3);
-        HBox.setHgrow(userInfo, Priority.ALWAYS);
+    /**
+     * Shows the task summary and locks the progress slider while tasks drive the progress.
+     *
+     * @param totals the project's task totals
+     */
+    private void showTaskTotals(TaskTotals totals) {
+        taskSummaryLabel.setText(totals.getTasks() == 0 ? "No tasks"
+                : totals.getTasksDone() + " of " + totals.getTasks() + " done");
+        updateProgressSlider.setDisable(totals.getTasks() > 0);
+    }
 
-        Label nameLabel = new Label(user.getUsername());
-        nameLabel.getStyleClass().add("member-name");
+    /**
+     * Refreshes what a task change moves: the summary, and the progress the triggers derived
+     * from the task totals, with its chart.
+     */
+    private void refreshAfterTaskChange() {
+        int projectId = currentProject.getProjectId();
+        showTaskTotals(TaskDAO.getTotals(projectId));
 
-        Label emailLabel = new Label(user.getEmail());
-        emailLabel.getStyleClass().add("member-email");
+        Project refreshed = ProjectDAO.getProjectById(projectId);
+        if (refreshed == null) return;
 
-        userInfo.getChildren().addAll(nameLabel, emailLabel);
+        int progress = refreshed.getProjectProgress();
+        if (progress != currentProject.getProjectProgress()) {
+            currentProject.setProjectProgress(progress);
+            progressPercentLabel.setText(progress + "%");
+            detailProgressBar.setProgress(progress / 100.0);
+            updateProgressSlider.setValue(progress);
+            loadProgressChart(projectId);
+        }
+    }
 
-        Label roleBadge = new Label(role.toUpperCase());
-        roleBadge.getStyleClass().add("role-badge");
+    /**
+     * Moves a task to another status, then refreshes the progress. Under a status filter the
+     * task leaves the list, since it no longer matches.
+     *
+     * @param task the task
+     * @param status the new status
+     */
+    private void changeTaskStatus(Task task, String status) {
+        if (status.equals(task.getStatus())) return;
+
+        boolean updated;
+        try (Span _ = Tracer.action("Update Task", projectNameLabel)) {
+            updated = TaskDAO.updateStatus(task.getTaskId(), status);
+            if (updated) {
+                task.setStatus(status);
+                if (getSelectedTaskStatus() != null) {
+                    taskList.getItems().remove(task);
+                } else {
+                    taskList.refresh();
+                }
+                refreshAfterTaskChange();
+            }
+        }
 
-        if (user.getUserId() == Session.getCurrentUserId()) {
-            Label youLabel = new Label("(You)");
-            youLabel.setStyle("-fx-text-fill: #4fc3f7; -fx-font-size: 11px;");
-            row.getChildren().addAll(avatar, userInfo, youLabel, roleBadge);
-        } else {
-            row.getChildren().addAll(avatar, userInfo, roleBadge);
+        if (!updated) {
+            taskList.refresh();
+            showAlert("Error", "Failed to update task.");
         }
+    }
 
-        return row;
+    /**
+     * Deletes a task after confirmation, then refreshes the progress.
+     *
+     * @param task the task
+     */
+    private void deleteTask(Task task) {
+        Alert confirm = new Alert(Alert.AlertType.CONFIRMATION);
+        confirm.setTitle("Delete Task");
+        confirm.setHeaderText(null);
+        confirm.setContentText("Delete '" + task.getTitle() + "'?");
+        if (confirm.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) return;
+
+        boolean deleted;
+        try (Span _ = Tracer.action("Delete Task", projectNameLabel)) {
+            deleted = TaskDAO.deleteTask(task.getTaskId());
+            if (deleted) {
+                taskList.getItems().remove(task);
+                refreshAfterTaskChange();
+            }
+        }
+
+        if (!deleted) showAlert("Error", "Failed to delete task.");
+    }
+
+    /**
+     * Handles adding a task.
+     *
+     * <p>Opens a dialog for the title, an optional assignee (a member of the project,
+     * by username) and the weight, the task's share of the project's progress.</p>
+     */
+    @FXML
+    private void handleAddTask() {
+
+        if (currentProject == null) return;
+
+        int projectId = currentProject.getProjectId();
+        NewTask input = createTaskDialog().showAndWait().orElse(null);
+        if (input == null) return;
+
+        Integer assigneeId = null;
+        if (!input.assignee().isEmpty()) {
+            User assignee = UserDAO.getUserByUsername(input.assignee());
+            if (assignee == null || !ProjectMemberDAO.isMember(projectId, assignee.getUserId())) {
+                showAlert("Add Task", "'" + input.assignee() + "' is not a member of this project.");
+                return;
+            }
+            assigneeId = assignee.getUserId();
+        }
+
+        int taskId;
+        try (Span _ = Tracer.action("Add Task", projectNameLabel)) {
+            taskId = TaskDAO.insertTask(new Task(projectId, input.title(), assigneeId, input.weight()));
+            if (taskId > 0) {
+                loadTasks(projectId);
+                refreshAfterTaskChange();
+            }
+        }
+
+        if (taskId <= 0) showAlert("Error", "Failed to add task.");
+    }
+
+    /**
+     * Builds the add-task dialog: title, optional assignee username and weight.
+     *
+     * @return Dialog whose result is the entered task, or empty when cancelled
+     */
+    private Dialog<NewTask> createTaskDialog() {
+        TextField title = new TextField();
+        title.setPromptText("What needs doing");
+
+        TextField assignee = new TextField();
+        assignee.setPromptText("Username (optional)");
+
+        Spinner<Integer> weight = new Spinner<>(1, MAX_TASK_WEIGHT, 1);
+        weight.setEditable(true);
+
+        GridPane form = new GridPane();
+        form.setHgap(10);
+        form.setVgap(10);
+        form.addRow(0, new Label("Title:"), title);
+        form.addRow(1, new Label("Assignee:"), assignee);
+        form.addRow(2, new Label("Weight:"), weight);
+        GridPane.setHgrow(title, Priority.ALWAYS);
+        form.setPrefWidth(420);
+
+        Dialog<NewTask> dialog = new Dialog<>();
+        dialog.setTitle("Add Task");
+        dialog.setHeaderText("Add a task to '" + currentProject.getProjectName() + "'");
+        dialog.initOwner(projectNameLabel.getScene().getWindow());
+        dialog.getDialogPane().getStylesheets().addAll(projectNameLabel.getScene().getRoot().getStylesheets());
+        dialog.getDialogPane().setContent(form);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        dialog.getDialogPane().lookupButton(ButtonType.OK).disableProperty()
+                .bind(Bindings.createBooleanBinding(() -> title.getText().isBlank(), title.textProperty()));
+        dialog.setResultConverter(button -> button == ButtonType.OK
+                ? new NewTask(title.getText().trim(), assignee.getText().trim(), weight.getValue())
+                : null);
+
+        Platform.runLater(title::requestFocus);
+        return dialog;
+    }
+
+    /**
+     * A recycled list cell representing a task: a done checkbox, the title, and who it is
+     * assigned to with its weight. Members can tick it off or move it to another status from
+     * its context menu; Owners and Admins can also delete it. Archived projects are read-only.
+     * Reaching the last loaded row requests the next page.
+     */
+    private class TaskCell extends ListCell<Task> {
+
+        private final HBox row = new HBox(14);
+        private final CheckBox doneBox = new CheckBox();
+        private final Label titleLabel = new Label();
+        private final Label detailLabel = new Label();
+        private final Label statusBadge = new Label();
+        private final ContextMenu menu = new ContextMenu();
+        private final MenuItem deleteItem = new MenuItem("Delete");
+
+        TaskCell() {
+            row.getStyleClass().add("member-row");
+            row.setAlignment(Pos.CENTER_LEFT);
+
+            VBox info = new VBox(3);
+            HBox.setHgrow(info, Priority.ALWAYS);
+            titleLabel.getStyleClass().add("member-name");
+            detailLabel.getStyleClass().add("member-email");
+            info.getChildren().addAll(titleLabel, detailLabel);
+
+            statusBadge.getStyleClass().add("role-badge");
+
+            doneBox.setOnAction(e -> {
+                if (getItem() != null) changeTaskStatus(getItem(), doneBox.isSelected() ? "done" : "todo");
+            });
+
+            for (String status : List.of("todo", "in progress", "done")) {
+                MenuItem item = new MenuItem("Mark " + status);
+                item.setOnAction(e -> {
+                    if (getItem() != null) changeTaskStatus(getItem(), status);
+                });
+                menu.getItems().add(item);
+            }
+            deleteItem.setOnAction(e -> {
+                if (getItem() != null) deleteTask(getItem());
+            });
+            menu.getItems().addAll(new SeparatorMenuItem(), deleteItem);
+
+            row.getChildren().addAll(doneBox, info, statusBadge);
+            setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        }
+
+        @Override
+        protected void updateItem(Task task, boolean empty) {
+            super.updateItem(task, empty);
+
+            if (empty || task == null) {
+                setGraphic(null);
+                setContextMenu(null);
+                return;
+            }
+
+            boolean editable = currentRole != null;
+            doneBox.setSelected(task.isDone());
+            doneBox.setDisable(!editable);
+            titleLabel.setText(task.getTitle());
+            detailLabel.setText((task.getAssigneeName() != null ? "Assigned to " + task.getAssigneeName() : "Unassigned")
+                    + "  ·  weight " + task.getWeight());
+            statusBadge.setText(task.getStatus().toUpperCase());
+            deleteItem.setVisible("Owner".equals(currentRole) || "Admin".equals(currentRole));
+            setContextMenu(editable ? menu : null);
+            setGraphic(row);
+
+            // Last loaded row is on screen — fetch the next page once this layout pass is done
+            if (getIndex() == getListView().getItems().size() - 1 && hasMoreTasks) {
+                Platform.runLater(ProjectDetailsController.this::loadNextTaskPage);
+            }
+        }
+    }
+
+    /**
+     * Configures the virtualized activity timeline; rows are built by {@link ActivityCell}.
+     */
+    private void setupActivityList() {
+        activityList.setCellFactory(list -> new ActivityCell());
+        activityList.setPlaceholder(new Label("No activity yet"));
+    }
+
+    /**
+     * Loads the newest page of the project's activity.
+     *
+     * @param projectId ID of the project
+     */
+    private void loadActivity(int projectId) {
+        List<ProjectActivity> firstPage = ProjectActivityDAO.getTimelinePage(projectId, null, ACTIVITY_PAGE_SIZE);
+        hasMoreActivity = firstPage.size() == ACTIVITY_PAGE_SIZE;
+        activityList.getItems().setAll(firstPage);
+        activityList.scrollTo(0);
+    }
+
+    /**
+     * Appends the next, older page of activity after the last loaded entry.
+     * Called when the last row of the timeline becomes visible.
+     */
+    private void loadNextActivityPage() {
+        if (currentProject == null || !hasMoreActivity || loadingActivity) return;
+
+        List<ProjectActivity> items = activityList.getItems();
+        ProjectActivity last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        loadingActivity = true;
+        List<ProjectActivity> page = ProjectActivityDAO.getTimelinePage(
+                currentProject.getProjectId(), last, ACTIVITY_PAGE_SIZE
+        );
+        hasMoreActivity = page.size() == ACTIVITY_PAGE_SIZE;
+        items.addAll(page);
+        loadingActivity = false;
+    }
+
+    /**
+     * Reloads the timeline once the change just made has been written to the log.
+     * The log is written in the background, so reloading right away could miss it.
+     */
+    private void refreshActivity() {
+        int projectId = currentProject.getProjectId();
+        ProjectActivityDAO.whenWritten(() -> Platform.runLater(() -> {
+            if (currentProject != null && currentProject.getProjectId() == projectId) loadActivity(projectId);
+        }));
+    }
+
+    /**
+     * Describes an activity entry in a sentence, e.g. "alice set progress to 40%".
+     *
+     * @param activity the entry
+     * @return readable description
+     */
+    private static String describe(ProjectActivity activity) {
+        String actor = activity.getActorName() != null ? activity.getActorName() : "System";
+        String subject = activity.getSubjectName() != null ? activity.getSubjectName() : "A former user";
+        return switch (activity.getAction()) {
+            case PROGRESS -> actor + " set progress to " + activity.getDetail() + "%";
+            case STATUS -> actor + " changed the status to '" + activity.getDetail() + "'";
+            case JOINED -> activity.getSubjectId() != null && activity.getSubjectId().equals(activity.getActorId())
+                    ? subject + " joined as " + activity.getDetail()
+                    : actor + " added " + subject + " as " + activity.getDetail();
+            case LEFT -> activity.getSubjectId() != null && activity.getSubjectId().equals(activity.getActorId())
+                    ? subject + " left the project"
+                    : actor + " removed " + subject;
+            case ROLE -> actor + " made " + subject + " " + activity.getDetail();
+        };
+    }
+
+    /**
+     * A recycled list cell representing one activity entry: what happened, and when in local time.
+     * Reaching the last loaded row requests the next, older page.
+     */
+    private class ActivityCell extends ListCell<ProjectActivity> {
+
+        private final VBox row = new VBox(3);
+        private final Label textLabel = new Label();
+        private final Label timeLabel = new Label();
+
+        ActivityCell() {
+            row.getStyleClass().add("member-row");
+            row.setAlignment(Pos.CENTER_LEFT);
+            textLabel.getStyleClass().add("member-name");
+            timeLabel.getStyleClass().add("member-email");
+            row.getChildren().addAll(textLabel, timeLabel);
+            setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        }
+
+        @Override
+        protected void updateItem(ProjectActivity activity, boolean empty) {
+            super.updateItem(activity, empty);
+
+            if (empty || activity == null) {
+                setGraphic(null);
+                return;
+            }
+
+            textLabel.setText(describe(activity));
+            timeLabel.setText(activity.getTimestamp().atOffset(ZoneOffset.UTC)
+                    .atZoneSameInstant(ZoneId.systemDefault()).format(ACTIVITY_TIME_FORMAT));
+            setGraphic(row);
+
+            // Last loaded row is on screen — fetch the next page once this layout pass is done
+            if (getIndex() == getListView().getItems().size() - 1 && hasMoreActivity) {
+                Platform.runLater(ProjectDetailsController.this::loadNextActivityPage);
+            }
+        }
     }
 
     /**
@@ -329,13 +1049,26 @@ public class ProjectDetailsController {
 
         if (currentProject == null) return;
 
+        // Tasks would overwrite a hand-set value at their next change
+        if (TaskDAO.getTotals(currentProject.getProjectId()).getTasks() > 0) {
+            showAlert("Update Progress", "This project's progress follows its tasks.");
+            return;
+        }
+
         int newProgress = (int) updateProgressSlider.getValue();
-        boolean updated = ProjectDAO.updateProgress(currentProject.getProjectId(), newProgress);
+        boolean updated;
+        try (Span _ = Tracer.action("Update Progress", projectNameLabel)) {
+            updated = ProjectDAO.updateProgress(currentProject.getProjectId(), newProgress);
+            if (updated) {
+                currentProject.setProjectProgress(newProgress);
+                progressPercentLabel.setText(newProgress + "%");
+                detailProgressBar.setProgress(newProgress / 100.0);
+                loadProgressChart(currentProject.getProjectId());
+                refreshActivity();
+            }
+        }
 
         if (updated) {
-            currentProject.setProjectProgress(newProgress);
-            progressPercentLabel.setText(newProgress + "%");
-            detailProgressBar.setProgress(newProgress / 100.0);
             showAlert("Success", "Progress updated to " + newProgress + "%");
         } else {
             showAlert("Error", "Failed to update progress.");
@@ -353,18 +1086,119 @@ public class ProjectDetailsController {
         String newStatus = updateStatusComboBox.getValue();
         if (newStatus == null) return;
 
-        boolean updated = ProjectDAO.updateStatus(currentProject.getProjectId(), newStatus);
+        boolean updated;
+        try (Span _ = Tracer.action("Update Status", projectNameLabel)) {
+            updated = ProjectDAO.updateStatus(currentProject.getProjectId(), newStatus);
+            if (updated) {
+                currentProject.setStatus(newStatus);
+                statusBadgeLabel.setText(newStatus.toUpperCase());
+                statusBadgeLabel.getStyleClass().setAll("badge", getStatusBadgeClass(newStatus));
+                refreshActivity();
+            }
+        }
 
         if (updated) {
-            currentProject.setStatus(newStatus);
-            statusBadgeLabel.setText(newStatus.toUpperCase());
-            statusBadgeLabel.getStyleClass().setAll("badge", getStatusBadgeClass(newStatus));
             showAlert("Success", "Status updated to '" + newStatus + "'");
         } else {
             showAlert("Error", "Failed to update status.");
         }
     }
 
+    /**
+     * Handles inviting several users at once.
+     *
+     * <p>Opens a dialog where users who are not yet members can be searched by username
+     * prefix and multi-selected, then adds them all with
+     * {@link ProjectMemberDAO#addMembers} in one transaction.</p>
+     */
+    @FXML
+    private void handleInviteMembers() {
+
+        if (currentProject == null) return;
+
+        int projectId = currentProject.getProjectId();
+        Invitation invitation = createInviteDialog(projectId).showAndWait().orElse(null);
+        if (invitation == null || invitation.users().isEmpty()) return;
+
+        List<Integer> added;
+        try (Span action = Tracer.action("Invite Members", projectNameLabel)) {
+            action.arg("selected", invitation.users().size());
+            added = ProjectMemberDAO.addMembers(
+                    projectId,
+                    invitation.users().stream().map(User::getUserId).toList(),
+                    invitation.role()
+            );
+            if (!added.isEmpty()) {
+                loadMembers(projectId);
+                refreshActivity();
+            }
+        }
+
+        int skipped = invitation.users().size() - added.size();
+        if (added.isEmpty()) {
+            showAlert("Invite Members", "No members were added.");
+        } else {
+            showAlert("Invite Members", added.size() + " member(s) added as " + invitation.role()
+                    + (skipped > 0 ? "; " + skipped + " already belonged to the project." : "."));
+        }
+    }
+
+    /**
+     * Builds the invite dialog: a username search field, a multi-select list of matching
+     * users who are not members yet, and the role to give them.
+     *
+     * @param projectId ID of the project members are invited to
+     * @return Dialog whose result is the selection, or empty when cancelled
+     */
+    private Dialog<Invitation> createInviteDialog(int projectId) {
+        TextField search = new TextField();
+        search.setPromptText("Search by username");
+
+        ListView<User> candidates = new ListView<>();
+        candidates.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        candidates.setPlaceholder(new Label("No users found"));
+        candidates.setPrefHeight(280);
+        candidates.setCellFactory(list -> new ListCell<>() {
+            @Override
+            protected void updateItem(User user, boolean empty) {
+                super.updateItem(user, empty);
+                setText(empty || user == null ? null : user.getUsername() + "  ·  " + user.getEmail());
+            }
+        });
+        ObservableList<User> selected = candidates.getSelectionModel().getSelectedItems();
+
+        // Each keystroke is one indexed range query, so the list follows the search field directly
+        search.textProperty().addListener((obs, oldVal, newVal) ->
+                candidates.getItems().setAll(UserDAO.findInvitableUsers(projectId, newVal.trim(), INVITE_RESULT_LIMIT)));
+        candidates.getItems().setAll(UserDAO.findInvitableUsers(projectId, "", INVITE_RESULT_LIMIT));
+
+        ComboBox<String> roleCombo = new ComboBox<>();
+        roleCombo.getItems().addAll("Member", "Admin");
+        roleCombo.setValue("Member");
+
+        Label selectedLabel = new Label();
+        selectedLabel.textProperty().bind(Bindings.size(selected).asString("%d selected"));
+
+        HBox footer = new HBox(10, new Label("Role:"), roleCombo, selectedLabel);
+        footer.setAlignment(Pos.CENTER_LEFT);
+        VBox content = new VBox(10, search, candidates, footer);
+        content.setPrefWidth(420);
+
+        Dialog<Invitation> dialog = new Dialog<>();
+        dialog.setTitle("Invite Members");
+        dialog.setHeaderText("Add users to '" + currentProject.getProjectName() + "'");
+        dialog.initOwner(projectNameLabel.getScene().getWindow());
+        dialog.getDialogPane().getStylesheets().addAll(projectNameLabel.getScene().getRoot().getStylesheets());
+        dialog.getDialogPane().setContent(content);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        dialog.getDialogPane().lookupButton(ButtonType.OK).disableProperty().bind(Bindings.isEmpty(selected));
+        dialog.setResultConverter(button ->
+                button == ButtonType.OK ? new Invitation(List.copyOf(selected), roleCombo.getValue()) : null);
+
+        Platform.runLater(search::requestFocus);
+        return dialog;
+    }
+
     /**
      * Handles leaving a project after confirmation.
      */
@@ -381,10 +1215,10 @@ public class ProjectDetailsController {
         confirm.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
 
-                boolean removed = ProjectMemberDAO.removeMember(
-                        currentProject.getProjectId(),
-                        Session.getCurrentUserId()
-                );
+                boolean removed;
+                try (Span _ = Tracer.action("Leave Project", projectNameLabel)) {
+                    removed = leaveProject(currentProject.getProjectId(), Session.getCurrentUserId());
+                }
 
                 if (removed) {
                     showAlert("Left Project", "You have left the project.");
@@ -397,6 +1231,29 @@ public class ProjectDetailsController {
         });
     }
 
+    /**
+     * Removes the user from the project unless they own it, checking the role and
+     * deleting the membership in one {@link UnitOfWork} so the check cannot go stale.
+     *
+     * @param projectId ID of the project
+     * @param userId ID of the leaving user
+     * @return true if the membership was removed
+     */
+    private boolean leaveProject(int projectId, int userId) {
+        try (UnitOfWork unit = UnitOfWork.begin()) {
+            String role = ProjectMemberDAO.getUserRole(projectId, userId);
+            // The Owner leaving would orphan the project
+            if (role == null || "Owner".equals(role)) return false;
+            if (!ProjectMemberDAO.removeMember(projectId, userId)) return false;
+
+            unit.commit();
+            return true;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
     /**
      * Returns CSS badge class based on project status.
      *
@@ -441,14 +1298,17 @@ public class ProjectDetailsController {
      * @param height Scene height
      */
     private void navigateTo(String fxmlFile, String title, int width, int height) {
-        try {
+        try (Span _ = Tracer.action("Open " + title, projectNameLabel)) {
+            ScreenNavigationEvent navigation = ScreenNavigationEvent.start(fxmlFile);
             FXMLLoader loader = new FXMLLoader(
                     Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/" + fxmlFile)
             );
             Scene scene = new Scene(loader.load(), width, height);
+            navigation.loaded();
             Stage stage = (Stage) projectNameLabel.getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("TECHY | Project Manager - " + title);
+            navigation.commitAfterFirstPulse(scene);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -467,4 +1327,12 @@ public class ProjectDetailsController {
         alert.setContentText(message);
         alert.showAndWait();
     }
+
+    /** Users picked in the invite dialog and the role they join with */
+    private record Invitation(List<User> users, String role) {
+    }
+
+    /** A task entered in the add-task dialog; {@code assignee} is a username, or empty */
+    private record NewTask(String title, String assignee, int weight) {
+    }
 }
@@ -7,7 +7,11 @@ import javafx.scene.control.*;
 import javafx.stage.Stage;
 import org.sam.projectmanager.techy_pma.Main;
 import org.sam.projectmanager.techy_pma.database.UserDAO;
+import org.sam.projectmanager.techy_pma.diagnostics.ScreenNavigationEvent;
+import org.sam.projectmanager.techy_pma.diagnostics.Span;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
 import org.sam.projectmanager.techy_pma.models.User;
+import org.sam.projectmanager.techy_pma.utils.CurrentScreen;
 import org.sam.projectmanager.techy_pma.utils.PasswordUtil;
 import org.sam.projectmanager.techy_pma.utils.Session;
 
@@ -49,6 +53,7 @@ public class SignupController {
      */
     @FXML
     public void initialize() {
+        CurrentScreen.set("Sign Up");
         passwordField.textProperty().addListener((observable, oldValue, newValue) -> {
             updatePasswordStrength(newValue);
         });
@@ -91,71 +96,76 @@ public class SignupController {
      */
     @FXML
     private void handleSignup() {
-        String username = usernameField.getText().trim();
-        String email = emailField.getText().trim();
-        String password = passwordField.getText();
-        String confirmPassword = confirmPasswordField.getText();
-
-        if (username.isEmpty() || email.isEmpty() || password.isEmpty() || confirmPassword.isEmpty()) {
-            showError("Please fill in all fields");
-            return;
-        }
-
-        if (username.length() < 3) {
-            showError("Username must be at least 3 characters long");
-            return;
-        }
-
-        // Basic format check; comprehensive validation relies on email confirmation
-        if (!email.contains("@") || !email.contains(".")) {
-            showError("Please enter a valid email address");
-            return;
-        }
-
-        if (!PasswordUtil.isValidPassword(password)) {
-            showError("Password must be at least 8 characters long");
-            return;
-        }
-
-        if (!password.equals(confirmPassword)) {
-            showError("Passwords do not match");
-            return;
-        }
+        try (Span _ = Tracer.action("Sign Up", signupButton)) {
+            String username = usernameField.getText().trim();
+            String email = emailField.getText().trim();
+            String password = passwordField.getText();
+            String confirmPassword = confirmPasswordField.getText();
+
+            if (username.isEmpty() || email.isEmpty() || password.isEmpty() || confirmPassword.isEmpty()) {
+                showError("Please fill in all fields");
+                return;
+            }
 
-        if (UserDAO.usernameExists(username)) {
-            showError("Username already taken. Please choose another.");
-            return;
-        }
+            if (username.length() < 3) {
+                showError("Username must be at least 3 characters long");
+                return;
+            }
 
-        if (UserDAO.emailExists(email)) {
-            showError("Email already registered. Please use another or login.");
-            return;
-        }
+            // Basic format check; comprehensive validation relies on email confirmation
+            if (!email.contains("@") || !email.contains(".")) {
+                showError("Please enter a valid email address");
+                return;
+            }
 
-        String hashedPassword = PasswordUtil.hashPassword(password);
-        User newUser = new User(username, email, hashedPassword);
+            if (!PasswordUtil.isValidPassword(password)) {
+                showError("Password must be at least 8 characters long");
+                return;
+            }
 
-        boolean success = UserDAO.insertUser(newUser);
+            if (!password.equals(confirmPassword)) {
+                showError("Passwords do not match");
+                return;
+            }
 
-        if (success) {
-            Session.setCurrentUser(newUser);
+            if (UserDAO.usernameExists(username)) {
+                showError("Username already taken. Please choose another.");
+                return;
+            }
 
-            // Context switch: Load Dashboard scene
-            try {
-                FXMLLoader fxmlLoader = new FXMLLoader(
-                        Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/dashboard.fxml")
-                );
-                Scene scene = new Scene(fxmlLoader.load(), 1100, 700);
-                Stage stage = (Stage) signupButton.getScene().getWindow();
-                stage.setScene(scene);
-                stage.setTitle("TECHY | Project Manager - Dashboard");
-            } catch (IOException e) {
-                e.printStackTrace();
-                showError("Error loading dashboard");
+            if (UserDAO.emailExists(email)) {
+                showError("Email already registered. Please use another or login.");
+                return;
             }
 
-        } else {
-            showError("Signup failed. Please try again.");
+            String hashedPassword = PasswordUtil.hashPassword(password);
+            User newUser = new User(username, email, hashedPassword);
+
+            boolean success = UserDAO.insertUser(newUser);
+
+            if (success) {
+                Session.setCurrentUser(newUser);
+
+                // Context switch: Load Dashboard scene
+                try {
+                    ScreenNavigationEvent navigation = ScreenNavigationEvent.start("dashboard.fxml");
+                    FXMLLoader fxmlLoader = new FXMLLoader(
+                            Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/dashboard.fxml")
+                    );
+                    Scene scene = new Scene(fxmlLoader.load(), 1100, 700);
+                    navigation.loaded();
+                    Stage stage = (Stage) signupButton.getScene().getWindow();
+                    stage.setScene(scene);
+                    stage.setTitle("TECHY | Project Manager - Dashboard");
+                    navigation.commitAfterFirstPulse(scene);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    showError("Error loading dashboard");
+                }
+
+            } else {
+                showError("Signup failed. Please try again.");
+            }
         }
     }
 
@@ -164,17 +174,22 @@ public class SignupController {
      */
     @FXML
     private void handleLoginLink() {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/login.fxml"));
-            Scene scene = new Scene(fxmlLoader.load(), 600, 500);
+        try (Span _ = Tracer.action("Open Login", loginLink)) {
+            try {
+                ScreenNavigationEvent navigation = ScreenNavigationEvent.start("login.fxml");
+                FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/org/sam/projectmanager/techy_pma/fxml/login.fxml"));
+                Scene scene = new Scene(fxmlLoader.load(), 600, 500);
+                navigation.loaded();
 
-            Stage stage = (Stage) loginLink.getScene().getWindow();
-            stage.setScene(scene);
-            stage.setTitle("Project Manager - Login");
+                Stage stage = (Stage) loginLink.getScene().getWindow();
+                stage.setScene(scene);
+                stage.setTitle("Project Manager - Login");
+                navigation.commitAfterFirstPulse(scene);
 
-        } catch (IOException e) {
-            e.printStackTrace();
-            showError("Error loading login screen");
+            } catch (IOException e) {
+                e.printStackTrace();
+                showError("Error loading login screen");
+            }
         }
     }
 
@@ -0,0 +1,240 @@
+package org.sam.projectmanager.techy_pma.database;
+
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.metrics.Counter;
+import org.sam.projectmanager.techy_pma.metrics.LatencyHistogram;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes project_activity rows from a background thread, many per transaction (group commit).
+ *
+ * <p>Callers only add the row to a bounded queue, so the write that caused it never waits on
+ * the log. The {@code techy-activity-writer} thread takes everything queued, waits up to
+ * {@value #LINGER_MS} ms for more, and inserts the lot as one JDBC batch with one commit. A
+ * burst of writes therefore costs one commit instead of one each, and holds the database's
+ * write lock, which user-facing writes would wait on, once and briefly. When the queue is
+ * full, rows are dropped and counted rather than blocking the caller.</p>
+ *
+ * <p>The writer has its own connection: the shared one belongs to the FX thread and is closed
+ * after every DAO call.</p>
+ */
+final class ActivityAppender {
+
+    private static final Logger LOG = Log.getLogger(ActivityAppender.class);
+
+    private static final int CAPACITY = 8192;
+    private static final int MAX_BATCH = 1000;
+    private static final long LINGER_MS = 50;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO project_activity (project_id, actor_id, action, subject_id, detail, ts) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final Counter APPENDED = Metrics.counter("db.activity.appended");
+    private static final Counter DROPPED = Metrics.counter("db.activity.dropped");
+    private static final Counter BATCHES = Metrics.counter("db.activity.batches");
+    private static final LatencyHistogram BATCH_LATENCY = Metrics.histogram("db.activity.batchLatency");
+
+    /** One row as queued; ts is formatted by the caller so it records when the change happened */
+    record Entry(int projectId, Integer actorId, String action, Integer subjectId, String detail, String ts) {
+    }
+
+    /** A callback waiting for every row queued before it to be written */
+    private record Waiter(long sequence, Runnable callback) {
+    }
+
+    // ─── QUEUE (guarded by lock) ───
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition written = lock.newCondition();
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private final List<Waiter> waiters = new ArrayList<>();
+    private long appended;      // Sequence of the last queued row
+    private long writtenUpTo;   // Every row up to this sequence is committed (or was lost to an error)
+    private boolean started;
+
+    // ─── WRITER THREAD ONLY ───
+    private Connection connection;
+    private String connectionUrl;
+
+    void append(Entry entry) {
+        lock.lock();
+        try {
+            if (!started) start();
+            if (queue.size() == CAPACITY) {
+                DROPPED.increment();
+                return;
+            }
+            queue.add(entry);
+            appended++;
+            APPENDED.increment();
+            if (queue.size() == 1) notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code callback} once every row queued so far is written: on the writer thread,
+     * or right away on the caller's thread if nothing is waiting.
+     */
+    void whenWritten(Runnable callback) {
+        lock.lock();
+        try {
+            if (writtenUpTo < appended) {
+                waiters.add(new Waiter(appended, callback));
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        callback.run();
+    }
+
+    /** Waits (up to a few seconds) until every row queued so far is written */
+    void flush() {
+        lock.lock();
+        try {
+            long target = appended;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (writtenUpTo < target) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !written.await(remaining, TimeUnit.NANOSECONDS)) break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Called under the lock on first use, so tools that change nothing start no thread */
+    private void start() {
+        started = true;
+        Thread writer = new Thread(this::run, "techy-activity-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "techy-activity-flush"));
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>();
+
+        while (true) {
+            long end;
+            lock.lock();
+            try {
+                while (queue.isEmpty()) notEmpty.awaitUninterruptibly();
+
+                // Give a burst a moment to gather, so it goes out in one commit
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LINGER_MS);
+                while (queue.size() < MAX_BATCH) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    notEmpty.awaitNanos(remaining);
+                }
+
+                while (!queue.isEmpty() && batch.size() < MAX_BATCH) batch.add(queue.poll());
+                end = appended - queue.size();
+            } catch (InterruptedException e) {
+                // Daemon thread: nothing interrupts it but JVM shutdown, after the flush hook ran
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            write(batch);
+            batch.clear();
+
+            List<Runnable> callbacks = new ArrayList<>();
+            lock.lock();
+            try {
+                writtenUpTo = end;
+                written.signalAll();
+                waiters.removeIf(waiter -> {
+                    if (waiter.sequence() > end) return false;
+                    callbacks.add(waiter.callback());
+                    return true;
+                });
+            } finally {
+                lock.unlock();
+            }
+            callbacks.forEach(Runnable::run);
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        long start = System.nanoTime();
+        try {
+            Connection conn = connection();
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL)) {
+                for (Entry entry : batch) {
+                    stmt.setInt(1, entry.projectId());
+                    setNullableInt(stmt, 2, entry.actorId());
+                    stmt.setString(3, entry.action());
+                    setNullableInt(stmt, 4, entry.subjectId());
+                    stmt.setString(5, entry.detail());
+                    stmt.setString(6, entry.ts());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            BATCH_LATENCY.record(System.nanoTime() - start);
+            BATCHES.increment();
+
+        } catch (SQLException e) {
+            DROPPED.add(batch.size());
+            LOG.error("Lost " + batch.size() + " activity rows", e);
+            closeConnection();
+        }
+    }
+
+    /** The writer's own connection, reopened when tools point the app at another database */
+    private Connection connection() throws SQLException {
+        String url = DatabaseManager.getDatabaseUrl();
+        if (connection != null && !url.equals(connectionUrl)) closeConnection();
+        if (connection == null) {
+            connection = DriverManager.getConnection(url);
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("PRAGMA busy_timeout = " + DatabaseManager.BUSY_TIMEOUT_MS);
+            }
+            connection.setAutoCommit(false);
+            connectionUrl = url;
+        }
+        return connection;
+    }
+
+    private void closeConnection() {
+        try {
+            if (connection != null) connection.close();
+        } catch (SQLException e) {
+            LOG.debug("Closing activity connection failed: {}", e.getMessage());
+        }
+        connection = null;
+    }
+
+    private static void setNullableInt(PreparedStatement stmt, int index, Integer value) throws SQLException {
+        if (value == null) {
+            stmt.setNull(index, Types.INTEGER);
+        } else {
+            stmt.setInt(index, value);
+        }
+    }
+}
@@ -1,41 +1,235 @@
 package org.sam.projectmanager.techy_pma.database;
 
+import org.sam.projectmanager.techy_pma.database.profiling.QueryProfiler;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.metrics.Counter;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+import org.sam.projectmanager.techy_pma.models.ProgressBucket;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Properties;
 
 /**
  * Handles SQLite database connection and initial table setup.
  *
  * Provides a shared connection and ensures required tables exist
- * when the application starts.
+ * when the application starts. Foreign keys are enforced on every
+ * connection, so deleting a project or user also deletes its memberships.
+ *
+ * Archived projects live in a second database file, attached on demand
+ * as schema {@code archive} (see {@link #attachArchive(Connection)}).
  */
 public class DatabaseManager {
 
-    // SQLite database file location
-    private static final String DATABASE_URL = "jdbc:sqlite:data/projectmanager.db";
+    private static final Logger LOG = Log.getLogger(DatabaseManager.class);
+
+    // Default SQLite database file location
+    private static final String DEFAULT_DATABASE_URL = "jdbc:sqlite:data/projectmanager.db";
+
+    // Active database URL — overridable with -Dtechy.db.url, e.g. for benchmarks against a seeded copy
+    private static volatile String databaseUrl = System.getProperty("techy.db.url", DEFAULT_DATABASE_URL);
+
+    private static final String SQLITE_URL_PREFIX = "jdbc:sqlite:";
+
+    // How long a connection waits for another's write lock before giving up with SQLITE_BUSY
+    static final int BUSY_TIMEOUT_MS = 5000;
 
     // Shared connection instance
     private static Connection connection;
 
+    // The shared connection the archive is attached to; a reopened connection needs attaching again
+    private static Connection archiveAttachedTo;
+
+    // The archive file whose tables this process has created, so later attaches skip the DDL
+    private static String archiveSchemaEnsuredFor;
+
+    // DAOs close the shared connection after each call, so opened/requested shows how often it is really reused
+    private static final Counter CONNECTIONS_REQUESTED = Metrics.counter("db.connections.requested");
+    private static final Counter CONNECTIONS_OPENED = Metrics.counter("db.connections.opened");
+
+    static {
+        Metrics.gauge("db.connections.reuseRate", () -> {
+            long requested = CONNECTIONS_REQUESTED.get();
+            return requested == 0 ? 0 : 1.0 - (double) CONNECTIONS_OPENED.get() / requested;
+        });
+    }
+
     /**
      * Returns an active database connection.
      * Creates a new connection if none exists or if it was closed.
+     * Statements are timed by {@link QueryProfiler} unless profiling is switched off.
+     * Inside a {@link UnitOfWork} this is the unit's connection, which closing does not end.
      */
     public static Connection getConnection() throws SQLException {
+        CONNECTIONS_REQUESTED.increment();
+        Connection unitConnection = UnitOfWork.currentConnection();
+        if (unitConnection != null) return unitConnection;
+        return openConnection();
+    }
+
+    /** The shared connection itself, (re)opened if needed; {@link UnitOfWork} starts its transaction on it */
+    static Connection openConnection() throws SQLException {
         if (connection == null || connection.isClosed()) {
-            connection = DriverManager.getConnection(DATABASE_URL);
+            // Units of work take the write lock when they begin (BEGIN IMMEDIATE), waiting for it if
+            // the activity log writer holds it. A deferred transaction that reads first and then
+            // writes could deadlock against that writer, and SQLite fails one side with SQLITE_BUSY
+            Properties config = new Properties();
+            config.setProperty("transaction_mode", "IMMEDIATE");
+            Connection opened = DriverManager.getConnection(databaseUrl, config);
+            try (Statement pragma = opened.createStatement()) {
+                // SQLite only enforces the declared foreign keys (and their cascades) where each connection asks it to
+                pragma.execute("PRAGMA foreign_keys = ON");
+                // Wait out the activity log writer's short transactions instead of failing with SQLITE_BUSY
+                pragma.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MS);
+            }
+            connection = QueryProfiler.wrap(opened);
+            CONNECTIONS_OPENED.increment();
         }
         return connection;
     }
 
+    /**
+     * Points the application at a different database, closing the current connection.
+     * Used by tooling (benchmarks, seeders) that work on their own database file.
+     *
+     * @param url JDBC URL, e.g. {@code "jdbc:sqlite:target/bench.db"}
+     */
+    public static void setDatabaseUrl(String url) {
+        closeConnection();
+        databaseUrl = url;
+    }
+
+    /**
+     * @return The JDBC URL of the active database
+     */
+    public static String getDatabaseUrl() {
+        return databaseUrl;
+    }
+
+    /**
+     * @return The archive database file: {@code -Dtechy.db.archive}, or next to the active
+     *         database with an {@code -archive} suffix, e.g. {@code data/projectmanager-archive.db}
+     */
+    public static String getArchivePath() {
+        String configured = System.getProperty("techy.db.archive");
+        if (configured != null) return configured;
+
+        String file = databaseUrl.startsWith(SQLITE_URL_PREFIX) ? databaseUrl.substring(SQLITE_URL_PREFIX.length()) : databaseUrl;
+        return file.endsWith(".db") ? file.substring(0, file.length() - 3) + "-archive.db" : file + "-archive";
+    }
+
+    /**
+     * Attaches the archive database to the shared connection as schema {@code archive}.
+     * Does nothing if already attached. The first attach of an archive file in this process
+     * also runs {@link #ensureArchiveSchema(Connection)}; later ones are a plain {@code ATTACH}.
+     *
+     * <p>The archive is only attached by the code paths that read or write it, so ordinary
+     * DAO calls do not pay for opening a second file. SQLite cannot attach inside a
+     * transaction: call this before beginning a {@link UnitOfWork}.</p>
+     *
+     * @param conn The shared connection, as returned by {@link #getConnection()}
+     */
+    public static void attachArchive(Connection conn) throws SQLException {
+        if (!getArchivePath().equals(archiveSchemaEnsuredFor)) {
+            ensureArchiveSchema(conn);
+            return;
+        }
+        attach(conn);
+    }
+
+    /**
+     * Attaches the archive like {@link #attachArchive(Connection)} and creates the file and
+     * any of its tables and indexes that do not exist yet. Run by the archiver before every
+     * run, and by the first attach in a process; reads skip it after that.
+     *
+     * @param conn The shared connection, as returned by {@link #getConnection()}
+     */
+    public static void ensureArchiveSchema(Connection conn) throws SQLException {
+        attach(conn);
+
+        try (Statement stmt = conn.createStatement()) {
+            // Same columns as the hot tables, plus when the row moved. No foreign key to users:
+            // SQLite keys cannot cross databases, so archived rows of a deleted user stay behind
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS archive.projects (
+                    project_id INTEGER PRIMARY KEY,
+                    project_name TEXT NOT NULL,
+                    project_description TEXT,
+                    project_progress INTEGER DEFAULT 0,
+                    created_by INTEGER NOT NULL,
+                    created_at DATETIME,
+                    status TEXT,
+                    archived_at DATETIME DEFAULT CURRENT_TIMESTAMP
+                )
+            """);
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS archive.project_members (
+                    id INTEGER PRIMARY KEY,
+                    project_id INTEGER NOT NULL,
+                    user_id INTEGER NOT NULL,
+                    role TEXT NOT NULL,
+                    joined_at DATETIME,
+                    FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE,
+                    UNIQUE(project_id, user_id)
+                )
+            """);
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS archive.tasks (
+                    task_id INTEGER PRIMARY KEY,
+                    project_id INTEGER NOT NULL,
+                    title TEXT NOT NULL,
+                    assignee_id INTEGER,
+                    status TEXT NOT NULL,
+                    weight INTEGER NOT NULL,
+                    created_at DATETIME,
+                    FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE
+                )
+            """);
+            stmt.execute(progressHistoryTable("IF NOT EXISTS archive.progress_history"));
+            stmt.execute(progressRollupTable("IF NOT EXISTS archive.progress_rollup"));
+
+            // The hot tables' index names, so "include archive" searches walk the same indexes on both sides
+            stmt.execute("CREATE INDEX IF NOT EXISTS archive.idx_projects_status_created ON projects(status, created_at)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS archive.idx_projects_created_by ON projects(created_by, created_at)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS archive.idx_projects_created ON projects(created_at)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS archive.idx_projects_name ON projects(project_name COLLATE NOCASE)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS archive.idx_projects_progress ON projects(project_progress)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS archive.idx_project_members_joined ON project_members(project_id, joined_at, id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS archive.idx_project_members_user ON project_members(user_id, project_id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS archive.idx_tasks_project ON tasks(project_id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS archive.idx_progress_history_project ON progress_history(project_id, ts)");
+        }
+
+        archiveSchemaEnsuredFor = getArchivePath();
+    }
+
+    private static void attach(Connection conn) throws SQLException {
+        if (connection != null && connection == archiveAttachedTo) return;
+
+        try (PreparedStatement attach = conn.prepareStatement("ATTACH DATABASE ? AS archive")) {
+            attach.setString(1, getArchivePath());
+            attach.execute();
+        }
+
+        archiveAttachedTo = connection;
+        LOG.debug("Archive attached: {}", getArchivePath());
+    }
+
     /**
      * Creates application tables if they do not already exist.
      * Should be called once during application startup.
      */
     public static void initializeDatabase() {
 
+        migrateProjectMembersToCascade();
+        migrateProjectsToMemberCount();
+
         try (Connection conn = getConnection();
              Statement stmt = conn.createStatement()) {
 
@@ -61,30 +255,515 @@ public class DatabaseManager {
                     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
                     status TEXT DEFAULT 'not started'
                         CHECK(status IN ('not started', 'in progress', 'completed', 'published')),
+                    member_count INTEGER NOT NULL DEFAULT 0,
                     FOREIGN KEY (created_by) REFERENCES users(user_id)
                 )
             """);
 
-            // Project members (many-to-many relationship)
+            // Project members (many-to-many relationship); go with their project or user
+            stmt.execute(projectMembersTable("IF NOT EXISTS project_members"));
+
+            // Member list paging: keyset range scans on (joined_at, id), optionally per role
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_project_members_joined
+                    ON project_members(project_id, joined_at, id)
+            """);
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_project_members_role_joined
+                    ON project_members(project_id, role, joined_at, id)
+            """);
+
+            // A user's projects (Dashboard, "member of" filter) without scanning every membership
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_project_members_user
+                    ON project_members(user_id, project_id)
+            """);
+
+            createMemberCountTriggers(stmt);
+
+            // Project search: status filter and creator filter, both in created_at order
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_projects_status_created
+                    ON projects(status, created_at)
+            """);
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_projects_created_by
+                    ON projects(created_by, created_at)
+            """);
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_projects_created
+                    ON projects(created_at)
+            """);
+
+            // Browse sort orders other than date, so a page stops after LIMIT rows instead of sorting every project
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_projects_name
+                    ON projects(project_name COLLATE NOCASE)
+            """);
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_projects_progress
+                    ON projects(project_progress)
+            """);
+
+            // Bulk import: projects are named by (owner, name) in CSV files, and members are matched the same way
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_projects_owner_name
+                    ON projects(created_by, project_name)
+            """);
+
+            // Bulk import progress per CSV file, committed together with the rows it counts
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS import_checkpoints (
+                    source TEXT PRIMARY KEY,
+                    file_size INTEGER NOT NULL,
+                    rows_done INTEGER NOT NULL,
+                    finished INTEGER NOT NULL DEFAULT 0,
+                    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP
+                )
+            """);
+
+            // Project activity log, append-only. No foreign keys: the history of a deleted
+            // project or user stays. ts is UTC text with milliseconds, set when the change is made.
             stmt.execute("""
-                CREATE TABLE IF NOT EXISTS project_members (
+                CREATE TABLE IF NOT EXISTS project_activity (
+                    id INTEGER PRIMARY KEY,
+                    project_id INTEGER NOT NULL,
+                    actor_id INTEGER,
+                    action TEXT NOT NULL
+                        CHECK(action IN ('progress', 'status', 'joined', 'left', 'role')),
+                    subject_id INTEGER,
+                    detail TEXT,
+                    ts TEXT NOT NULL
+                )
+            """);
+
+            // Timeline: newest first per project, keyset range scans on (ts, id)
+            stmt.execute("""
+                CREATE INDEX IF NOT EXISTS idx_project_activity_timeline
+                    ON project_activity(project_id, ts, id)
+            """);
+
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS project_activity_no_update
+                BEFORE UPDATE ON project_activity
+                BEGIN SELECT RAISE(ABORT, 'project_activity is append-only'); END
+            """);
+            stmt.execute("""
+                CREATE TRIGGER IF NOT EXISTS project_activity_no_delete
+                BEFORE DELETE ON project_activity
+                BEGIN SELECT RAISE(ABORT, 'project_activity is append-only'); END
+            """);
+
+            createProgressHistory(stmt);
+            createTasks(stmt);
+
+            LOG.info("Database initialized: {}", databaseUrl);
+
+        } catch (SQLException e) {
+            LOG.error("Database initialization failed", e);
+        }
+    }
+
+    /**
+     * Keeps projects.member_count equal to the project's number of rows in project_members,
+     * so screens that list projects show member counts without counting memberships.
+     *
+     * <p>Triggers add or subtract one as memberships are inserted, deleted or moved, in the
+     * statement that changed them; {@code INSERT OR IGNORE} of an existing membership inserts
+     * nothing and counts nothing. {@link ProjectMemberDAO#repairMemberCounts()} finds and
+     * fixes any drift.</p>
+     */
+    private static void createMemberCountTriggers(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TRIGGER IF NOT EXISTS project_members_count_insert
+            AFTER INSERT ON project_members
+            BEGIN
+                UPDATE projects SET member_count = member_count + 1 WHERE project_id = NEW.project_id;
+            END
+        """);
+        stmt.execute("""
+            CREATE TRIGGER IF NOT EXISTS project_members_count_delete
+            AFTER DELETE ON project_members
+            BEGIN
+                UPDATE projects SET member_count = member_count - 1 WHERE project_id = OLD.project_id;
+            END
+        """);
+        stmt.execute("""
+            CREATE TRIGGER IF NOT EXISTS project_members_count_move
+            AFTER UPDATE OF project_id ON project_members
+            WHEN NEW.project_id IS NOT OLD.project_id
+            BEGIN
+                UPDATE projects SET member_count = member_count - 1 WHERE project_id = OLD.project_id;
+                UPDATE projects SET member_count = member_count + 1 WHERE project_id = NEW.project_id;
+            END
+        """);
+    }
+
+    /**
+     * Creates the progress time series: every value a project's progress has had
+     * (progress_history), and its day, week and month rollups (progress_rollup).
+     *
+     * <p>Both are filled by triggers, so every write path is covered (the DAOs, the bulk
+     * importer) and the rollups stay current as samples arrive: a progress change adds one
+     * sample and updates three rollup rows, in the statement that made it. Every change is
+     * its own sample, however close together: a rollup only ever adds. A chart reads
+     * at most a few hundred rollup rows however long the history is. Buckets are UTC; weeks
+     * start on Monday.</p>
+     *
+     * <p>A database that had no history yet is given one sample per project at its current
+     * progress, plus the progress changes already in the activity log.</p>
+     */
+    private static void createProgressHistory(Statement stmt) throws SQLException {
+        boolean backfill;
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT 1 FROM sqlite_schema WHERE type = 'table' AND name = 'progress_history'")) {
+            backfill = !rs.next();
+        }
+
+        stmt.execute(progressHistoryTable("IF NOT EXISTS progress_history"));
+        stmt.execute(progressRollupTable("IF NOT EXISTS progress_rollup"));
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_progress_history_project ON progress_history(project_id, ts)");
+
+        // A new project starts its history at its creation time (imports may set an old one)
+        stmt.execute("""
+            CREATE TRIGGER IF NOT EXISTS projects_progress_insert
+            AFTER INSERT ON projects
+            BEGIN
+                INSERT INTO progress_history (project_id, ts, progress)
+                VALUES (NEW.project_id, COALESCE(CAST(strftime('%s', NEW.created_at) AS INTEGER), unixepoch()),
+                        COALESCE(NEW.project_progress, 0));
+            END
+        """);
+        stmt.execute("""
+            CREATE TRIGGER IF NOT EXISTS projects_progress_update
+            AFTER UPDATE OF project_progress ON projects
+            WHEN NEW.project_progress IS NOT OLD.project_progress
+            BEGIN
+                INSERT INTO progress_history (project_id, ts, progress)
+                VALUES (NEW.project_id, unixepoch(), COALESCE(NEW.project_progress, 0));
+            END
+        """);
+
+        StringBuilder rollup = new StringBuilder("""
+            CREATE TRIGGER IF NOT EXISTS progress_history_rollup
+            AFTER INSERT ON progress_history
+            BEGIN
+        """);
+        for (ProgressBucket.Granularity granularity : ProgressBucket.Granularity.values()) {
+            rollup.append("""
+                INSERT INTO progress_rollup VALUES
+                    (NEW.project_id, '%s', %s, 1, NEW.progress, NEW.progress, NEW.progress, NEW.ts, NEW.progress)
+                ON CONFLICT (project_id, granularity, bucket_start) DO UPDATE SET
+                    samples = samples + 1,
+                    min_progress = min(min_progress, excluded.min_progress),
+                    max_progress = max(max_progress, excluded.max_progress),
+                    sum_progress = sum_progress + excluded.sum_progress,
+                    last_progress = CASE WHEN excluded.last_ts >= last_ts THEN excluded.last_progress ELSE last_progress END,
+                    last_ts = max(last_ts, excluded.last_ts);
+            """.formatted(granularity.dbValue(), bucketStart(granularity, "NEW.ts")));
+        }
+        stmt.execute(rollup.append("END").toString());
+
+        if (backfill) {
+            long start = System.nanoTime();
+            int samples = stmt.executeUpdate("""
+                INSERT INTO progress_history (project_id, ts, progress)
+                SELECT project_id, ts, progress FROM (
+                    SELECT project_id, CAST(strftime('%s', ts) AS INTEGER) AS ts, CAST(detail AS INTEGER) AS progress
+                    FROM project_activity a WHERE action = 'progress'
+                      AND EXISTS (SELECT 1 FROM projects p WHERE p.project_id = a.project_id)
+                    UNION ALL
+                    SELECT project_id, unixepoch(), COALESCE(project_progress, 0) FROM projects
+                ) ORDER BY ts
+            """);
+            LOG.info("Progress history started with {} samples in {} ms", samples, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Creates the tasks table and the per-project totals a project's progress is derived from.
+     *
+     * <p>Triggers keep project_task_totals current by delta: adding, removing or changing a task
+     * adds or subtracts that one task's count and weight, and the project's progress is then set
+     * from its totals row, {@code weight_done * 100 / weight_total}. Nothing ever sums a project's
+     * tasks, so a change costs the same with ten tasks or a hundred thousand. The progress update
+     * in turn records a progress_history sample, like any other progress change. A project whose
+     * last task is deleted keeps the progress it had.</p>
+     */
+    private static void createTasks(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS tasks (
+                task_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                project_id INTEGER NOT NULL,
+                title TEXT NOT NULL,
+                assignee_id INTEGER,
+                status TEXT NOT NULL DEFAULT 'todo'
+                    CHECK(status IN ('todo', 'in progress', 'done')),
+                weight INTEGER NOT NULL DEFAULT 1 CHECK(weight > 0),
+                created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+                FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE,
+                FOREIGN KEY (assignee_id) REFERENCES users(user_id) ON DELETE SET NULL
+            )
+        """);
+
+        // Task list paging in task_id (rowid) order, all tasks or one status; the first also serves the cascade
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_tasks_project
+                ON tasks(project_id)
+        """);
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_tasks_project_status
+                ON tasks(project_id, status)
+        """);
+        // Unassigning a deleted user's tasks (ON DELETE SET NULL) without scanning every task
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_tasks_assignee
+                ON tasks(assignee_id)
+        """);
+
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS project_task_totals (
+                project_id INTEGER PRIMARY KEY,
+                tasks INTEGER NOT NULL,
+                tasks_done INTEGER NOT NULL,
+                weight_total INTEGER NOT NULL,
+                weight_done INTEGER NOT NULL,
+                FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE
+            )
+        """);
+
+        stmt.execute("""
+            CREATE TRIGGER IF NOT EXISTS tasks_totals_insert
+            AFTER INSERT ON tasks
+            BEGIN
+                %s
+                %s
+            END
+        """.formatted(addTaskTotals("NEW"), deriveProgress("NEW.project_id")));
+        stmt.execute("""
+            CREATE TRIGGER IF NOT EXISTS tasks_totals_delete
+            AFTER DELETE ON tasks
+            BEGIN
+                %s
+                %s
+            END
+        """.formatted(subtractTaskTotals("OLD"), deriveProgress("OLD.project_id")));
+        // Only the columns the totals depend on; renaming or reassigning a task changes nothing here
+        stmt.execute("""
+            CREATE TRIGGER IF NOT EXISTS tasks_totals_update
+            AFTER UPDATE OF project_id, status, weight ON tasks
+            WHEN NEW.project_id IS NOT OLD.project_id OR NEW.status IS NOT OLD.status OR NEW.weight IS NOT OLD.weight
+            BEGIN
+                %s
+                %s
+                %s
+                %s
+            END
+        """.formatted(subtractTaskTotals("OLD"), addTaskTotals("NEW"),
+                deriveProgress("OLD.project_id"), deriveProgress("NEW.project_id")));
+    }
+
+    /** @return Trigger statement adding task {@code row} (NEW or OLD) to its project's totals */
+    private static String addTaskTotals(String row) {
+        return """
+                INSERT INTO project_task_totals (project_id, tasks, tasks_done, weight_total, weight_done)
+                VALUES (%1$s.project_id, 1, %1$s.status = 'done', %1$s.weight, IIF(%1$s.status = 'done', %1$s.weight, 0))
+                ON CONFLICT (project_id) DO UPDATE SET
+                    tasks = tasks + 1,
+                    tasks_done = tasks_done + excluded.tasks_done,
+                    weight_total = weight_total + excluded.weight_total,
+                    weight_done = weight_done + excluded.weight_done;
+                """.formatted(row);
+    }
+
+    /** @return Trigger statement subtracting task {@code row} (NEW or OLD) from its project's totals */
+    private static String subtractTaskTotals(String row) {
+        return """
+                UPDATE project_task_totals SET
+                    tasks = tasks - 1,
+                    tasks_done = tasks_done - (%1$s.status = 'done'),
+                    weight_total = weight_total - %1$s.weight,
+                    weight_done = weight_done - IIF(%1$s.status = 'done', %1$s.weight, 0)
+                WHERE project_id = %1$s.project_id;
+                """.formatted(row);
+    }
+
+    /**
+     * @param projectId SQL expression of the project whose totals changed
+     * @return Trigger statement setting the project's progress from its totals, if it has task
+     *         weight and the value differs (so an unchanged percentage records no history sample)
+     */
+    private static String deriveProgress(String projectId) {
+        return """
+                UPDATE projects SET project_progress = t.progress
+                FROM (SELECT weight_done * 100 / weight_total AS progress FROM project_task_totals
+                      WHERE project_id = %1$s AND weight_total > 0) t
+                WHERE projects.project_id = %1$s AND projects.project_progress IS NOT t.progress;
+                """.formatted(projectId);
+    }
+
+    /**
+     * @param ts SQL expression of a time in unix seconds
+     * @return SQL expression of the start of the bucket containing it, in unix seconds
+     */
+    private static String bucketStart(ProgressBucket.Granularity granularity, String ts) {
+        return switch (granularity) {
+            case DAY -> "(%1$s - %1$s %% 86400)".formatted(ts);
+            // 1970-01-05, day 4 of the epoch, was a Monday
+            case WEEK -> "(%1$s - (%1$s - 345600) %% 604800)".formatted(ts);
+            case MONTH -> "CAST(strftime('%%s', %s, 'unixepoch', 'start of month') AS INTEGER)".formatted(ts);
+        };
+    }
+
+    /**
+     * DDL of the progress_history table, with {@code name} e.g. {@code "IF NOT EXISTS progress_history"}.
+     * One row per change, ts in unix seconds; the rowid keeps changes within the same second apart.
+     * Like the rollups, the rows go with their project when it is deleted or archived.
+     */
+    private static String progressHistoryTable(String name) {
+        return """
+                CREATE TABLE %s (
+                    id INTEGER PRIMARY KEY,
+                    project_id INTEGER NOT NULL,
+                    ts INTEGER NOT NULL,
+                    progress INTEGER NOT NULL,
+                    FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE
+                )
+            """.formatted(name);
+    }
+
+    /** DDL of the progress_rollup table, with {@code name} e.g. {@code "IF NOT EXISTS progress_rollup"} */
+    private static String progressRollupTable(String name) {
+        return """
+                CREATE TABLE %s (
+                    project_id INTEGER NOT NULL,
+                    granularity TEXT NOT NULL CHECK(granularity IN ('day', 'week', 'month')),
+                    bucket_start INTEGER NOT NULL,
+                    samples INTEGER NOT NULL,
+                    min_progress INTEGER NOT NULL,
+                    max_progress INTEGER NOT NULL,
+                    sum_progress INTEGER NOT NULL,
+                    last_ts INTEGER NOT NULL,
+                    last_progress INTEGER NOT NULL,
+                    PRIMARY KEY (project_id, granularity, bucket_start),
+                    FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE
+                ) WITHOUT ROWID
+            """.formatted(name);
+    }
+
+    /** DDL of the project_members table, with {@code name} e.g. {@code "IF NOT EXISTS project_members"} */
+    private static String projectMembersTable(String name) {
+        return """
+                CREATE TABLE %s (
                     id INTEGER PRIMARY KEY AUTOINCREMENT,
                     project_id INTEGER NOT NULL,
                     user_id INTEGER NOT NULL,
                     role TEXT NOT NULL,
                     joined_at DATETIME DEFAULT CURRENT_TIMESTAMP,
-                    FOREIGN KEY (project_id) REFERENCES projects(project_id),
-                    FOREIGN KEY (user_id) REFERENCES users(user_id),
+                    FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE,
+                    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
                     UNIQUE(project_id, user_id)
                 )
-            """);
+            """.formatted(name);
+    }
+
+    /**
+     * Rebuilds a project_members table created before its foreign keys cascaded.
+     *
+     * <p>SQLite cannot change a constraint in place, so the rows are copied into a new table
+     * that replaces the old one, in one transaction; its indexes are recreated by
+     * {@link #initializeDatabase()} afterwards. Memberships left behind by earlier deletes are
+     * not copied, which is cheaper than deleting them from the old table first. Runs once: a
+     * table that already cascades, or does not exist yet, is left alone.</p>
+     */
+    private static void migrateProjectMembersToCascade() {
+        try {
+            if (!projectMembersNeedCascade()) return;
+
+            long start = System.nanoTime();
+            int orphans;
+
+            try (UnitOfWork unit = UnitOfWork.begin();
+                 Statement stmt = unit.connection().createStatement()) {
+                stmt.execute(projectMembersTable("project_members_cascade"));
+                // Orphaned rows are left out: the new table's foreign keys would reject them anyway
+                int kept = stmt.executeUpdate("""
+                    INSERT INTO project_members_cascade (id, project_id, user_id, role, joined_at)
+                    SELECT pm.id, pm.project_id, pm.user_id, pm.role, pm.joined_at FROM project_members pm
+                    WHERE EXISTS (SELECT 1 FROM projects p WHERE p.project_id = pm.project_id)
+                      AND EXISTS (SELECT 1 FROM users u WHERE u.user_id = pm.user_id)
+                """);
+                try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM project_members")) {
+                    orphans = rs.next() ? rs.getInt(1) - kept : 0;
+                }
+                stmt.execute("DROP TABLE project_members");
+                stmt.execute("ALTER TABLE project_members_cascade RENAME TO project_members");
+                unit.commit();
+            }
 
-            System.out.println("Database initialized successfully.");
+            LOG.info("Migrated project_members to ON DELETE CASCADE in {} ms ({} orphaned rows removed)",
+                    (System.nanoTime() - start) / 1_000_000, orphans);
 
         } catch (SQLException e) {
-            System.err.println("Database initialization failed: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Migrating project_members to ON DELETE CASCADE failed", e);
+        }
+    }
+
+    /** @return Whether project_members exists with a foreign key that does not cascade on delete */
+    private static boolean projectMembersNeedCascade() throws SQLException {
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA foreign_key_list(project_members)")) {
+            while (rs.next()) {
+                if (!"CASCADE".equalsIgnoreCase(rs.getString("on_delete"))) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Adds projects.member_count to a projects table created before it existed, filled from
+     * one grouped pass over the memberships index, in one transaction with the new column.
+     * Runs once: a table that already has the column, or does not exist yet, is left alone.
+     */
+    private static void migrateProjectsToMemberCount() {
+        try {
+            if (!projectsNeedMemberCount()) return;
+
+            long start = System.nanoTime();
+            int projects;
+
+            try (UnitOfWork unit = UnitOfWork.begin();
+                 Statement stmt = unit.connection().createStatement()) {
+                stmt.execute("ALTER TABLE projects ADD COLUMN member_count INTEGER NOT NULL DEFAULT 0");
+                projects = stmt.executeUpdate("""
+                    UPDATE projects SET member_count = c.members
+                    FROM (SELECT project_id, COUNT(*) AS members FROM project_members GROUP BY project_id) c
+                    WHERE projects.project_id = c.project_id
+                """);
+                unit.commit();
+            }
+
+            LOG.info("Added projects.member_count in {} ms ({} projects with members)",
+                    (System.nanoTime() - start) / 1_000_000, projects);
+
+        } catch (SQLException e) {
+            LOG.error("Adding projects.member_count failed", e);
+        }
+    }
+
+    /** @return Whether projects exists without a member_count column */
+    private static boolean projectsNeedMemberCount() throws SQLException {
+        boolean exists = false;
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(projects)")) {
+            while (rs.next()) {
+                if ("member_count".equals(rs.getString("name"))) return false;
+                exists = true;
+            }
         }
+        return exists;
     }
 
     /**
@@ -95,10 +774,10 @@ public class DatabaseManager {
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
-                System.out.println("Database connection closed.");
+                LOG.debug("Database connection closed");
             }
         } catch (SQLException e) {
-            System.err.println("Error closing database connection: " + e.getMessage());
+            LOG.warn("Error closing database connection", e);
         }
     }
 }
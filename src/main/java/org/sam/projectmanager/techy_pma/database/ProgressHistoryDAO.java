@@ -0,0 +1,141 @@
+package org.sam.projectmanager.techy_pma.database;
+
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.models.ProgressBucket;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Data Access Object for the progress time series (progress_history and progress_rollup).
+ *
+ * <p>Both tables are written by triggers whenever a project's progress changes
+ * (see {@link DatabaseManager#initializeDatabase()}), so this class only reads.
+ * Charts read the rollups, never the raw samples. An archived project's history moved
+ * to the archive with it and is read from there.</p>
+ */
+public class ProgressHistoryDAO {
+
+    private static final Logger LOG = Log.getLogger(ProgressHistoryDAO.class);
+
+    private static final String ARCHIVE = "archive";
+
+    /**
+     * Get a project's latest progress buckets of one granularity, oldest first.
+     * One range scan of the rollup table's primary key, however long the history.
+     * @param projectId The project ID
+     * @param granularity Day, week or month buckets
+     * @param limit Maximum number of buckets, counted back from the latest
+     * @return List of ProgressBucket objects in time order; buckets without a change are absent
+     */
+    public static List<ProgressBucket> getBuckets(int projectId, ProgressBucket.Granularity granularity, int limit) {
+        return readBuckets("main", projectId, granularity, limit);
+    }
+
+    /**
+     * Get an archived project's latest progress buckets of one granularity, oldest first.
+     * @param projectId The archived project's ID
+     * @param granularity Day, week or month buckets
+     * @param limit Maximum number of buckets, counted back from the latest
+     * @return List of ProgressBucket objects in time order; buckets without a change are absent
+     */
+    public static List<ProgressBucket> getArchivedBuckets(int projectId, ProgressBucket.Granularity granularity, int limit) {
+        return readBuckets(ARCHIVE, projectId, granularity, limit);
+    }
+
+    /**
+     * Get when a project's recorded history begins, to pick a chart's granularity.
+     * @param projectId The project ID
+     * @return Start of the first month with a sample (UTC), or null if there is none
+     */
+    public static LocalDateTime getHistoryStart(int projectId) {
+        return readHistoryStart("main", projectId);
+    }
+
+    /**
+     * Get when an archived project's recorded history begins.
+     * @param projectId The archived project's ID
+     * @return Start of the first month with a sample (UTC), or null if there is none
+     */
+    public static LocalDateTime getArchivedHistoryStart(int projectId) {
+        return readHistoryStart(ARCHIVE, projectId);
+    }
+
+    /** Reads the rollups of {@code schema}, {@code "main"} or {@code "archive"} */
+    private static List<ProgressBucket> readBuckets(String schema, int projectId, ProgressBucket.Granularity granularity, int limit) {
+        List<ProgressBucket> buckets = new ArrayList<>();
+        String sql = """
+            SELECT bucket_start, samples, min_progress, max_progress, sum_progress, last_progress
+            FROM %s.progress_rollup
+            WHERE project_id = ? AND granularity = ?
+            ORDER BY bucket_start DESC LIMIT ?
+        """.formatted(schema);
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            if (ARCHIVE.equals(schema)) DatabaseManager.attachArchive(conn);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, projectId);
+                stmt.setString(2, granularity.dbValue());
+                stmt.setInt(3, limit);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        int samples = rs.getInt("samples");
+                        buckets.add(new ProgressBucket(
+                                toDateTime(rs.getLong("bucket_start")),
+                                samples,
+                                rs.getInt("min_progress"),
+                                rs.getInt("max_progress"),
+                                (double) rs.getLong("sum_progress") / samples,
+                                rs.getInt("last_progress")
+                        ));
+                    }
+                }
+            }
+            Collections.reverse(buckets);
+
+        } catch (SQLException e) {
+            LOG.error("Error getting progress buckets", e);
+        }
+
+        return buckets;
+    }
+
+    private static LocalDateTime readHistoryStart(String schema, int projectId) {
+        String sql = "SELECT MIN(bucket_start) FROM %s.progress_rollup WHERE project_id = ? AND granularity = 'month'"
+                .formatted(schema);
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            if (ARCHIVE.equals(schema)) DatabaseManager.attachArchive(conn);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, projectId);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        long start = rs.getLong(1);
+                        if (!rs.wasNull()) return toDateTime(start);
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting progress history start", e);
+        }
+
+        return null;
+    }
+
+    private static LocalDateTime toDateTime(long epochSeconds) {
+        return LocalDateTime.ofEpochSecond(epochSeconds, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,142 @@
+package org.sam.projectmanager.techy_pma.database;
+
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.models.ProjectActivity;
+import org.sam.projectmanager.techy_pma.utils.Session;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object for the project activity log (project_activity table).
+ *
+ * <p>The write DAOs record their changes here; nothing else writes to the table, and
+ * triggers reject updates and deletes. Rows go through an {@link ActivityAppender}, which
+ * writes them in batches on its own thread, so recording never adds a statement or a
+ * commit to the change being recorded. A change made inside a {@link UnitOfWork} is only
+ * recorded once the unit commits it.</p>
+ *
+ * <p>The price is a short delay, and rows queued when the JVM dies abruptly are lost:
+ * the log describes what happened, it is not needed for the data to be correct.</p>
+ */
+public class ProjectActivityDAO {
+
+    private static final Logger LOG = Log.getLogger(ProjectActivityDAO.class);
+
+    // ts is UTC with milliseconds, so a burst of changes keeps its order
+    private static final DateTimeFormatter TS_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private static final ActivityAppender APPENDER = new ActivityAppender();
+
+    // Switched off with -Dtechy.activity=false, or by benchmarks measuring the log's cost
+    private static volatile boolean enabled = !"false".equals(System.getProperty("techy.activity"));
+
+    /**
+     * Records a change to a project, done by the logged-in user, once it is committed.
+     * @param projectId The changed project
+     * @param action What happened
+     * @param subjectId The member it happened to, or null
+     * @param detail The new value, or null
+     */
+    static void record(int projectId, ProjectActivity.Action action, Integer subjectId, String detail) {
+        if (!enabled) return;
+
+        int userId = Session.getCurrentUserId();
+        ActivityAppender.Entry entry = new ActivityAppender.Entry(projectId, userId == -1 ? null : userId,
+                action.dbValue(), subjectId, detail, LocalDateTime.now(ZoneOffset.UTC).format(TS_FORMAT));
+        UnitOfWork.afterCommit(() -> APPENDER.append(entry));
+    }
+
+    /**
+     * Get one page of a project's activity, newest first (keyset pagination on {@code ts, id}).
+     *
+     * <p>Pass the last entry of the previous page as {@code after} to fetch the next,
+     * older page. Each page is one range scan of the timeline index.</p>
+     *
+     * @param projectId The project ID
+     * @param after The last entry of the previous page, or null for the newest entries
+     * @param limit Maximum number of entries to return
+     * @return List of ProjectActivity objects, at most {@code limit} long
+     */
+    public static List<ProjectActivity> getTimelinePage(int projectId, ProjectActivity after, int limit) {
+        List<ProjectActivity> page = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("""
+            SELECT a.*, actor.username AS actor_name, subject.username AS subject_name
+            FROM project_activity a
+            LEFT JOIN users actor ON actor.user_id = a.actor_id
+            LEFT JOIN users subject ON subject.user_id = a.subject_id
+            WHERE a.project_id = ?
+        """);
+        if (after != null) sql.append(" AND (a.ts, a.id) < (?, ?)");
+        sql.append(" ORDER BY a.ts DESC, a.id DESC LIMIT ?");
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            int index = 1;
+            stmt.setInt(index++, projectId);
+            if (after != null) {
+                stmt.setString(index++, after.getTimestamp().format(TS_FORMAT));
+                stmt.setLong(index++, after.getId());
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    page.add(mapResultSetToActivity(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting activity page", e);
+        }
+
+        return page;
+    }
+
+    /**
+     * Runs {@code callback} once everything recorded so far is in the table, e.g. to refresh
+     * a timeline after a change. It runs on the log's writer thread, or right away if
+     * nothing is pending.
+     */
+    public static void whenWritten(Runnable callback) {
+        APPENDER.whenWritten(callback);
+    }
+
+    /** Waits (a few seconds at most) until everything recorded so far is in the table */
+    public static void flush() {
+        APPENDER.flush();
+    }
+
+    /** Turns recording on or off; changes made while off leave no trace */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    private static ProjectActivity mapResultSetToActivity(ResultSet rs) throws SQLException {
+        return new ProjectActivity(
+                rs.getLong("id"),
+                rs.getInt("project_id"),
+                nullableInt(rs, "actor_id"),
+                rs.getString("actor_name"),
+                ProjectActivity.Action.fromDbValue(rs.getString("action")),
+                nullableInt(rs, "subject_id"),
+                rs.getString("subject_name"),
+                rs.getString("detail"),
+                LocalDateTime.parse(rs.getString("ts"), TS_FORMAT)
+        );
+    }
+
+    private static Integer nullableInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
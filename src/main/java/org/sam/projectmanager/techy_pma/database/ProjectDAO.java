@@ -1,10 +1,15 @@
 package org.sam.projectmanager.techy_pma.database;
 
 import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
 import org.sam.projectmanager.techy_pma.models.Project;
+import org.sam.projectmanager.techy_pma.models.ProjectActivity;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -13,6 +18,11 @@ import java.util.List;
  */
 public class ProjectDAO {
 
+    private static final Logger LOG = Log.getLogger(ProjectDAO.class);
+
+    // Projects per DELETE in deleteProjects(); with their cascaded memberships, ~60 ms of write lock each on the 1-CPU box
+    private static final int DELETE_CHUNK_SIZE = 100;
+
     /**
      * Insert a new project into the database
      * @param project The project object to insert
@@ -40,15 +50,14 @@ public class ProjectDAO {
                     if (generatedKeys.next()) {
                         int projectId = generatedKeys.getInt(1);
                         project.setProjectId(projectId);  // Update the project object with the ID
-                        System.out.println("✓ Project inserted successfully with ID: " + projectId);
+                        LOG.info("Project inserted with ID {}", projectId);
                         return projectId;
                     }
                 }
             }
 
         } catch (SQLException e) {
-            System.err.println("Error inserting project: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error inserting project", e);
         }
 
         return -1;  // Failed
@@ -74,8 +83,7 @@ public class ProjectDAO {
             }
 
         } catch (SQLException e) {
-            System.err.println("Error getting project by ID: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting project by ID", e);
         }
 
         return null;
@@ -97,11 +105,10 @@ public class ProjectDAO {
                 projects.add(mapResultSetToProject(rs));
             }
 
-            System.out.println("✓ Retrieved " + projects.size() + " projects");
+            LOG.debug("Retrieved {} projects", projects.size());
 
         } catch (SQLException e) {
-            System.err.println("Error getting all projects: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting all projects", e);
         }
 
         return projects;
@@ -127,11 +134,10 @@ public class ProjectDAO {
                 }
             }
 
-            System.out.println("✓ Retrieved " + projects.size() + " projects created by user " + userId);
+            LOG.debug("Retrieved {} projects created by user {}", projects.size(), userId);
 
         } catch (SQLException e) {
-            System.err.println("Error getting projects by user: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting projects by user", e);
         }
 
         return projects;
@@ -162,11 +168,10 @@ public class ProjectDAO {
                 }
             }
 
-            System.out.println("✓ Retrieved " + projects.size() + " projects for user " + userId);
+            LOG.debug("Retrieved {} projects for user {}", projects.size(), userId);
 
         } catch (SQLException e) {
-            System.err.println("Error getting projects for user: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting projects for user", e);
         }
 
         return projects;
@@ -192,20 +197,21 @@ public class ProjectDAO {
             int affectedRows = stmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("✓ Project updated successfully");
+                LOG.info("Project {} updated", project.getProjectId());
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("Error updating project: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating project", e);
         }
 
         return false;
     }
 
     /**
-     * Update only the progress of a project
+     * Update only the progress of a project.
+     * A project with tasks has its progress derived from them ({@link TaskDAO}); a value set
+     * here holds only until one of its tasks next changes.
      * @param projectId The project ID
      * @param progress The new progress value (0-100)
      * @return true if update successful, false otherwise
@@ -226,13 +232,13 @@ public class ProjectDAO {
             int affectedRows = stmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("✓ Project progress updated to " + progress + "%");
+                LOG.info("Project {} progress updated to {}%", projectId, progress);
+                ProjectActivityDAO.record(projectId, ProjectActivity.Action.PROGRESS, null, String.valueOf(progress));
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("Error updating progress: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating progress", e);
         }
 
         return false;
@@ -256,20 +262,20 @@ public class ProjectDAO {
             int affectedRows = stmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("✓ Project status updated to '" + status + "'");
+                LOG.info("Project {} status updated to '{}'", projectId, status);
+                ProjectActivityDAO.record(projectId, ProjectActivity.Action.STATUS, null, status);
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("Error updating status: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating status", e);
         }
 
         return false;
     }
 
     /**
-     * Delete a project from the database
+     * Delete a project from the database; its memberships go with it (ON DELETE CASCADE)
      * @param projectId The ID of the project to delete
      * @return true if deletion successful, false otherwise
      */
@@ -284,18 +290,60 @@ public class ProjectDAO {
             int affectedRows = stmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("✓ Project deleted successfully");
+                LOG.info("Project {} deleted", projectId);
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("Error deleting project: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error deleting project", e);
         }
 
         return false;
     }
 
+    /**
+     * Delete many projects, and with them their memberships, a chunk at a time.
+     *
+     * <p>Each chunk of {@value #DELETE_CHUNK_SIZE} projects is one statement and one
+     * transaction, so the write lock is released between chunks and other writers are
+     * held up for one chunk at most, not for the whole list. A failure stops the deletion;
+     * chunks already deleted stay deleted. Called inside a {@link UnitOfWork}, all chunks
+     * join its single transaction instead.</p>
+     *
+     * @param projectIds IDs of the projects to delete; unknown IDs and duplicates are ignored
+     * @return Number of projects deleted
+     */
+    public static int deleteProjects(Collection<Integer> projectIds) {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(projectIds));
+        if (ids.isEmpty()) return 0;
+
+        int deleted = 0;
+        int chunks = 0;
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+                String sql = "DELETE FROM projects WHERE project_id IN (" + "?, ".repeat(chunk.size() - 1) + "?)";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setInt(i + 1, chunk.get(i));
+                    }
+                    deleted += stmt.executeUpdate();
+                    chunks++;
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error deleting projects; " + deleted + " were deleted before the failure", e);
+        }
+
+        int done = deleted;
+        int chunkCount = chunks;
+        LOG.info(() -> String.format("Deleted %d of %d projects in %d chunk(s)", done, ids.size(), chunkCount));
+        return deleted;
+    }
+
     /**
      * Search projects by name (case-insensitive partial match)
      * @param searchTerm The search term
@@ -316,11 +364,42 @@ public class ProjectDAO {
                 }
             }
 
-            System.out.println("✓ Found " + projects.size() + " projects matching '" + searchTerm + "'");
+            LOG.debug("Found {} projects matching '{}'", projects.size(), searchTerm);
+
+        } catch (SQLException e) {
+            LOG.error("Error searching projects", e);
+        }
+
+        return projects;
+    }
+
+    /**
+     * Find projects matching a combination of criteria in a single query
+     * @param query The search criteria (name, statuses, creator, membership, sort, limit, archive)
+     * @return List of matching projects in the requested order
+     */
+    public static List<Project> findProjects(ProjectQuery query) {
+        List<Project> projects = new ArrayList<>();
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            if (query.includesArchive()) DatabaseManager.attachArchive(conn);
+
+            try (PreparedStatement stmt = conn.prepareStatement(query.toSql())) {
+                query.bind(stmt);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        Project project = mapResultSetToProject(rs);
+                        if (query.includesArchive()) project.setArchived(rs.getBoolean("archived"));
+                        projects.add(project);
+                    }
+                }
+            }
+
+            LOG.debug("Found {} projects matching query", projects.size());
 
         } catch (SQLException e) {
-            System.err.println("Error searching projects: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error finding projects", e);
         }
 
         return projects;
@@ -346,11 +425,10 @@ public class ProjectDAO {
                 }
             }
 
-            System.out.println("✓ Retrieved " + projects.size() + " projects with status '" + status + "'");
+            LOG.debug("Retrieved {} projects with status '{}'", projects.size(), status);
 
         } catch (SQLException e) {
-            System.err.println("Error getting projects by status: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting projects by status", e);
         }
 
         return projects;
@@ -363,7 +441,7 @@ public class ProjectDAO {
      * @throws SQLException if there's an error reading the ResultSet
      */
     private static Project mapResultSetToProject(ResultSet rs) throws SQLException {
-        return new Project(
+        Project project = new Project(
                 rs.getInt("project_id"),
                 rs.getString("project_name"),
                 rs.getString("project_description"),
@@ -372,5 +450,7 @@ public class ProjectDAO {
                 rs.getTimestamp("created_at").toLocalDateTime(),
                 rs.getString("status")
         );
+        project.setMemberCount(rs.getInt("member_count"));
+        return project;
     }
 }
\ No newline at end of file
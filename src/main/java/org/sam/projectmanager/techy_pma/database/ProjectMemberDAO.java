@@ -1,10 +1,18 @@
 package org.sam.projectmanager.techy_pma.database;
 
 import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.models.MemberProfile;
+import org.sam.projectmanager.techy_pma.models.ProjectActivity;
 import org.sam.projectmanager.techy_pma.models.ProjectMember;
+import org.sam.projectmanager.techy_pma.models.User;
 
 import java.sql.*;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -13,6 +21,17 @@ import java.util.List;
  */
 public class ProjectMemberDAO {
 
+    private static final Logger LOG = Log.getLogger(ProjectMemberDAO.class);
+
+    // Membership ids checked per statement by deleteOrphans()
+    private static final int ORPHAN_SCAN_CHUNK = 10_000;
+
+    // Project ids recounted per statement by repairMemberCounts()
+    private static final int MEMBER_COUNT_SCAN_CHUNK = 10_000;
+
+    // Matches the text SQLite writes for DEFAULT CURRENT_TIMESTAMP, used for keyset cursors
+    private static final DateTimeFormatter JOINED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     /**
      * Add a member to a project
      * @param member The ProjectMember object to insert
@@ -35,7 +54,9 @@ public class ProjectMemberDAO {
                     if (generatedKeys.next()) {
                         int id = generatedKeys.getInt(1);
                         member.setId(id);
-                        System.out.println("✓ Member added to project successfully");
+                        LOG.info("User {} added to project {}", member.getUserId(), member.getProjectId());
+                        ProjectActivityDAO.record(member.getProjectId(), ProjectActivity.Action.JOINED,
+                                member.getUserId(), member.getRole());
                         return id;
                     }
                 }
@@ -44,16 +65,73 @@ public class ProjectMemberDAO {
         } catch (SQLException e) {
             // Check if it's a duplicate entry error
             if (e.getMessage().contains("UNIQUE constraint failed")) {
-                System.err.println("Error: User is already a member of this project");
+                LOG.warn("User {} is already a member of project {}", member.getUserId(), member.getProjectId());
             } else {
-                System.err.println("Error adding member: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("Error adding member", e);
             }
         }
 
         return -1;
     }
 
+    /**
+     * Add several users to a project with the same role, in one transaction.
+     *
+     * <p>The inserts go out as one JDBC batch and are committed once, instead of one
+     * statement, commit and generated-key lookup per user as with {@link #addMember}.
+     * Users who already belong to the project are skipped ({@code INSERT OR IGNORE}),
+     * so inviting someone twice is harmless. If any insert fails, none are kept.
+     * Called inside a {@link UnitOfWork}, the inserts join it and commit with it.</p>
+     *
+     * @param projectId The project ID
+     * @param userIds Users to add; duplicates are ignored
+     * @param role Role given to every new member, one of {@link ProjectMember#getAllowedRoles()}
+     * @return IDs of the users who were newly added, in the order given; empty on failure
+     * @throws IllegalArgumentException if the role is not allowed
+     */
+    public static List<Integer> addMembers(int projectId, Collection<Integer> userIds, String role) {
+        if (!ProjectMember.getAllowedRoles().contains(role)) {
+            throw new IllegalArgumentException("Invalid role: " + role);
+        }
+
+        List<Integer> candidates = new ArrayList<>(new LinkedHashSet<>(userIds));
+        if (candidates.isEmpty()) return List.of();
+
+        String sql = "INSERT OR IGNORE INTO project_members (project_id, user_id, role) VALUES (?, ?, ?)";
+        List<Integer> added = new ArrayList<>();
+
+        try (UnitOfWork unit = UnitOfWork.begin();
+             PreparedStatement stmt = unit.connection().prepareStatement(sql)) {
+
+            for (int userId : candidates) {
+                stmt.setInt(1, projectId);
+                stmt.setInt(2, userId);
+                stmt.setString(3, role);
+                stmt.addBatch();
+            }
+
+            // One count per row: 1 if inserted, 0 if the membership already existed
+            int[] counts = stmt.executeBatch();
+            unit.commit();
+
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) added.add(candidates.get(i));
+            }
+            for (int userId : added) {
+                ProjectActivityDAO.record(projectId, ProjectActivity.Action.JOINED, userId, role);
+            }
+
+            LOG.info(() -> String.format("Added %d of %d users to project %d as %s",
+                    added.size(), candidates.size(), projectId, role));
+            return added;
+
+        } catch (SQLException e) {
+            LOG.error("Error adding members to project " + projectId, e);
+        }
+
+        return List.of();
+    }
+
     /**
      * Get all members of a specific project
      * @param projectId The project ID
@@ -74,11 +152,97 @@ public class ProjectMemberDAO {
                 }
             }
 
-            System.out.println("✓ Retrieved " + members.size() + " members for project " + projectId);
+            LOG.debug("Retrieved {} members for project {}", members.size(), projectId);
 
         } catch (SQLException e) {
-            System.err.println("Error getting members by project: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting members by project", e);
+        }
+
+        return members;
+    }
+
+    /**
+     * Get one page of a project's members together with their user records,
+     * ordered by join time (keyset pagination on {@code joined_at, id}).
+     *
+     * <p>Pass the last profile of the previous page as {@code after} to fetch the next
+     * page. Each page is a single indexed range scan, no matter how deep it is.</p>
+     *
+     * @param projectId The project ID
+     * @param role Only return members with this role, or null for every role
+     * @param after The last membership of the previous page, or null for the first page
+     * @param limit Maximum number of members to return
+     * @return List of MemberProfile objects, at most {@code limit} long
+     */
+    public static List<MemberProfile> getMemberPage(int projectId, String role, ProjectMember after, int limit) {
+        List<MemberProfile> page = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("""
+            SELECT pm.*, u.username, u.email, u.created_at AS user_created_at
+            FROM project_members pm
+            INNER JOIN users u ON u.user_id = pm.user_id
+            WHERE pm.project_id = ?
+        """);
+        if (role != null) sql.append(" AND pm.role = ?");
+        if (after != null) sql.append(" AND (pm.joined_at, pm.id) > (?, ?)");
+        sql.append(" ORDER BY pm.joined_at ASC, pm.id ASC LIMIT ?");
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            int index = 1;
+            stmt.setInt(index++, projectId);
+            if (role != null) stmt.setString(index++, role);
+            if (after != null) {
+                // joined_at is stored as CURRENT_TIMESTAMP text, so compare in the same format
+                stmt.setString(index++, after.getJoinedAt().format(JOINED_AT_FORMAT));
+                stmt.setInt(index++, after.getId());
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    page.add(mapResultSetToMemberProfile(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting member page", e);
+        }
+
+        return page;
+    }
+
+    /**
+     * Get the members of an archived project, in join order.
+     * Archived projects are read-only and small, so the list comes in one piece rather than in pages.
+     * @param projectId The archived project's ID
+     * @return Members still present in the users table, with their profile
+     */
+    public static List<MemberProfile> getArchivedMembers(int projectId) {
+        List<MemberProfile> members = new ArrayList<>();
+        String sql = """
+            SELECT pm.*, u.username, u.email, u.created_at AS user_created_at
+            FROM archive.project_members pm
+            INNER JOIN users u ON u.user_id = pm.user_id
+            WHERE pm.project_id = ?
+            ORDER BY pm.joined_at ASC, pm.id ASC
+        """;
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            DatabaseManager.attachArchive(conn);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, projectId);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        members.add(mapResultSetToMemberProfile(rs));
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting archived members", e);
         }
 
         return members;
@@ -104,11 +268,10 @@ public class ProjectMemberDAO {
                 }
             }
 
-            System.out.println("✓ User " + userId + " is a member of " + memberships.size() + " projects");
+            LOG.debug("User {} is a member of {} projects", userId, memberships.size());
 
         } catch (SQLException e) {
-            System.err.println("Error getting projects by user: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting projects by user", e);
         }
 
         return memberships;
@@ -136,8 +299,7 @@ public class ProjectMemberDAO {
             }
 
         } catch (SQLException e) {
-            System.err.println("Error getting user role: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting user role", e);
         }
 
         return null;
@@ -165,8 +327,7 @@ public class ProjectMemberDAO {
             }
 
         } catch (SQLException e) {
-            System.err.println("Error checking membership: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error checking membership", e);
         }
 
         return false;
@@ -192,13 +353,13 @@ public class ProjectMemberDAO {
             int affectedRows = stmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("✓ User role updated to '" + newRole + "'");
+                LOG.info("User {} role updated to '{}'", userId, newRole);
+                ProjectActivityDAO.record(projectId, ProjectActivity.Action.ROLE, userId, newRole);
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("Error updating role: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating role", e);
         }
 
         return false;
@@ -222,30 +383,154 @@ public class ProjectMemberDAO {
             int affectedRows = stmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("✓ Member removed from project");
+                LOG.info("User {} removed from project {}", userId, projectId);
+                ProjectActivityDAO.record(projectId, ProjectActivity.Action.LEFT, userId, null);
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("Error removing member: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error removing member", e);
         }
 
         return false;
     }
 
     /**
-     * Get count of members in a project
+     * Delete memberships whose project or user no longer exists, left behind by deletes
+     * made before foreign keys were enforced.
+     *
+     * <p>The table is walked in id ranges of {@value #ORPHAN_SCAN_CHUNK}, one statement and
+     * one short transaction per range, so other writers are never held up for long.</p>
+     *
+     * @return Number of memberships deleted
+     */
+    public static int deleteOrphans() {
+        String sql = """
+            DELETE FROM project_members WHERE id IN (
+                SELECT pm.id FROM project_members pm
+                WHERE pm.id > ? AND pm.id <= ?
+                  AND (NOT EXISTS (SELECT 1 FROM projects p WHERE p.project_id = pm.project_id)
+                       OR NOT EXISTS (SELECT 1 FROM users u WHERE u.user_id = pm.user_id))
+            )
+        """;
+        int deleted = 0;
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            long maxId;
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT MAX(id) FROM project_members")) {
+                maxId = rs.next() ? rs.getLong(1) : 0;
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (long from = 0; from < maxId; from += ORPHAN_SCAN_CHUNK) {
+                    stmt.setLong(1, from);
+                    stmt.setLong(2, from + ORPHAN_SCAN_CHUNK);
+                    deleted += stmt.executeUpdate();
+                }
+            }
+
+            if (deleted > 0) LOG.info("Deleted {} orphaned memberships", deleted);
+
+        } catch (SQLException e) {
+            LOG.error("Error deleting orphaned memberships", e);
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Recounts every project's members and corrects any projects.member_count that differs.
+     *
+     * <p>The triggers on project_members keep the column exact for every insert, delete and
+     * move, so this normally changes nothing. It repairs what bypasses them: rows written with
+     * triggers dropped or with {@code INSERT OR REPLACE} (whose implicit delete fires no trigger),
+     * or a database file edited by another tool. Projects are walked in id ranges of
+     * {@value #MEMBER_COUNT_SCAN_CHUNK}, one statement and one short transaction per range,
+     * each count an index range scan of idx_project_members_joined.</p>
+     *
+     * @return Number of projects whose count was wrong
+     */
+    public static int repairMemberCounts() {
+        String sql = """
+            UPDATE projects SET member_count = c.members
+            FROM (
+                SELECT p.project_id,
+                       (SELECT COUNT(*) FROM project_members pm WHERE pm.project_id = p.project_id) AS members
+                FROM projects p
+                WHERE p.project_id > ? AND p.project_id <= ?
+            ) c
+            WHERE projects.project_id = c.project_id AND projects.member_count <> c.members
+        """;
+        int repaired = 0;
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            long maxId;
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT MAX(project_id) FROM projects")) {
+                maxId = rs.next() ? rs.getLong(1) : 0;
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (long from = 0; from < maxId; from += MEMBER_COUNT_SCAN_CHUNK) {
+                    stmt.setLong(1, from);
+                    stmt.setLong(2, from + MEMBER_COUNT_SCAN_CHUNK);
+                    repaired += stmt.executeUpdate();
+                }
+            }
+
+            if (repaired > 0) LOG.warn("Repaired the member count of {} projects", repaired);
+
+        } catch (SQLException e) {
+            LOG.error("Error repairing member counts", e);
+        }
+
+        return repaired;
+    }
+
+    /**
+     * Get count of members in a project.
+     * Reads projects.member_count, kept current by triggers, rather than counting memberships.
      * @param projectId The project ID
      * @return Number of members
      */
     public static int getMemberCount(int projectId) {
-        String sql = "SELECT COUNT(*) FROM project_members WHERE project_id = ?";
+        String sql = "SELECT member_count FROM projects WHERE project_id = ?";
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, projectId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting member count", e);
+        }
+
+        return 0;
+    }
+
+    /**
+     * Get count of members in a project with a given role
+     * @param projectId The project ID
+     * @param role The role to count, or null to count every member
+     * @return Number of matching members
+     */
+    public static int getMemberCount(int projectId, String role) {
+        if (role == null) return getMemberCount(projectId);
+
+        String sql = "SELECT COUNT(*) FROM project_members WHERE project_id = ? AND role = ?";
 
         try (Connection conn = DatabaseManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, projectId);
+            stmt.setString(2, role);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
@@ -254,8 +539,7 @@ public class ProjectMemberDAO {
             }
 
         } catch (SQLException e) {
-            System.err.println("Error getting member count: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting member count by role", e);
         }
 
         return 0;
@@ -276,4 +560,22 @@ public class ProjectMemberDAO {
                 rs.getTimestamp("joined_at").toLocalDateTime()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Helper method to map a joined project_members + users row to a MemberProfile object
+     * @param rs The ResultSet positioned at a valid row
+     * @return MemberProfile object created from the row data
+     * @throws SQLException if there's an error reading the ResultSet
+     */
+    private static MemberProfile mapResultSetToMemberProfile(ResultSet rs) throws SQLException {
+        Timestamp userCreatedAt = rs.getTimestamp("user_created_at");
+        User user = new User(
+                rs.getInt("user_id"),
+                rs.getString("username"),
+                rs.getString("email"),
+                null,
+                userCreatedAt != null ? userCreatedAt.toLocalDateTime() : null
+        );
+        return new MemberProfile(mapResultSetToProjectMember(rs), user);
+    }
+}
@@ -0,0 +1,267 @@
+package org.sam.projectmanager.techy_pma.database;
+
+import org.sam.projectmanager.techy_pma.metrics.Counter;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Search criteria for projects, compiled into a single parameterized SQL statement.
+ *
+ * <p>Every predicate is pushed into SQLite, so the database only returns the rows
+ * that will be displayed. Unset criteria are left out of the statement entirely.</p>
+ *
+ * <pre>{@code
+ * ProjectQuery query = new ProjectQuery()
+ *         .nameContains("web")
+ *         .statusIn(List.of("in progress", "completed"))
+ *         .sortBy(ProjectQuery.SortKey.NAME)
+ *         .limit(100);
+ * List<Project> projects = ProjectDAO.findProjects(query);
+ * }</pre>
+ *
+ * <p>With {@link #includeArchive(boolean)} the same criteria also run against the archive
+ * database, one SELECT per database joined by UNION ALL. SQLite merges the two ordered arms,
+ * each walking its own copy of the sort index, so the archive adds a second index walk rather
+ * than a sort of both tables.</p>
+ *
+ * <p>The generated SQL only depends on the <i>shape</i> of the criteria (which filters
+ * are set, how many statuses, the sort key, whether there is a limit), not on the values,
+ * so it is built once per shape and cached. Values are always bound as parameters.</p>
+ */
+public class ProjectQuery {
+
+    /** Supported orderings, each ending with project_id so results are deterministic */
+    public enum SortKey {
+        NEWEST("p.created_at DESC, p.project_id DESC"),
+        OLDEST("p.created_at ASC, p.project_id ASC"),
+        NAME("p.project_name COLLATE NOCASE ASC, p.project_id ASC"),
+        PROGRESS("p.project_progress DESC, p.project_id DESC");
+
+        private final String orderBy;
+
+        SortKey(String orderBy) {
+            this.orderBy = orderBy;
+        }
+    }
+
+    // Columns both databases share, listed because archive.projects has an extra archived_at
+    // and no member_count (archived memberships are not counted)
+    private static final String UNION_COLUMNS = "p.project_id, p.project_name, p.project_description, "
+            + "p.project_progress, p.created_by, p.created_at, p.status";
+
+    // Compiled SQL per criteria shape — the number of shapes is small and bounded
+    private static final Map<String, String> SQL_CACHE = new ConcurrentHashMap<>();
+    private static final Counter SQL_CACHE_HITS = Metrics.counter("db.querySqlCache.hits");
+    private static final Counter SQL_CACHE_MISSES = Metrics.counter("db.querySqlCache.misses");
+
+    static {
+        Metrics.gauge("db.querySqlCache.hitRate", () -> {
+            long hits = SQL_CACHE_HITS.get();
+            long total = hits + SQL_CACHE_MISSES.get();
+            return total == 0 ? 0 : (double) hits / total;
+        });
+    }
+
+    private String nameTerm;                           // Case-insensitive partial match, null = any
+    private final List<String> statuses = new ArrayList<>();  // Empty = any status
+    private Integer createdBy;                         // Creator user ID, null = any
+    private Integer memberOf;                          // Member user ID, null = any
+    private SortKey sortKey = SortKey.NEWEST;
+    private int limit;                                 // 0 = no limit
+    private boolean includeArchive;                    // Also search archive.projects
+
+    /**
+     * Only match projects whose name contains the term (case-insensitive).
+     * A null or blank term removes the filter.
+     *
+     * @param term The search term
+     * @return this query
+     */
+    public ProjectQuery nameContains(String term) {
+        this.nameTerm = (term == null || term.isBlank()) ? null : term.trim();
+        return this;
+    }
+
+    /**
+     * Only match projects with one of the given statuses.
+     * An empty collection removes the filter.
+     *
+     * @param statuses The allowed status values, e.g. "in progress"
+     * @return this query
+     */
+    public ProjectQuery statusIn(Collection<String> statuses) {
+        this.statuses.clear();
+        for (String status : statuses) {
+            String normalized = status.toLowerCase();
+            if (!this.statuses.contains(normalized)) this.statuses.add(normalized);
+        }
+        return this;
+    }
+
+    /**
+     * Only match projects created by the given user.
+     *
+     * @param userId The creator's user ID
+     * @return this query
+     */
+    public ProjectQuery createdBy(int userId) {
+        this.createdBy = userId;
+        return this;
+    }
+
+    /**
+     * Only match projects the given user is a member of (any role).
+     *
+     * @param userId The member's user ID
+     * @return this query
+     */
+    public ProjectQuery memberOf(int userId) {
+        this.memberOf = userId;
+        return this;
+    }
+
+    /**
+     * Sets the result order. Defaults to {@link SortKey#NEWEST}, matching the other DAO list methods.
+     *
+     * @param sortKey The ordering to apply
+     * @return this query
+     */
+    public ProjectQuery sortBy(SortKey sortKey) {
+        this.sortKey = sortKey;
+        return this;
+    }
+
+    /**
+     * Caps the number of returned rows. Zero or less means no limit.
+     *
+     * @param limit Maximum number of projects to return
+     * @return this query
+     */
+    public ProjectQuery limit(int limit) {
+        this.limit = Math.max(limit, 0);
+        return this;
+    }
+
+    /**
+     * Also match archived projects, which come back with {@link org.sam.projectmanager.techy_pma.models.Project#isArchived()} set.
+     * Off by default: everyday screens only search the hot tables.
+     *
+     * @param includeArchive Whether to search the archive database as well
+     * @return this query
+     */
+    public ProjectQuery includeArchive(boolean includeArchive) {
+        this.includeArchive = includeArchive;
+        return this;
+    }
+
+    /**
+     * @return true if the statement reads the archive, which must then be attached
+     */
+    boolean includesArchive() {
+        return includeArchive;
+    }
+
+    /**
+     * Returns the SQL for this query's shape, compiling and caching it on first use.
+     *
+     * @return A parameterized SELECT over {@code projects p}
+     */
+    String toSql() {
+        String key = shapeKey();
+        String sql = SQL_CACHE.get(key);
+        if (sql != null) {
+            SQL_CACHE_HITS.increment();
+            return sql;
+        }
+        SQL_CACHE_MISSES.increment();
+        return SQL_CACHE.computeIfAbsent(key, k -> compile());
+    }
+
+    /**
+     * Binds this query's values to a statement prepared from {@link #toSql()}.
+     *
+     * @param stmt The prepared statement
+     * @throws SQLException if a parameter cannot be set
+     */
+    void bind(PreparedStatement stmt) throws SQLException {
+        int index = bindFilters(stmt, 1);
+        // The archive arm repeats the same filters
+        if (includeArchive) index = bindFilters(stmt, index);
+        if (limit > 0) stmt.setInt(index, limit);
+    }
+
+    /** @return The next parameter index */
+    private int bindFilters(PreparedStatement stmt, int index) throws SQLException {
+        if (nameTerm != null) stmt.setString(index++, "%" + escapeLike(nameTerm) + "%");
+        for (String status : statuses) stmt.setString(index++, status);
+        if (createdBy != null) stmt.setInt(index++, createdBy);
+        if (memberOf != null) stmt.setInt(index++, memberOf);
+        return index;
+    }
+
+    /** Identifies the statement text: which predicates are present, not their values */
+    private String shapeKey() {
+        return (nameTerm != null ? "n" : "-")
+                + statuses.size()
+                + (createdBy != null ? "c" : "-")
+                + (memberOf != null ? "m" : "-")
+                + sortKey.name()
+                + (limit > 0 ? "L" : "-")
+                + (includeArchive ? "A" : "-");
+    }
+
+    /** Builds the SQL text for this query's shape */
+    private String compile() {
+        StringBuilder sql = new StringBuilder();
+        if (includeArchive) {
+            appendSelect(sql, "SELECT " + UNION_COLUMNS + ", p.member_count, 0 AS archived FROM main.projects p", "main.project_members");
+            sql.append(" UNION ALL ");
+            appendSelect(sql, "SELECT " + UNION_COLUMNS + ", 0 AS member_count, 1 AS archived FROM archive.projects p", "archive.project_members");
+        } else {
+            appendSelect(sql, "SELECT p.* FROM projects p", "project_members");
+        }
+
+        // On a UNION ALL this orders and limits the merged result; SQLite matches the p. terms to its columns
+        sql.append(" ORDER BY ").append(sortKey.orderBy);
+        if (limit > 0) {
+            sql.append(" LIMIT ?");
+        }
+        return sql.toString();
+    }
+
+    /** Appends one SELECT with this query's filters, reading memberships from {@code membersTable} */
+    private void appendSelect(StringBuilder sql, String select, String membersTable) {
+        sql.append(select);
+        List<String> where = new ArrayList<>();
+
+        if (nameTerm != null) {
+            where.add("p.project_name LIKE ? ESCAPE '\\'");
+        }
+        if (!statuses.isEmpty()) {
+            where.add("p.status IN (" + "?, ".repeat(statuses.size() - 1) + "?)");
+        }
+        if (createdBy != null) {
+            where.add("p.created_by = ?");
+        }
+        if (memberOf != null) {
+            // Driven from the user's memberships, so the cost follows their project count, not the table size
+            where.add("p.project_id IN (SELECT pm.project_id FROM " + membersTable + " pm WHERE pm.user_id = ?)");
+        }
+
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", where));
+        }
+    }
+
+    /** Escapes LIKE wildcards so a search for "50%" matches the literal text */
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
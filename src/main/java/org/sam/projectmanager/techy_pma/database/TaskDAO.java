@@ -0,0 +1,292 @@
+package org.sam.projectmanager.techy_pma.database;
+
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.models.Task;
+import org.sam.projectmanager.techy_pma.models.TaskTotals;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object for Task entity.
+ * Handles all database operations for the tasks table.
+ *
+ * <p>Every write here also moves the project's progress: triggers on tasks apply the
+ * changed task's count and weight to project_task_totals and set the project's progress
+ * from those totals (see {@link DatabaseManager#initializeDatabase()}), in the same
+ * statement. No call re-reads the project's other tasks.</p>
+ */
+public class TaskDAO {
+
+    private static final Logger LOG = Log.getLogger(TaskDAO.class);
+
+    /**
+     * Add a task to a project
+     * @param task The Task object to insert
+     * @return The generated task ID, or -1 if failed
+     */
+    public static int insertTask(Task task) {
+        String sql = "INSERT INTO tasks (project_id, title, assignee_id, status, weight) VALUES (?, ?, ?, ?, ?)";
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setInt(1, task.getProjectId());
+            stmt.setString(2, task.getTitle());
+            setAssignee(stmt, 3, task.getAssigneeId());
+            stmt.setString(4, task.getStatus());
+            stmt.setInt(5, task.getWeight());
+
+            int affectedRows = stmt.executeUpdate();
+
+            if (affectedRows > 0) {
+                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        int taskId = generatedKeys.getInt(1);
+                        task.setTaskId(taskId);
+                        LOG.info("Task {} added to project {}", taskId, task.getProjectId());
+                        return taskId;
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error inserting task", e);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Get one page of a project's tasks, oldest first (keyset pagination on {@code task_id}).
+     *
+     * <p>Pass the last task of the previous page as {@code after} to fetch the next page.
+     * Each page is a single indexed range scan, however many tasks the project has.</p>
+     *
+     * @param projectId The project ID
+     * @param status Only return tasks with this status, or null for every status
+     * @param after The last task of the previous page, or null for the first page
+     * @param limit Maximum number of tasks to return
+     * @return List of Task objects with their assignee's username, at most {@code limit} long
+     */
+    public static List<Task> getTaskPage(int projectId, String status, Task after, int limit) {
+        List<Task> page = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("""
+            SELECT t.*, u.username AS assignee_name
+            FROM tasks t
+            LEFT JOIN users u ON u.user_id = t.assignee_id
+            WHERE t.project_id = ?
+        """);
+        if (status != null) sql.append(" AND t.status = ?");
+        if (after != null) sql.append(" AND t.task_id > ?");
+        sql.append(" ORDER BY t.task_id ASC LIMIT ?");
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            int index = 1;
+            stmt.setInt(index++, projectId);
+            if (status != null) stmt.setString(index++, status);
+            if (after != null) stmt.setInt(index++, after.getTaskId());
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    page.add(mapResultSetToTask(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting task page", e);
+        }
+
+        return page;
+    }
+
+    /**
+     * Get the tasks of an archived project, oldest first.
+     * Archived projects are read-only, so the list comes in one piece rather than in pages.
+     * @param projectId The archived project's ID
+     * @return List of Task objects with their assignee's username
+     */
+    public static List<Task> getArchivedTasks(int projectId) {
+        List<Task> tasks = new ArrayList<>();
+        String sql = """
+            SELECT t.*, u.username AS assignee_name
+            FROM archive.tasks t
+            LEFT JOIN users u ON u.user_id = t.assignee_id
+            WHERE t.project_id = ?
+            ORDER BY t.task_id ASC
+        """;
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            DatabaseManager.attachArchive(conn);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, projectId);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        tasks.add(mapResultSetToTask(rs));
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting archived tasks", e);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Get a project's task counts and weights.
+     * One primary key lookup: the totals are maintained as tasks change, not counted here.
+     * @param projectId The project ID
+     * @return The totals, all zero if the project has never had a task
+     */
+    public static TaskTotals getTotals(int projectId) {
+        String sql = "SELECT tasks, tasks_done, weight_total, weight_done FROM project_task_totals WHERE project_id = ?";
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, projectId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return new TaskTotals(rs.getInt(1), rs.getInt(2), rs.getLong(3), rs.getLong(4));
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting task totals", e);
+        }
+
+        return new TaskTotals(0, 0, 0, 0);
+    }
+
+    /**
+     * Update only the status of a task
+     * @param taskId The task ID
+     * @param status The new status, one of {@link Task#getAllowedStatuses()}
+     * @return true if update successful, false otherwise
+     * @throws IllegalArgumentException if the status is not allowed
+     */
+    public static boolean updateStatus(int taskId, String status) {
+        if (!Task.getAllowedStatuses().contains(status)) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+
+        String sql = "UPDATE tasks SET status = ? WHERE task_id = ?";
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, status);
+            stmt.setInt(2, taskId);
+
+            int affectedRows = stmt.executeUpdate();
+
+            if (affectedRows > 0) {
+                LOG.info("Task {} status updated to '{}'", taskId, status);
+                return true;
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error updating task status", e);
+        }
+
+        return false;
+    }
+
+    /**
+     * Update an existing task's title, assignee, status and weight
+     * @param task The Task object with updated information
+     * @return true if update successful, false otherwise
+     */
+    public static boolean updateTask(Task task) {
+        String sql = "UPDATE tasks SET title = ?, assignee_id = ?, status = ?, weight = ? WHERE task_id = ?";
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, task.getTitle());
+            setAssignee(stmt, 2, task.getAssigneeId());
+            stmt.setString(3, task.getStatus());
+            stmt.setInt(4, task.getWeight());
+            stmt.setInt(5, task.getTaskId());
+
+            int affectedRows = stmt.executeUpdate();
+
+            if (affectedRows > 0) {
+                LOG.info("Task {} updated", task.getTaskId());
+                return true;
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error updating task", e);
+        }
+
+        return false;
+    }
+
+    /**
+     * Delete a task
+     * @param taskId The task ID to delete
+     * @return true if deletion successful, false otherwise
+     */
+    public static boolean deleteTask(int taskId) {
+        String sql = "DELETE FROM tasks WHERE task_id = ?";
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, taskId);
+
+            int affectedRows = stmt.executeUpdate();
+
+            if (affectedRows > 0) {
+                LOG.info("Task {} deleted", taskId);
+                return true;
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error deleting task", e);
+        }
+
+        return false;
+    }
+
+    private static void setAssignee(PreparedStatement stmt, int index, Integer assigneeId) throws SQLException {
+        if (assigneeId != null) {
+            stmt.setInt(index, assigneeId);
+        } else {
+            stmt.setNull(index, Types.INTEGER);
+        }
+    }
+
+    /**
+     * Helper method to map a tasks row, joined with the assignee's username, to a Task object
+     * @param rs The ResultSet positioned at a valid row
+     * @return Task object created from the row data
+     * @throws SQLException if there's an error reading the ResultSet
+     */
+    private static Task mapResultSetToTask(ResultSet rs) throws SQLException {
+        int assigneeId = rs.getInt("assignee_id");
+        boolean unassigned = rs.wasNull();
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new Task(
+                rs.getInt("task_id"),
+                rs.getInt("project_id"),
+                rs.getString("title"),
+                unassigned ? null : assigneeId,
+                rs.getString("assignee_name"),
+                rs.getString("status"),
+                rs.getInt("weight"),
+                createdAt != null ? createdAt.toLocalDateTime() : null
+        );
+    }
+}
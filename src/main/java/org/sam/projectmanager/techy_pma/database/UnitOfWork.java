@@ -0,0 +1,231 @@
+package org.sam.projectmanager.techy_pma.database;
+
+import org.sam.projectmanager.techy_pma.diagnostics.Span;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.metrics.Counter;
+import org.sam.projectmanager.techy_pma.metrics.LatencyHistogram;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs several DAO calls on one connection, in one transaction, with one commit.
+ *
+ * <p>While a unit of work is open, {@link DatabaseManager#getConnection()} hands every DAO on
+ * the same thread a view of its connection instead of the usual one: closing the view, as the
+ * DAOs do after each call, leaves the transaction open, and its own commit/rollback calls are
+ * absorbed by the unit. Nothing is written until {@link #commit()}; closing without committing
+ * rolls everything back.</p>
+ * <pre>
+ * try (UnitOfWork unit = UnitOfWork.begin()) {
+ *     int projectId = ProjectDAO.insertProject(project);
+ *     if (projectId > 0 &amp;&amp; ProjectMemberDAO.addMember(owner) > 0) unit.commit();
+ * }
+ * </pre>
+ *
+ * <p>DAOs report failures through their return values, so the caller checks them and
+ * only commits when every step succeeded.</p>
+ *
+ * <p>Beginning a unit while one is already open on the thread joins it: the inner
+ * {@link #commit()} only marks the inner work as done, and closing the inner unit without
+ * committing makes the outer commit roll back instead. The outermost unit may commit more
+ * than once, e.g. every N rows of a bulk load; each commit makes the work so far durable and
+ * the unit carries on. A unit belongs to the thread that began it.</p>
+ */
+public final class UnitOfWork implements AutoCloseable {
+
+    private static final Logger LOG = Log.getLogger(UnitOfWork.class);
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private static final Counter COMMITTED = Metrics.counter("db.unitsOfWork.committed");
+    private static final Counter ROLLED_BACK = Metrics.counter("db.unitsOfWork.rolledBack");
+    private static final LatencyHistogram COMMIT_LATENCY = Metrics.histogram("db.unitsOfWork.commitLatency");
+
+    private final UnitOfWork outer;
+    private final Connection connection;
+    private final Connection view;
+    private final Span span;   // outermost unit only
+
+    private boolean committed;
+    private boolean closed;
+
+    // Outermost unit only: set when an inner unit or a DAO rolled back; the unit can then no longer commit
+    private boolean rollbackOnly;
+
+    // Outermost unit only: work to do once what is pending is committed, dropped if it is rolled back
+    private final List<Runnable> afterCommit = new ArrayList<>();
+
+    private UnitOfWork(UnitOfWork outer, Connection connection, Connection view, Span span) {
+        this.outer = outer;
+        this.connection = connection;
+        this.view = view;
+        this.span = span;
+    }
+
+    /**
+     * Starts a unit of work on this thread, or joins the one already open.
+     *
+     * @throws SQLException if the connection cannot be opened or the transaction started
+     */
+    public static UnitOfWork begin() throws SQLException {
+        UnitOfWork current = CURRENT.get();
+        if (current != null) {
+            return new UnitOfWork(current, current.connection, current.view, null);
+        }
+
+        Connection connection = DatabaseManager.openConnection();
+        connection.setAutoCommit(false);
+        UnitOfWork unit = new UnitOfWork(null, connection, nonClosingView(connection),
+                Tracer.span("unit of work", Tracer.CATEGORY_DAO));
+        CURRENT.set(unit);
+        return unit;
+    }
+
+    /** @return The connection of the unit open on this thread, as handed to DAOs, or null outside one */
+    static Connection currentConnection() {
+        UnitOfWork current = CURRENT.get();
+        return current == null ? null : current.view;
+    }
+
+    /**
+     * Runs {@code action} once the work done so far on this thread is committed: right away
+     * outside a unit of work (the DAO call already auto-committed), otherwise after the
+     * outermost unit's next successful commit. If the unit rolls back, the action never runs.
+     */
+    static void afterCommit(Runnable action) {
+        UnitOfWork current = CURRENT.get();
+        if (current == null) {
+            action.run();
+        } else {
+            current.afterCommit.add(action);
+        }
+    }
+
+    /**
+     * @return The unit's connection, for statements issued outside a DAO; closing it has no effect
+     */
+    public Connection connection() {
+        return view;
+    }
+
+    /**
+     * Commits the work done so far. In an inner unit this only marks it as complete.
+     *
+     * @throws SQLException if the commit fails, or if an inner unit did not complete;
+     *                      the work is rolled back in both cases
+     */
+    public void commit() throws SQLException {
+        if (closed) throw new SQLException("Unit of work is already closed");
+        if (outer != null) {
+            committed = true;
+            return;
+        }
+
+        if (rollbackOnly) {
+            afterCommit.clear();
+            connection.rollback();
+            throw new SQLException("Unit of work rolled back: an inner unit did not complete");
+        }
+
+        long start = System.nanoTime();
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            afterCommit.clear();
+            connection.rollback();
+            throw e;
+        }
+        long end = System.nanoTime();
+        committed = true;
+        COMMIT_LATENCY.record(end - start);
+        COMMITTED.increment();
+        Tracer.complete("commit", Tracer.CATEGORY_SQL, start, end);
+
+        List<Runnable> actions = List.copyOf(afterCommit);
+        afterCommit.clear();
+        actions.forEach(Runnable::run);
+    }
+
+    /**
+     * Ends the unit. Work not committed is rolled back; for an inner unit,
+     * the outer unit will roll back too.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        if (outer != null) {
+            if (!committed) outer.rollbackOnly = true;
+            endDaoCall();
+            return;
+        }
+
+        if (!committed) ROLLED_BACK.increment();
+        afterCommit.clear();
+        try {
+            // Discards anything since the last commit; a no-op when there is nothing
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            LOG.warn("Error ending unit of work", e);
+        } finally {
+            CURRENT.remove();
+            span.arg("committed", committed).close();
+            // Like a DAO call, give the shared connection back closed
+            DatabaseManager.closeConnection();
+        }
+    }
+
+    /** Ends the trace span of the DAO call that ran in an inner unit without closing its connection */
+    private void endDaoCall() {
+        try {
+            connection.endRequest();
+        } catch (SQLException e) {
+            LOG.debug("endRequest failed: {}", e.getMessage());
+        }
+    }
+
+    // ─── CONNECTION VIEW ───
+
+    /**
+     * The connection DAOs get inside a unit: {@code close()} only marks the end of the DAO call
+     * (ending its trace span), and transaction control is left to the unit.
+     */
+    private static Connection nonClosingView(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(UnitOfWork.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            connection.endRequest();
+                            return null;
+                        }
+                        case "setAutoCommit", "commit" -> {
+                            return null;
+                        }
+                        case "rollback" -> {
+                            if (args == null) {
+                                UnitOfWork current = CURRENT.get();
+                                if (current != null) current.rollbackOnly = true;
+                                return null;
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
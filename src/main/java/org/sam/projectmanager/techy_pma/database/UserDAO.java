@@ -1,5 +1,7 @@
 package org.sam.projectmanager.techy_pma.database;
 
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
 import org.sam.projectmanager.techy_pma.models.User;
 
 import java.sql.*;
@@ -9,6 +11,8 @@ import java.util.List;
 
 public class UserDAO {
 
+    private static final Logger LOG = Log.getLogger(UserDAO.class);
+
     /**
      * Insert a new user into the database
      * Returns true if successful, false otherwise
@@ -33,13 +37,12 @@ public class UserDAO {
                 if (generatedKeys.next()) {
                     user.setUserId(generatedKeys.getInt(1));
                 }
-                System.out.println("✓ User inserted successfully: " + user.getUsername());
+                LOG.info("User inserted: {}", user.getUsername());
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("✗ Error inserting user: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error inserting user", e);
         }
 
         return false;
@@ -63,8 +66,7 @@ public class UserDAO {
             }
 
         } catch (SQLException e) {
-            System.err.println("✗ Error getting user by ID: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting user by ID", e);
         }
 
         return null;
@@ -88,8 +90,7 @@ public class UserDAO {
             }
 
         } catch (SQLException e) {
-            System.err.println("✗ Error getting user by username: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting user by username", e);
         }
 
         return null;
@@ -113,8 +114,7 @@ public class UserDAO {
             }
 
         } catch (SQLException e) {
-            System.err.println("✗ Error getting user by email: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting user by email", e);
         }
 
         return null;
@@ -137,8 +137,45 @@ public class UserDAO {
             }
 
         } catch (SQLException e) {
-            System.err.println("✗ Error getting all users: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting all users", e);
+        }
+
+        return users;
+    }
+
+    /**
+     * Find users who could be invited to a project: usernames starting with a prefix,
+     * excluding current members, in username order.
+     * The prefix match is case-sensitive so it can seek the username index.
+     * Returns at most limit users; an empty prefix lists from the start
+     */
+    public static List<User> findInvitableUsers(int projectId, String usernamePrefix, int limit) {
+        List<User> users = new ArrayList<>();
+        String sql = """
+            SELECT u.* FROM users u
+            WHERE u.username >= ? AND u.username < ?
+              AND NOT EXISTS (SELECT 1 FROM project_members pm WHERE pm.project_id = ? AND pm.user_id = u.user_id)
+            ORDER BY u.username
+            LIMIT ?
+        """;
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            // Every username with the prefix sorts below prefix + the highest code point
+            stmt.setString(1, usernamePrefix);
+            stmt.setString(2, usernamePrefix + Character.toString(Character.MAX_CODE_POINT));
+            stmt.setInt(3, projectId);
+            stmt.setInt(4, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    users.add(extractUserFromResultSet(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error finding invitable users", e);
         }
 
         return users;
@@ -162,13 +199,12 @@ public class UserDAO {
             int rowsAffected = stmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✓ User updated successfully: " + user.getUsername());
+                LOG.info("User updated: {}", user.getUsername());
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("✗ Error updating user: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating user", e);
         }
 
         return false;
@@ -188,13 +224,12 @@ public class UserDAO {
             int rowsAffected = stmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✓ User deleted successfully");
+                LOG.info("User {} deleted", userId);
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("✗ Error deleting user: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error deleting user", e);
         }
 
         return false;
@@ -0,0 +1,263 @@
+package org.sam.projectmanager.techy_pma.database.archive;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.ProjectDAO;
+import org.sam.projectmanager.techy_pma.database.ProjectQuery;
+import org.sam.projectmanager.techy_pma.database.UnitOfWork;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Moves old completed and published projects, with their memberships, tasks and progress history,
+ * out of the hot tables into the archive database ({@link DatabaseManager#getArchivePath()}).
+ *
+ * <p>Every dashboard and browse query reads {@code projects}; finished projects nobody opens
+ * any more only make those reads longer. Archived projects drop out of the everyday screens
+ * and stay findable with Browse's "Include archive" option, read-only.</p>
+ *
+ * <p>Projects move {@value #CHUNK_SIZE} at a time. Each chunk copies the project, membership, task,
+ * progress history and rollup rows into the archive and deletes them from the hot tables (the rest
+ * by cascade) in one transaction across both files, so a project is always in exactly one of them. A failure stops
+ * the run; chunks already moved stay moved, and the next run carries on with the rest.</p>
+ *
+ * <p>Age counts from {@code created_at}: projects do not record when they were completed.</p>
+ *
+ * <p>Deleting rows frees space inside the pages they were on but rarely frees whole pages,
+ * so the hot tables only get smaller on disk, and denser to scan, after {@code VACUUM}
+ * ({@code --vacuum}). VACUUM rewrites the whole database file and blocks every other
+ * connection while it runs.</p>
+ *
+ * <p>Command line, printing the hot tables' size and the latency of the Browse queries
+ * before and after the move:</p>
+ * <pre>
+ * java -cp ... org.sam.projectmanager.techy_pma.database.archive.ProjectArchiver \
+ *      --db data/projectmanager.db [--days 365] [--vacuum]
+ * </pre>
+ */
+public final class ProjectArchiver {
+
+    private static final Logger LOG = Log.getLogger(ProjectArchiver.class);
+
+    // Projects moved per transaction; keeps each write lock about as short as a ProjectDAO.deleteProjects chunk
+    static final int CHUNK_SIZE = 100;
+
+    // Minimum age of an archived project, overridable with -Dtechy.archive.afterDays or --days
+    public static final int DEFAULT_AFTER_DAYS = Integer.getInteger("techy.archive.afterDays", 365);
+
+    // Runs per query in the latency report; the median is printed
+    private static final int REPORT_RUNS = 5;
+
+    // created_at is CURRENT_TIMESTAMP text, in UTC
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String SELECT_DUE = """
+            SELECT project_id FROM main.projects
+            WHERE status IN ('completed', 'published') AND created_at < ?
+            LIMIT ?
+            """;
+
+    /** Projects and memberships moved by one run */
+    public record Result(int projects, int memberships, int chunks, long nanos) {
+
+        @Override
+        public String toString() {
+            return String.format("%,d projects and %,d memberships in %,d chunk(s), %,.1f s",
+                    projects, memberships, chunks, nanos / 1e9);
+        }
+    }
+
+    /** Size of the hot tables: rows, bytes of their table and index pages, and the row data in those pages */
+    public record HotTableSize(long projects, long memberships, long pageBytes, long payloadBytes) {
+    }
+
+    private ProjectArchiver() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            String name = args[i].substring(2);
+            boolean flag = i + 1 >= args.length || args[i + 1].startsWith("--");
+            options.put(name, flag ? "true" : args[++i]);
+        }
+
+        if (options.containsKey("db")) DatabaseManager.setDatabaseUrl("jdbc:sqlite:" + options.get("db"));
+        DatabaseManager.initializeDatabase();
+        int days = options.containsKey("days") ? Integer.parseInt(options.get("days")) : DEFAULT_AFTER_DAYS;
+
+        try {
+            HotTableSize sizeBefore = hotTableSize();
+            Map<String, Double> latencyBefore = measureBrowseQueries();
+
+            Result result = archive(days);
+            if (options.containsKey("vacuum")) vacuum();
+
+            HotTableSize sizeAfter = hotTableSize();
+            Map<String, Double> latencyAfter = measureBrowseQueries();
+
+            System.out.println("✓ Archived " + result + " to " + DatabaseManager.getArchivePath());
+            System.out.printf("%n%-28s %14s %14s%n", "", "before", "after");
+            System.out.printf("%-28s %,14d %,14d%n", "hot projects", sizeBefore.projects(), sizeAfter.projects());
+            System.out.printf("%-28s %,14d %,14d%n", "hot memberships", sizeBefore.memberships(), sizeAfter.memberships());
+            System.out.printf("%-28s %,14.1f %,14.1f%n", "hot pages (MB)",
+                    sizeBefore.pageBytes() / 1e6, sizeAfter.pageBytes() / 1e6);
+            System.out.printf("%-28s %,14.1f %,14.1f%n", "hot row data (MB)",
+                    sizeBefore.payloadBytes() / 1e6, sizeAfter.payloadBytes() / 1e6);
+            for (String query : latencyBefore.keySet()) {
+                System.out.printf("%-28s %,14.1f %,14.1f%n", query + " (ms)", latencyBefore.get(query), latencyAfter.get(query));
+            }
+        } finally {
+            Log.flush();
+        }
+    }
+
+    /**
+     * Moves every completed or published project older than {@code afterDays} to the archive.
+     *
+     * @param afterDays Minimum age in days, counted from creation
+     */
+    public static Result archive(int afterDays) throws SQLException {
+        String cutoff = LocalDateTime.now(ZoneOffset.UTC).minusDays(afterDays).format(CREATED_AT_FORMAT);
+        long start = System.nanoTime();
+        int projects = 0;
+        int memberships = 0;
+        int chunks = 0;
+
+        // Attached on the shared connection the unit takes over next; the unit closes it when done
+        DatabaseManager.ensureArchiveSchema(DatabaseManager.getConnection());
+
+        try (UnitOfWork unit = UnitOfWork.begin();
+             PreparedStatement due = unit.connection().prepareStatement(SELECT_DUE)) {
+
+            while (true) {
+                due.setString(1, cutoff);
+                due.setInt(2, CHUNK_SIZE);
+                List<Integer> ids = new ArrayList<>();
+                try (ResultSet rs = due.executeQuery()) {
+                    while (rs.next()) ids.add(rs.getInt(1));
+                }
+                if (ids.isEmpty()) break;
+
+                int[] moved = moveChunk(unit.connection(), ids);
+                unit.commit();
+                projects += moved[0];
+                memberships += moved[1];
+                chunks++;
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Archiving stopped after " + projects + " projects", e);
+            throw e;
+        }
+
+        Result result = new Result(projects, memberships, chunks, System.nanoTime() - start);
+        LOG.info("Archived {} (created before {})", result, cutoff);
+        return result;
+    }
+
+    /** Rebuilds the main database file without the space archived rows left behind */
+    public static void vacuum() throws SQLException {
+        long start = System.nanoTime();
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("VACUUM main");
+        }
+        LOG.info("VACUUM took {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** @return Projects and memberships moved */
+    private static int[] moveChunk(Connection conn, List<Integer> ids) throws SQLException {
+        String in = "(" + "?, ".repeat(ids.size() - 1) + "?)";
+        String columns = "project_id, project_name, project_description, project_progress, created_by, created_at, status";
+
+        int projects = update(conn, "INSERT INTO archive.projects (" + columns + ") SELECT " + columns
+                + " FROM main.projects WHERE project_id IN " + in, ids);
+        int memberships = update(conn, "INSERT INTO archive.project_members (id, project_id, user_id, role, joined_at)"
+                + " SELECT id, project_id, user_id, role, joined_at FROM main.project_members WHERE project_id IN " + in, ids);
+        update(conn, "INSERT INTO archive.tasks (task_id, project_id, title, assignee_id, status, weight, created_at)"
+                + " SELECT task_id, project_id, title, assignee_id, status, weight, created_at FROM main.tasks WHERE project_id IN " + in, ids);
+        update(conn, "INSERT INTO archive.progress_history (id, project_id, ts, progress)"
+                + " SELECT id, project_id, ts, progress FROM main.progress_history WHERE project_id IN " + in, ids);
+        String rollup = "project_id, granularity, bucket_start, samples, min_progress, max_progress, sum_progress, last_ts, last_progress";
+        update(conn, "INSERT INTO archive.progress_rollup (" + rollup + ") SELECT " + rollup
+                + " FROM main.progress_rollup WHERE project_id IN " + in, ids);
+        // Memberships, tasks and progress history follow by ON DELETE CASCADE
+        update(conn, "DELETE FROM main.projects WHERE project_id IN " + in, ids);
+        return new int[]{projects, memberships};
+    }
+
+    private static int update(Connection conn, String sql, List<Integer> ids) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < ids.size(); i++) {
+                stmt.setInt(i + 1, ids.get(i));
+            }
+            return stmt.executeUpdate();
+        }
+    }
+
+    // ─── REPORTING ───
+
+    /** Row counts of projects and project_members, and the bytes of their pages and rows, indexes included */
+    public static HotTableSize hotTableSize() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            long projects = single(stmt, "SELECT COUNT(*) FROM main.projects");
+            long memberships = single(stmt, "SELECT COUNT(*) FROM main.project_members");
+            try (ResultSet rs = stmt.executeQuery("""
+                    SELECT SUM(d.pgsize), SUM(d.payload) FROM dbstat('main') d
+                    JOIN main.sqlite_schema s ON s.name = d.name
+                    WHERE s.tbl_name IN ('projects', 'project_members')
+                    """)) {
+                rs.next();
+                return new HotTableSize(projects, memberships, rs.getLong(1), rs.getLong(2));
+            }
+        }
+    }
+
+    private static long single(Statement stmt, String sql) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /** @return Median milliseconds of the queries behind the Browse screen, by name */
+    private static Map<String, Double> measureBrowseQueries() {
+        Map<String, Supplier<?>> queries = new LinkedHashMap<>();
+        queries.put("Browse: all", ProjectDAO::getAllProjects);
+        queries.put("Browse: completed", () -> ProjectDAO.findProjects(new ProjectQuery().statusIn(List.of("completed"))));
+        queries.put("Browse: in progress", () -> ProjectDAO.findProjects(new ProjectQuery().statusIn(List.of("in progress"))));
+        queries.put("Browse: name A-Z, first 50", () -> ProjectDAO.findProjects(
+                new ProjectQuery().sortBy(ProjectQuery.SortKey.NAME).limit(50)));
+
+        Map<String, Double> medians = new LinkedHashMap<>();
+        queries.forEach((name, query) -> {
+            query.get();   // warmup: page cache and class loading
+            long[] nanos = new long[REPORT_RUNS];
+            for (int i = 0; i < REPORT_RUNS; i++) {
+                long start = System.nanoTime();
+                query.get();
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            medians.put(name, nanos[REPORT_RUNS / 2] / 1e6);
+        });
+        return medians;
+    }
+}
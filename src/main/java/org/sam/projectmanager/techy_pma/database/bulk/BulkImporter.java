@@ -0,0 +1,630 @@
+package org.sam.projectmanager.techy_pma.database.bulk;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.database.UnitOfWork;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.models.Project;
+import org.sam.projectmanager.techy_pma.models.ProjectMember;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Streams users, projects and memberships from CSV files into the database, for onboarding
+ * a whole department at once instead of one Create Project form at a time.
+ *
+ * <p>Each file needs a header row; columns are matched by name, in any order:</p>
+ * <ul>
+ *   <li>users — {@code username, email, password_hash}, optional {@code created_at}.
+ *       Passwords must already be BCrypt hashes: hashing costs ~100 ms a row, which would
+ *       turn a million-row import into a day</li>
+ *   <li>projects — {@code project_name, owner} (a username), optional {@code project_description,
+ *       project_progress, status, created_at}. The owner also gets an Owner membership,
+ *       as with the Create Project screen</li>
+ *   <li>members — {@code owner, project_name, username, role}, optional {@code joined_at}.
+ *       The project is the owner's newest project with that name</li>
+ * </ul>
+ *
+ * <p>Rows are checked against the same rules as the models and forms ({@link Project}'s status
+ * and progress, {@link ProjectMember}'s roles, the sign-up username and email checks). Rows that
+ * fail, and rows the database ignores (duplicate user, unknown owner, existing membership), are
+ * listed by line number in {@code <file>.rejects.csv} and the import carries on.</p>
+ *
+ * <p>Valid rows go in with JDBC batches of {@value #BATCH_SIZE}, committed every
+ * {@value #ROWS_PER_TRANSACTION} rows. Each commit also stores how far into the file it got,
+ * in {@code import_checkpoints}, in the same transaction; after a crash or error, running the
+ * same import again resumes from the last commit without duplicating anything. Progress is
+ * logged with rows/sec every few seconds.</p>
+ *
+ * <p>Command line, files imported in dependency order:</p>
+ * <pre>
+ * java -cp ... org.sam.projectmanager.techy_pma.database.bulk.BulkImporter \
+ *      --db data/projectmanager.db --users users.csv --projects projects.csv --members members.csv [--restart] [--keep-indexes]
+ * </pre>
+ */
+public final class BulkImporter {
+
+    private static final Logger LOG = Log.getLogger(BulkImporter.class);
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int ROWS_PER_TRANSACTION = 100_000;
+    private static final long CACHE_KIB = 256 * 1024;
+    private static final long PROGRESS_INTERVAL_NANOS = 5_000_000_000L;
+
+    private static final DateTimeFormatter SQLITE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}");
+
+    // The projects table CHECK is narrower than Project's own list, which also allows "canceled"
+    private static final Set<String> SCHEMA_STATUSES = Set.of("not started", "in progress", "completed", "published");
+
+    /** What a CSV file contains */
+    public enum Kind {
+        USERS("users"), PROJECTS("projects"), MEMBERS("members");
+
+        private final String option;
+
+        Kind(String option) {
+            this.option = option;
+        }
+    }
+
+    /**
+     * Outcome of one file.
+     *
+     * @param read        Data rows read in this run (rows skipped on resume not included)
+     * @param inserted    Rows written
+     * @param rejected    Rows that failed validation or were ignored by the database
+     * @param resumedFrom Rows already imported by an earlier run
+     */
+    public record Result(Kind kind, Path file, long read, long inserted, long rejected, long resumedFrom, long nanos) {
+
+        public double rowsPerSecond() {
+            return nanos == 0 ? 0 : read * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: %,d rows read, %,d inserted, %,d rejected%s in %,.1f s (%,.0f rows/s)",
+                    kind.option, file, read, inserted, rejected,
+                    resumedFrom > 0 ? String.format(", resumed after %,d", resumedFrom) : "",
+                    nanos / 1e9, rowsPerSecond());
+        }
+    }
+
+    private BulkImporter() {
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            String name = args[i].substring(2);
+            boolean flag = i + 1 >= args.length || args[i + 1].startsWith("--");
+            options.put(name, flag ? "true" : args[++i]);
+        }
+
+        if (options.containsKey("db")) DatabaseManager.setDatabaseUrl("jdbc:sqlite:" + options.get("db"));
+        DatabaseManager.initializeDatabase();
+        boolean restart = options.containsKey("restart");
+        boolean deferIndexes = !options.containsKey("keep-indexes");
+
+        try {
+            for (Kind kind : Kind.values()) {
+                String file = options.get(kind.option);
+                if (file != null) System.out.println("✓ " + importCsv(kind, Path.of(file), restart, deferIndexes));
+            }
+        } finally {
+            Log.flush();
+        }
+    }
+
+    /**
+     * Imports one CSV file, resuming after the last checkpoint if an earlier run did not finish.
+     *
+     * @param kind    What the file contains
+     * @param file    The CSV file
+     * @param restart      Ignore any checkpoint and import the whole file again
+     * @param deferIndexes Drop the target table's secondary indexes for the load and rebuild them
+     *                     afterwards (also after a failure); much faster when the file is large
+     *                     compared with the table, but other readers see unindexed queries meanwhile
+     * @return Row counts and throughput, index rebuild included
+     * @throws IOException  if the file cannot be read, lacks a required column, or
+     *                      changed size since the checkpoint was written
+     * @throws SQLException if the database fails; everything since the last commit is rolled back
+     */
+    public static Result importCsv(Kind kind, Path file, boolean restart, boolean deferIndexes)
+            throws IOException, SQLException {
+        long start = System.nanoTime();
+        Result result;
+        try {
+            result = load(kind, file, restart, deferIndexes, start);
+        } finally {
+            DatabaseManager.closeConnection();
+            if (deferIndexes) {
+                // Schema setup recreates whatever is missing, sorted in one pass per index
+                long rebuildStart = System.nanoTime();
+                DatabaseManager.initializeDatabase();
+                LOG.info("Rebuilt indexes in {} ms", (System.nanoTime() - rebuildStart) / 1_000_000);
+            }
+        }
+
+        result = new Result(kind, file, result.read(), result.inserted(), result.rejected(), result.resumedFrom(),
+                System.nanoTime() - start);
+        LOG.info("Imported {}", result);
+        return result;
+    }
+
+    private static Result load(Kind kind, Path file, boolean restart, boolean deferIndexes, long start)
+            throws IOException, SQLException {
+        String source = kind.option + ":" + file.toAbsolutePath().normalize();
+        long fileSize = Files.size(file);
+
+        try (UnitOfWork unit = UnitOfWork.begin()) {
+            Connection conn = unit.connection();
+            long resumeFrom = 0;
+            if (!restart) {
+                Checkpoint checkpoint = readCheckpoint(conn, source);
+                if (checkpoint != null) {
+                    if (checkpoint.fileSize() != fileSize) {
+                        throw new IOException(file + " changed since its last import started; use --restart to import it again");
+                    }
+                    if (checkpoint.finished()) {
+                        LOG.info("{} was already imported; use --restart to import it again", file);
+                        return new Result(kind, file, 0, 0, 0, checkpoint.rowsDone(), 0);
+                    }
+                    resumeFrom = checkpoint.rowsDone();
+                }
+            }
+
+            try (Statement pragma = conn.createStatement()) {
+                pragma.execute("PRAGMA cache_size = " + -CACHE_KIB);
+            }
+            try (CsvReader csv = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+                 Rejects rejects = new Rejects(rejectsFile(file), resumeFrom > 0);
+                 Target target = open(kind, conn, columns(csv, file, kind), rejects)) {
+
+                if (deferIndexes) dropSecondaryIndexes(conn, kind);
+
+                for (long skipped = 0; skipped < resumeFrom; skipped++) {
+                    if (csv.next() == null) break;
+                }
+                if (resumeFrom > 0) LOG.info("Resuming {} after {} rows", file, resumeFrom);
+
+                long read = 0;
+                long lastProgress = System.nanoTime();
+                String[] record;
+                while ((record = csv.next()) != null) {
+                    read++;
+                    String error = target.add(record, csv.recordLine());
+                    if (error != null) rejects.add(csv.recordLine(), error);
+
+                    if (target.pending() >= BATCH_SIZE) target.flush();
+                    if (read % ROWS_PER_TRANSACTION == 0) {
+                        target.flush();
+                        saveCheckpoint(conn, source, fileSize, resumeFrom + read, false);
+                        unit.commit();
+                        rejects.commit();
+                    }
+
+                    long now = System.nanoTime();
+                    if (now - lastProgress >= PROGRESS_INTERVAL_NANOS) {
+                        lastProgress = now;
+                        long rows = resumeFrom + read;
+                        double rate = read * 1e9 / (now - start);
+                        LOG.info(() -> String.format("%s: %,d rows, %,.0f rows/s", file, rows, rate));
+                    }
+                }
+
+                target.flush();
+                saveCheckpoint(conn, source, fileSize, resumeFrom + read, true);
+                unit.commit();
+                rejects.commit();
+
+                return new Result(kind, file, read, target.inserted, rejects.count(), resumeFrom, 0);
+            } catch (IOException | SQLException | RuntimeException e) {
+                // Closing the unit rolls back to the last checkpoint
+                LOG.error("Import of " + file + " failed; rerun to resume from the last checkpoint", e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Drops the {@code idx_} indexes of the table a kind loads into, in the import's first transaction.
+     * {@code idx_projects_owner_name} stays: owner memberships are matched through it while loading.
+     */
+    private static void dropSecondaryIndexes(Connection conn, Kind kind) throws SQLException {
+        String table = switch (kind) {
+            case USERS -> "users";
+            case PROJECTS -> "projects";
+            case MEMBERS -> "project_members";
+        };
+
+        List<String> indexes = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement("""
+                SELECT name FROM sqlite_master
+                WHERE type = 'index' AND tbl_name = ? AND name LIKE 'idx_%' AND name <> 'idx_projects_owner_name'
+                """)) {
+            stmt.setString(1, table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) indexes.add(rs.getString(1));
+            }
+        }
+        try (Statement stmt = conn.createStatement()) {
+            for (String index : indexes) stmt.execute("DROP INDEX " + index);
+        }
+        if (!indexes.isEmpty()) LOG.info("Deferred indexes for the load: {}", indexes);
+    }
+
+    // ─── CHECKPOINTS ───
+
+    private record Checkpoint(long fileSize, long rowsDone, boolean finished) {
+    }
+
+    private static Checkpoint readCheckpoint(Connection conn, String source) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT file_size, rows_done, finished FROM import_checkpoints WHERE source = ?")) {
+            stmt.setString(1, source);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? new Checkpoint(rs.getLong(1), rs.getLong(2), rs.getBoolean(3)) : null;
+            }
+        }
+    }
+
+    /** Written in the same transaction as the rows it counts, so the two can never disagree */
+    private static void saveCheckpoint(Connection conn, String source, long fileSize, long rowsDone, boolean finished)
+            throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("""
+                INSERT INTO import_checkpoints (source, file_size, rows_done, finished, updated_at)
+                VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)
+                ON CONFLICT(source) DO UPDATE SET
+                    file_size = excluded.file_size, rows_done = excluded.rows_done,
+                    finished = excluded.finished, updated_at = excluded.updated_at
+                """)) {
+            stmt.setString(1, source);
+            stmt.setLong(2, fileSize);
+            stmt.setLong(3, rowsDone);
+            stmt.setBoolean(4, finished);
+            stmt.executeUpdate();
+        }
+    }
+
+    // ─── COLUMNS ───
+
+    private static Map<String, Integer> columns(CsvReader csv, Path file, Kind kind) throws IOException {
+        String[] header = csv.next();
+        if (header == null) throw new IOException(file + " is empty");
+
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            columns.put(header[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        List<String> required = switch (kind) {
+            case USERS -> List.of("username", "email", "password_hash");
+            case PROJECTS -> List.of("project_name", "owner");
+            case MEMBERS -> List.of("owner", "project_name", "username", "role");
+        };
+        for (String column : required) {
+            if (!columns.containsKey(column)) throw new IOException(file + " has no '" + column + "' column");
+        }
+        return columns;
+    }
+
+    private static Target open(Kind kind, Connection conn, Map<String, Integer> columns, Rejects rejects)
+            throws SQLException {
+        return switch (kind) {
+            case USERS -> new UserTarget(conn, columns, rejects);
+            case PROJECTS -> new ProjectTarget(conn, columns, rejects);
+            case MEMBERS -> new MemberTarget(conn, columns, rejects);
+        };
+    }
+
+    // ─── TARGETS ───
+
+    /** Validates rows of one kind and batches them into an insert */
+    private abstract static class Target implements AutoCloseable {
+
+        private final Map<String, Integer> columns;
+        private final Rejects rejects;
+        private final PreparedStatement insert;
+        private final String ignoredReason;
+
+        // Line numbers of the rows in the current batch, to report the ones the database ignores
+        private final long[] lines = new long[BATCH_SIZE];
+        private int pending;
+        long inserted;
+
+        Target(Connection conn, Map<String, Integer> columns, Rejects rejects, String sql, String ignoredReason)
+                throws SQLException {
+            this.columns = columns;
+            this.rejects = rejects;
+            this.insert = conn.prepareStatement(sql);
+            this.ignoredReason = ignoredReason;
+        }
+
+        /** Binds one valid row to {@code insert}; returns why the row is invalid instead, without binding */
+        abstract String bind(String[] record, PreparedStatement insert) throws SQLException;
+
+        /** @return Why the row was rejected, or null if it was added to the batch */
+        final String add(String[] record, long line) throws SQLException {
+            String error;
+            try {
+                error = bind(record, insert);
+            } catch (IllegalArgumentException e) {
+                error = e.getMessage();
+            }
+            if (error != null) {
+                insert.clearParameters();
+                return error;
+            }
+            insert.addBatch();
+            lines[pending++] = line;
+            return null;
+        }
+
+        final int pending() {
+            return pending;
+        }
+
+        final PreparedStatement statement() {
+            return insert;
+        }
+
+        /** Runs the batch, counting inserted rows and reporting ignored ones */
+        void flush() throws SQLException {
+            if (pending == 0) return;
+            int[] counts = insert.executeBatch();
+            for (int i = 0; i < counts.length && i < pending; i++) {
+                if (counts[i] > 0) inserted++;
+                else rejects.add(lines[i], ignoredReason);
+            }
+            pending = 0;
+        }
+
+        /** @return The trimmed value, or null if the column is absent or blank */
+        final String value(String[] record, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= record.length) return null;
+            String value = record[index].trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        final void bindTimestamp(PreparedStatement stmt, int index, String value) throws SQLException {
+            if (value == null) {
+                stmt.setNull(index, Types.VARCHAR);
+                return;
+            }
+            try {
+                LocalDateTime.parse(value, SQLITE_TIMESTAMP);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Timestamp must look like 2024-01-31 09:30:00: " + value);
+            }
+            stmt.setString(index, value);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            insert.close();
+        }
+    }
+
+    private static final class UserTarget extends Target {
+
+        UserTarget(Connection conn, Map<String, Integer> columns, Rejects rejects) throws SQLException {
+            super(conn, columns, rejects, """
+                    INSERT OR IGNORE INTO users (username, email, password, created_at)
+                    VALUES (?, ?, ?, COALESCE(?, CURRENT_TIMESTAMP))
+                    """, "username or email already registered");
+        }
+
+        @Override
+        String bind(String[] record, PreparedStatement insert) throws SQLException {
+            String username = value(record, "username");
+            String email = value(record, "email");
+            String hash = value(record, "password_hash");
+
+            // Same checks as the sign-up form
+            if (username == null || username.length() < 3) return "username must be at least 3 characters";
+            if (email == null || !email.contains("@") || !email.contains(".")) return "invalid email address";
+            if (hash == null || !BCRYPT_HASH.matcher(hash).matches()) return "password_hash is not a BCrypt hash";
+
+            insert.setString(1, username);
+            insert.setString(2, email);
+            insert.setString(3, hash);
+            bindTimestamp(insert, 4, value(record, "created_at"));
+            return null;
+        }
+    }
+
+    private static final class ProjectTarget extends Target {
+
+        // Every project gets its owner as a member in the same batch, as the Create Project screen does
+        private final MemberTarget owners;
+
+        ProjectTarget(Connection conn, Map<String, Integer> columns, Rejects rejects) throws SQLException {
+            super(conn, columns, rejects, """
+                    INSERT OR IGNORE INTO projects
+                        (project_name, project_description, project_progress, created_by, created_at, status)
+                    SELECT ?, ?, ?, u.user_id, COALESCE(?, CURRENT_TIMESTAMP), ?
+                    FROM users u WHERE u.username = ?
+                    """, "owner not found");
+            owners = new MemberTarget(conn, columns, rejects);
+        }
+
+        @Override
+        String bind(String[] record, PreparedStatement insert) throws SQLException {
+            String name = value(record, "project_name");
+            String owner = value(record, "owner");
+            String progressText = value(record, "project_progress");
+            String status = value(record, "status");
+            String createdAt = value(record, "created_at");
+
+            if (name == null || name.length() < 3) return "project_name must be at least 3 characters";
+            if (owner == null) return "owner is required";
+
+            int progress;
+            try {
+                progress = progressText == null ? 0 : Integer.parseInt(progressText);
+            } catch (NumberFormatException e) {
+                return "project_progress is not a number: " + progressText;
+            }
+
+            // The model's own setters enforce the progress range and status values
+            Project project = new Project(0, name, value(record, "project_description"), progress, 0, null,
+                    status == null ? "not started" : status);
+            if (!SCHEMA_STATUSES.contains(project.getStatus())) return "status not allowed: " + status;
+
+            insert.setString(1, project.getProjectName());
+            insert.setString(2, project.getProjectDescription());
+            insert.setInt(3, project.getProjectProgress());
+            bindTimestamp(insert, 4, createdAt);
+            insert.setString(5, project.getStatus());
+            insert.setString(6, owner);
+
+            owners.bindOwner(owner, name, createdAt);
+            return null;
+        }
+
+        @Override
+        void flush() throws SQLException {
+            super.flush();
+            owners.flushOwners();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            owners.close();
+            super.close();
+        }
+    }
+
+    private static final class MemberTarget extends Target {
+
+        MemberTarget(Connection conn, Map<String, Integer> columns, Rejects rejects) throws SQLException {
+            super(conn, columns, rejects, """
+                    INSERT OR IGNORE INTO project_members (project_id, user_id, role, joined_at)
+                    SELECT (SELECT MAX(p.project_id) FROM projects p
+                            WHERE p.created_by = o.user_id AND p.project_name = ?),
+                           u.user_id, ?, COALESCE(?, CURRENT_TIMESTAMP)
+                    FROM users o, users u
+                    WHERE o.username = ? AND u.username = ?
+                    """, "unknown project or user, or already a member");
+        }
+
+        @Override
+        String bind(String[] record, PreparedStatement insert) throws SQLException {
+            String owner = value(record, "owner");
+            String name = value(record, "project_name");
+            String username = value(record, "username");
+            String role = value(record, "role");
+
+            if (owner == null || name == null) return "owner and project_name are required";
+            if (username == null) return "username is required";
+
+            // ProjectMember rejects roles outside Owner/Admin/Member
+            ProjectMember member = new ProjectMember(0, 0, 0, role, null);
+
+            insert.setString(1, name);
+            insert.setString(2, member.getRole());
+            bindTimestamp(insert, 3, value(record, "joined_at"));
+            insert.setString(4, owner);
+            insert.setString(5, username);
+            return null;
+        }
+
+        /** Queues the Owner membership of a project row that was just batched */
+        void bindOwner(String owner, String projectName, String createdAt) throws SQLException {
+            PreparedStatement insert = statement();
+            insert.setString(1, projectName);
+            insert.setString(2, "Owner");
+            bindTimestamp(insert, 3, createdAt);
+            insert.setString(4, owner);
+            insert.setString(5, owner);
+            insert.addBatch();
+        }
+
+        /** Runs the owner batch; a project that was not inserted is already reported, so counts are ignored */
+        void flushOwners() throws SQLException {
+            statement().executeBatch();
+        }
+    }
+
+    // ─── REJECTS ───
+
+    /**
+     * {@code line,reason} rows for everything not imported. Lines are held until the rows around
+     * them are committed, so a resumed import does not report the same line twice.
+     */
+    private static final class Rejects implements AutoCloseable {
+
+        private final Path path;
+        private final StringBuilder uncommitted = new StringBuilder();
+        private BufferedWriter out;
+        private boolean append;
+        private long committed;
+        private long pending;
+
+        Rejects(Path path, boolean resuming) throws IOException {
+            this.path = path;
+            this.append = resuming && Files.exists(path);
+            if (!resuming) Files.deleteIfExists(path);
+        }
+
+        void add(long line, String reason) {
+            pending++;
+            uncommitted.append(line).append(",\"").append(reason.replace("\"", "\"\"")).append("\"\n");
+        }
+
+        long count() {
+            return committed + pending;
+        }
+
+        /** Writes the lines held since the last commit; call once the rows are committed */
+        void commit() throws IOException {
+            if (pending == 0) return;
+            if (out == null) {
+                out = append
+                        ? Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.APPEND)
+                        : Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+                if (!append) out.write("line,reason\n");
+            }
+            out.append(uncommitted);
+            out.flush();
+            uncommitted.setLength(0);
+            committed += pending;
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) out.close();
+        }
+    }
+
+    private static Path rejectsFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".rejects.csv");
+    }
+}
@@ -0,0 +1,122 @@
+package org.sam.projectmanager.techy_pma.database.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 CSV parser: one record at a time, so memory use does not grow with the file.
+ *
+ * <p>Fields may be quoted with {@code "}; inside quotes, {@code ""} is a literal quote and
+ * commas and line breaks are part of the value. Records end at {@code \n} or {@code \r\n}.
+ * Blank lines are skipped.</p>
+ */
+final class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private long line = 1;
+    private long recordLine;
+
+    // Reused between records; next() copies it out
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> fields = new ArrayList<>();
+
+    CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * @return The fields of the next record, or null at the end of the input
+     * @throws IOException on a read error, or a quoted field left open at the end of the input
+     */
+    String[] next() throws IOException {
+        fields.clear();
+        field.setLength(0);
+
+        int c = read();
+        while (c == '\n' || c == '\r') c = read();
+        if (c < 0) return null;
+        recordLine = line;
+
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                endField();
+                wasQuoted = false;
+            } else if (c == '\n' || c == '\r' || c < 0) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') unread();
+                }
+                endField();
+                return fields.toArray(String[]::new);
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /** @return Line number of the first line of the record last returned by {@link #next()} */
+    long recordLine() {
+        return recordLine;
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        char c = buffer[position++];
+        if (c == '\n') line++;
+        return c;
+    }
+
+    /** Steps back over the last character read; only called right after a successful read */
+    private void unread() {
+        if (position > 0) {
+            position--;
+            if (buffer[position] == '\n') line--;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,255 @@
+package org.sam.projectmanager.techy_pma.database.bulk;
+
+import org.sam.projectmanager.techy_pma.database.DatabaseManager;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Exports every project with its owner and members, streaming from one forward-only
+ * {@link ResultSet} straight to the output, so memory use stays flat however many rows there are.
+ *
+ * <p>Unlike the {@code ProjectDAO} list methods nothing is collected: each row is written as
+ * soon as it is read, and the writer's buffer is the only thing that grows with the output.
+ * Two formats:</p>
+ * <ul>
+ *   <li>{@link Format#CSV} — one row per project and member, with the project and owner
+ *       columns repeated; a project without members has one row with empty member columns</li>
+ *   <li>{@link Format#JSONL} — one JSON object per project, its members nested in an array
+ *       that is written member by member as the rows arrive</li>
+ * </ul>
+ *
+ * <p>Rows come in project id order, members by join date, which the primary key and
+ * {@code idx_project_members_joined} deliver without a sort. Password hashes are never exported.</p>
+ *
+ * <p>Command line:</p>
+ * <pre>
+ * java -cp ... org.sam.projectmanager.techy_pma.database.bulk.PortfolioExporter \
+ *      --db data/projectmanager.db --out portfolio.jsonl [--format jsonl|csv]
+ * </pre>
+ */
+public final class PortfolioExporter {
+
+    private static final Logger LOG = Log.getLogger(PortfolioExporter.class);
+
+    // A hint only for SQLite, which steps one row at a time anyway; kept so the query stays streaming on other drivers
+    private static final int FETCH_SIZE = 1_000;
+    private static final int WRITE_BUFFER_CHARS = 256 * 1024;
+
+    private static final String PORTFOLIO_SQL = """
+            SELECT p.project_id, p.project_name, p.project_description, p.project_progress, p.status, p.created_at,
+                   o.user_id, o.username, o.email,
+                   m.user_id, m.username, m.email, pm.role, pm.joined_at
+            FROM projects p
+            JOIN users o ON o.user_id = p.created_by
+            LEFT JOIN project_members pm ON pm.project_id = p.project_id
+            LEFT JOIN users m ON m.user_id = pm.user_id
+            ORDER BY p.project_id, pm.joined_at, pm.id
+            """;
+
+    private static final String CSV_HEADER = "project_id,project_name,project_description,project_progress,status,"
+            + "created_at,owner_id,owner_username,owner_email,"
+            + "member_id,member_username,member_email,member_role,member_joined_at\n";
+
+    public enum Format {
+        CSV, JSONL
+    }
+
+    /** Rows read and projects written by one export */
+    public record Result(long rows, long projects, long nanos) {
+
+        @Override
+        public String toString() {
+            return String.format("%,d projects (%,d rows) in %,.1f s (%,.0f rows/s)",
+                    projects, rows, nanos / 1e9, nanos == 0 ? 0 : rows * 1e9 / nanos);
+        }
+    }
+
+    private PortfolioExporter() {
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        String db = null;
+        Path out = null;
+        Format format = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--db" -> db = args[i + 1];
+                case "--out" -> out = Path.of(args[i + 1]);
+                case "--format" -> format = Format.valueOf(args[i + 1].toUpperCase(Locale.ROOT));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (out == null) throw new IllegalArgumentException("--out <file> is required");
+        if (format == null) format = out.toString().endsWith(".csv") ? Format.CSV : Format.JSONL;
+        if (db != null) DatabaseManager.setDatabaseUrl("jdbc:sqlite:" + db);
+
+        try {
+            System.out.println("✓ Exported " + export(format, out) + " to " + out);
+        } finally {
+            Log.flush();
+        }
+    }
+
+    /**
+     * Writes the portfolio to a file, replacing it if it exists.
+     *
+     * @param format CSV or JSON Lines
+     * @param file   Destination
+     */
+    public static Result export(Format format, Path file) throws IOException, SQLException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS)) {
+            return export(format, out);
+        }
+    }
+
+    /**
+     * Writes the portfolio to any writer; the caller owns (and closes) it.
+     *
+     * @param format CSV or JSON Lines
+     * @param out    Destination, ideally buffered
+     */
+    public static Result export(Format format, Writer out) throws IOException, SQLException {
+        long start = System.nanoTime();
+        long rows = 0;
+        long projects = 0;
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(PORTFOLIO_SQL,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (format == Format.CSV) out.write(CSV_HEADER);
+
+                int currentProject = 0;
+                while (rs.next()) {
+                    rows++;
+                    int projectId = rs.getInt(1);
+                    boolean newProject = projectId != currentProject;
+                    if (newProject) {
+                        projects++;
+                        currentProject = projectId;
+                    }
+
+                    if (format == Format.CSV) {
+                        writeCsvRow(rs, out);
+                    } else {
+                        if (newProject) {
+                            if (projects > 1) out.write("]}\n");
+                            writeJsonProject(rs, out);
+                        }
+                        writeJsonMember(rs, out, newProject);
+                    }
+                }
+                if (format == Format.JSONL && projects > 0) out.write("]}\n");
+            }
+        }
+        out.flush();
+
+        Result result = new Result(rows, projects, System.nanoTime() - start);
+        LOG.info("Exported portfolio as {}: {}", format, result);
+        return result;
+    }
+
+    // ─── CSV ───
+
+    private static void writeCsvRow(ResultSet rs, Writer out) throws SQLException, IOException {
+        for (int column = 1; column <= 14; column++) {
+            if (column > 1) out.write(',');
+            String value = rs.getString(column);
+            if (value != null) writeCsvField(value, out);
+        }
+        out.write('\n');
+    }
+
+    private static void writeCsvField(String value, Writer out) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    // ─── JSON LINES ───
+
+    /** Opens a project object, up to and including the {@code [} of its members array */
+    private static void writeJsonProject(ResultSet rs, Writer out) throws SQLException, IOException {
+        out.write("{\"project_id\":");
+        out.write(Integer.toString(rs.getInt(1)));
+        writeJsonField("project_name", rs.getString(2), out);
+        writeJsonField("project_description", rs.getString(3), out);
+        out.write(",\"project_progress\":");
+        out.write(Integer.toString(rs.getInt(4)));
+        writeJsonField("status", rs.getString(5), out);
+        writeJsonField("created_at", rs.getString(6), out);
+        out.write(",\"owner\":{\"user_id\":");
+        out.write(Integer.toString(rs.getInt(7)));
+        writeJsonField("username", rs.getString(8), out);
+        writeJsonField("email", rs.getString(9), out);
+        out.write("},\"members\":[");
+    }
+
+    private static void writeJsonMember(ResultSet rs, Writer out, boolean first) throws SQLException, IOException {
+        int userId = rs.getInt(10);
+        if (rs.wasNull()) return;   // LEFT JOIN row of a project with no members
+
+        if (!first) out.write(',');
+        out.write("{\"user_id\":");
+        out.write(Integer.toString(userId));
+        writeJsonField("username", rs.getString(11), out);
+        writeJsonField("email", rs.getString(12), out);
+        writeJsonField("role", rs.getString(13), out);
+        writeJsonField("joined_at", rs.getString(14), out);
+        out.write('}');
+    }
+
+    /** Writes {@code ,"name":"value"}, or {@code ,"name":null} */
+    private static void writeJsonField(String name, String value, Writer out) throws IOException {
+        out.write(",\"");
+        out.write(name);
+        out.write("\":");
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) out.write(String.format("\\u%04x", (int) c));
+                    else out.write(c);
+                }
+            }
+        }
+        out.write('"');
+    }
+}
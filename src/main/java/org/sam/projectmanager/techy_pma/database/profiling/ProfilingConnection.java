@@ -0,0 +1,225 @@
+package org.sam.projectmanager.techy_pma.database.profiling;
+
+import org.sam.projectmanager.techy_pma.diagnostics.DaoQueryEvent;
+import org.sam.projectmanager.techy_pma.diagnostics.Span;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
+import org.sam.projectmanager.techy_pma.metrics.Counter;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Dynamic-proxy wrappers that time JDBC calls and report them to {@link QueryProfiler}.
+ *
+ * <p>The connection proxy wraps every {@link Statement} and {@link PreparedStatement} it
+ * creates. Those time each execute call; for queries the clock runs until the
+ * {@link ResultSet} is closed, because SQLite does most of its work while rows are
+ * stepped through, not in {@code executeQuery} itself. Everything else is passed
+ * straight to the driver. Each timed call is also emitted as a JFR {@link DaoQueryEvent}
+ * when a recording has that event enabled, and as a {@link Tracer} span when tracing is on,
+ * nested in a span for the DAO method that runs from its first statement until it closes
+ * the connection (or, inside a unit of work, until {@link Connection#endRequest()}).</p>
+ */
+final class ProfilingConnection {
+
+    /** Stands in for {@code setNull} in the bind array, where {@code null} means "not bound" */
+    static final Object NULL_BIND = new Object();
+
+    // Every SQLException a DAO sees comes through here, whether or not the DAO logs it
+    private static final Counter ERRORS = Metrics.counter("db.errors");
+
+    private ProfilingConnection() {
+    }
+
+    static Connection wrap(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ProfilingConnection.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /** Calls through to the driver, rethrowing its exception rather than the reflective wrapper */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) ERRORS.increment();
+            throw e.getCause();
+        }
+    }
+
+    private static void trace(String sql, long start, long end, long rows) {
+        if (!Tracer.isEnabled()) return;
+        String normalized = QueryProfiler.normalize(sql);
+        String name = normalized.length() > 60 ? normalized.substring(0, 60) + "..." : normalized;
+        Tracer.complete(name, Tracer.CATEGORY_SQL, start, end, "sql", normalized, "rows", rows);
+    }
+
+    // ─── CONNECTION ───
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private Span daoCall;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (daoCall == null && (name.equals("prepareStatement") || name.equals("createStatement"))) {
+                daoCall = Tracer.daoCall();
+            } else if ((name.equals("close") || name.equals("endRequest")) && daoCall != null) {
+                // A UnitOfWork keeps the connection open across DAO calls and marks each call's end with endRequest()
+                daoCall.close();
+                daoCall = null;
+            }
+
+            Object result = ProfilingConnection.invoke(target, method, args);
+
+            if (result instanceof PreparedStatement stmt && method.getName().equals("prepareStatement")) {
+                return proxy(PreparedStatement.class, new StatementHandler(stmt, (String) args[0]));
+            }
+            if (result instanceof Statement stmt && method.getName().equals("createStatement")) {
+                return proxy(Statement.class, new StatementHandler(stmt, null));
+            }
+            return result;
+        }
+    }
+
+    // ─── STATEMENTS ───
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private Object[] binds;
+        private QueryHandler openQuery;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? NULL_BIND : args[1]);
+            } else if (name.equals("clearParameters")) {
+                binds = null;
+            } else if (name.equals("close")) {
+                finishOpenQuery();
+            }
+            return ProfilingConnection.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            // Re-executing a statement implicitly closes its previous result set
+            finishOpenQuery();
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            if (sql == null) sql = "(statement batch)";
+
+            DaoQueryEvent event = DaoQueryEvent.beginIfEnabled();
+            long start = System.nanoTime();
+            Object result = ProfilingConnection.invoke(target, method, args);
+            long elapsed = System.nanoTime() - start;
+
+            long rows = 0;
+            switch (result) {
+                case ResultSet rs -> {
+                    openQuery = new QueryHandler(rs, sql, start, binds, event);
+                    return proxy(ResultSet.class, openQuery);
+                }
+                case Integer count -> rows = Math.max(0, count);
+                case Long count -> rows = Math.max(0, count);
+                case int[] counts -> rows = Arrays.stream(counts).filter(c -> c > 0).sum();
+                case long[] counts -> rows = Arrays.stream(counts).filter(c -> c > 0).sum();
+                case Boolean hasResultSet -> rows = hasResultSet ? 0 : Math.max(0, target.getUpdateCount());
+                default -> {
+                }
+            }
+
+            QueryProfiler.record(sql, elapsed, rows, result instanceof int[] || result instanceof long[] ? null : binds);
+            if (event != null) event.finish(QueryProfiler.normalize(sql), rows);
+            trace(sql, start, start + elapsed, rows);
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            if (binds == null || index >= binds.length) {
+                binds = Arrays.copyOf(binds == null ? new Object[0] : binds, Math.max(index + 1, 8));
+            }
+            binds[index] = value;
+        }
+
+        private void finishOpenQuery() {
+            if (openQuery != null) {
+                openQuery.finish();
+                openQuery = null;
+            }
+        }
+    }
+
+    // ─── RESULT SETS ───
+
+    private static final class QueryHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String sql;
+        private final long start;
+        private final Object[] binds;
+        private final DaoQueryEvent event;
+        private long rows;
+        private boolean finished;
+
+        QueryHandler(ResultSet target, String sql, long start, Object[] binds, DaoQueryEvent event) {
+            this.target = target;
+            this.sql = sql;
+            this.start = start;
+            this.binds = binds;
+            this.event = event;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ProfilingConnection.invoke(target, method, args);
+
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) rows++;
+                }
+                case "close" -> finish();
+                default -> {
+                }
+            }
+            return result;
+        }
+
+        void finish() {
+            if (finished) return;
+            finished = true;
+            long end = System.nanoTime();
+            QueryProfiler.record(sql, end - start, rows, binds);
+            if (event != null) event.finish(QueryProfiler.normalize(sql), rows);
+            trace(sql, start, end, rows);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.sam.projectmanager.techy_pma.database.profiling;
+
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.metrics.Counter;
+import org.sam.projectmanager.techy_pma.metrics.LatencyHistogram;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+import org.sam.projectmanager.techy_pma.utils.CurrentScreen;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Per-statement timing for every query that goes through {@link org.sam.projectmanager.techy_pma.database.DatabaseManager}.
+ *
+ * <ul>
+ *   <li>A latency histogram, call count and row count per normalized SQL string</li>
+ *   <li>Calls broken down by the screen that issued them ({@link CurrentScreen})</li>
+ *   <li>Overall latency, row and slow-query totals published as {@link Metrics}</li>
+ *   <li>A slow-query warning in the log for anything over the threshold, with bind values
+ *       redacted to their type so no user data reaches the log</li>
+ * </ul>
+ *
+ * <p>Configured with system properties:</p>
+ * <ul>
+ *   <li>{@code -Dtechy.db.profile=false} — hand out plain connections (default: enabled)</li>
+ *   <li>{@code -Dtechy.db.slowQueryMillis=50} — slow-query threshold (default: 100)</li>
+ * </ul>
+ *
+ * <p>{@link #dump()} formats the collected stats; the app logs it on Ctrl/Cmd+Shift+D.</p>
+ */
+public class QueryProfiler {
+
+    private static final Logger LOG = Log.getLogger(QueryProfiler.class);
+
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("techy.db.profile"));
+    private static final long SLOW_QUERY_NANOS =
+            Long.getLong("techy.db.slowQueryMillis", 100) * 1_000_000L;
+
+    // Raw SQL strings come from code, so this stays small; the guard only protects against ad-hoc SQL
+    private static final int MAX_CACHED_SQL = 10_000;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern BIND_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+
+    private static final Map<String, String> NORMALIZED = new ConcurrentHashMap<>();
+    private static final Map<String, StatementStats> STATS = new ConcurrentHashMap<>();
+
+    // Totals across all statements for JMX; unlike STATS these are never reset by reset()
+    private static final LatencyHistogram ALL_STATEMENTS = Metrics.histogram("db.statements.latency");
+    private static final Counter ROWS = Metrics.counter("db.statements.rows");
+    private static final Counter SLOW = Metrics.counter("db.statements.slow");
+
+    /** @return Whether connections are wrapped for profiling */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Wraps a connection so its statements are timed, or returns it unchanged when profiling is off.
+     *
+     * @param connection A freshly opened JDBC connection
+     * @return The connection to hand out to DAOs
+     */
+    public static Connection wrap(Connection connection) {
+        return ENABLED ? ProfilingConnection.wrap(connection) : connection;
+    }
+
+    /**
+     * Records one execution.
+     *
+     * @param sql   The SQL as prepared
+     * @param nanos Time from execute until the result set closed (or the update returned)
+     * @param rows  Rows returned or affected
+     * @param binds Bind values by parameter index (index 0 unused), only read for slow queries
+     */
+    static void record(String sql, long nanos, long rows, Object[] binds) {
+        String normalized = normalize(sql);
+        String screen = CurrentScreen.get();
+        STATS.computeIfAbsent(normalized, n -> new StatementStats(n, sql)).record(nanos, rows, screen);
+        ALL_STATEMENTS.record(nanos);
+        ROWS.add(rows);
+
+        if (nanos >= SLOW_QUERY_NANOS) {
+            SLOW.increment();
+            LOG.warn(() -> String.format("Slow query: %.1f ms, %d rows, screen=%s: %s binds=%s",
+                    nanos / 1e6, rows, screen, normalized, redact(binds)));
+        }
+    }
+
+    /**
+     * Collapses whitespace and replaces literals and bind lists, so that e.g.
+     * {@code status IN (?, ?)} and {@code status IN (?, ?, ?)} share one entry.
+     */
+    static String normalize(String sql) {
+        String cached = NORMALIZED.get(sql);
+        if (cached != null) return cached;
+
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = BIND_LIST.matcher(normalized).replaceAll("?, ...");
+
+        if (NORMALIZED.size() < MAX_CACHED_SQL) NORMALIZED.put(sql, normalized);
+        return normalized;
+    }
+
+    /** Describes bind values by type only, e.g. {@code [?1=String(12), ?2=Integer]} */
+    private static String redact(Object[] binds) {
+        if (binds == null) return "[]";
+
+        List<String> parts = new ArrayList<>();
+        for (int i = 1; i < binds.length; i++) {
+            Object value = binds[i];
+            if (value == null) continue;
+            String type = value == ProfilingConnection.NULL_BIND ? "NULL" : value.getClass().getSimpleName();
+            if (value instanceof CharSequence text) type += "(" + text.length() + ")";
+            parts.add("?" + i + "=" + type);
+        }
+        return parts.toString();
+    }
+
+    /** @return Stats per normalized statement, slowest total time first */
+    public static List<StatementStats> getStats() {
+        List<StatementStats> stats = new ArrayList<>(STATS.values());
+        stats.sort(Comparator.comparingLong((StatementStats s) -> s.getLatency().getTotal()).reversed());
+        return stats;
+    }
+
+    /** Clears all collected stats, e.g. before measuring one screen */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    /**
+     * @return A text table of every statement seen since startup (or the last reset),
+     *         slowest total time first, with per-screen call counts under each row
+     */
+    public static String dump() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%8s %10s %9s %9s %9s %9s  %s%n",
+                "calls", "rows", "mean ms", "p50 ms", "p99 ms", "max ms", "sql"));
+
+        for (StatementStats stats : getStats()) {
+            LatencyHistogram latency = stats.getLatency();
+            out.append(String.format("%8d %10d %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    latency.getCount(), stats.getRows(),
+                    latency.getMean() / 1e6,
+                    latency.getValueAtPercentile(50) / 1e6,
+                    latency.getValueAtPercentile(99) / 1e6,
+                    latency.getMax() / 1e6,
+                    stats.getSql()));
+            out.append(String.format("%8s by screen: %s%n", "", stats.getCallsByScreen()));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package org.sam.projectmanager.techy_pma.database.profiling;
+
+import org.sam.projectmanager.techy_pma.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulated timings for one normalized SQL statement.
+ */
+public class StatementStats {
+
+    private final String sql;
+    private final String exampleSql;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rows = new LongAdder();
+    private final Map<String, LongAdder> callsByScreen = new ConcurrentHashMap<>();
+
+    StatementStats(String sql, String exampleSql) {
+        this.sql = sql;
+        this.exampleSql = exampleSql;
+    }
+
+    void record(long nanos, long rowCount, String screen) {
+        latency.record(nanos);
+        rows.add(rowCount);
+        callsByScreen.computeIfAbsent(screen, s -> new LongAdder()).increment();
+    }
+
+    /** @return The statement with literals and bind lists normalized */
+    public String getSql() {
+        return sql;
+    }
+
+    /** @return The first statement recorded under this entry, exactly as prepared (e.g. to run EXPLAIN on) */
+    public String getExampleSql() {
+        return exampleSql;
+    }
+
+    /** @return Execution time in nanoseconds, from execute until the result set is closed */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /** @return Rows returned by queries, or rows affected by updates */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /** @return Calls per screen, sorted by screen name */
+    public Map<String, Long> getCallsByScreen() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        callsByScreen.forEach((screen, count) -> snapshot.put(screen, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,61 @@
+package org.sam.projectmanager.techy_pma.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.sam.projectmanager.techy_pma.metrics.LatencyHistogram;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+
+/**
+ * JFR event spanning one render of a card list, from the call that starts it until
+ * the last card is placed (possibly several pulses later, see
+ * {@link org.sam.projectmanager.techy_pma.ui.ChunkedRenderer}). A render replaced by a
+ * newer one before it finishes is not committed.
+ */
+@Name("techy.CardRender")
+@Label("Card Render")
+@Category({"Techy PMA", "UI"})
+@Description("Rendering of a list of project cards")
+@StackTrace(false)
+public class CardRenderEvent extends jdk.jfr.Event {
+
+    // Also published as a metric, since renders are spread over pulses and hard to time elsewhere
+    private static final LatencyHistogram RENDER_TIME = Metrics.histogram("ui.cardRender.time");
+
+    @Label("Screen")
+    String screen;
+
+    @Label("Cards")
+    @Description("Cards in the list after the render")
+    int count;
+
+    @Label("Cards Touched")
+    @Description("Cards created, updated or moved; unchanged cards are skipped")
+    int touched;
+
+    private transient long startedAt;
+
+    /**
+     * @param screen Screen that renders the cards
+     * @param count  Number of cards in the list
+     */
+    public static CardRenderEvent start(String screen, int count) {
+        CardRenderEvent event = new CardRenderEvent();
+        event.screen = screen;
+        event.count = count;
+        event.startedAt = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param touched Cards that were actually created, updated or moved
+     */
+    public void finish(int touched) {
+        this.touched = touched;
+        RENDER_TIME.record(System.nanoTime() - startedAt);
+        commit();
+    }
+}
@@ -0,0 +1,80 @@
+package org.sam.projectmanager.techy_pma.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one SQL statement issued by a DAO, from execute until its result set is closed.
+ *
+ * <p>Emitted by the profiling connection wrapper, so every DAO method is covered without
+ * per-method code. The DAO method name is resolved with a stack walk only for events
+ * that pass the recording's threshold, so an enabled-but-filtered event costs two
+ * timestamps and a disabled one costs nothing.</p>
+ */
+@Name("techy.DaoQuery")
+@Label("DAO Query")
+@Category({"Techy PMA", "Database"})
+@Description("SQL statement executed by a DAO method")
+@StackTrace(false)
+public class DaoQueryEvent extends jdk.jfr.Event {
+
+    private static final EventType TYPE = EventType.getEventType(DaoQueryEvent.class);
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final String DATABASE_PACKAGE = "org.sam.projectmanager.techy_pma.database.";
+
+    @Label("DAO Method")
+    String method;
+
+    @Label("SQL Id")
+    @Description("Stable hash of the normalized SQL, for grouping")
+    String sqlId;
+
+    @Label("SQL")
+    @Description("Normalized SQL text")
+    String sql;
+
+    @Label("Rows")
+    @Description("Rows returned by a query, or affected by an update")
+    long rows;
+
+    /**
+     * @return A started event, or null when no recording has DAO events enabled
+     *         (callers skip all further work in that case)
+     */
+    public static DaoQueryEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) return null;
+        DaoQueryEvent event = new DaoQueryEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits the event if it passes the recording's threshold.
+     *
+     * @param normalizedSql SQL as grouped by the query profiler
+     * @param rowCount      Rows returned or affected
+     */
+    public void finish(String normalizedSql, long rowCount) {
+        end();
+        if (!shouldCommit()) return;
+
+        method = callingDaoMethod();
+        sqlId = String.format("%08x", normalizedSql.hashCode());
+        sql = normalizedSql;
+        rows = rowCount;
+        commit();
+    }
+
+    /** @return e.g. {@code "ProjectDAO.findProjects"}, or "unknown" for SQL issued outside a DAO */
+    static String callingDaoMethod() {
+        return WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(DATABASE_PACKAGE) && f.getClassName().endsWith("DAO"))
+                .findFirst()
+                .map(f -> f.getClassName().substring(DATABASE_PACKAGE.length()) + "." + f.getMethodName())
+                .orElse("unknown"));
+    }
+}
@@ -0,0 +1,65 @@
+package org.sam.projectmanager.techy_pma.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.sam.projectmanager.techy_pma.Main;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts a JFR recording from inside the app when {@code -Dtechy.jfr=<file>} is set.
+ *
+ * <p>The recording uses the JDK's {@code default} settings plus the bundled
+ * {@code jfr/techy.jfc} ({@link DaoQueryEvent}, {@link ScreenNavigationEvent},
+ * {@link CardRenderEvent}), and is written to the given file when the app exits.</p>
+ */
+public final class FlightRecording {
+
+    private static final Logger LOG = Log.getLogger(FlightRecording.class);
+
+    /** Application event settings, bundled with the app */
+    public static final String SETTINGS_RESOURCE = "/org/sam/projectmanager/techy_pma/jfr/techy.jfc";
+
+    private FlightRecording() {
+    }
+
+    /** Starts the recording if {@code techy.jfr} is set; otherwise does nothing */
+    public static void startIfRequested() {
+        String file = System.getProperty("techy.jfr");
+        if (file == null || file.isBlank()) return;
+
+        try {
+            Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            settings.putAll(loadBundledSettings().getSettings());
+
+            Recording recording = new Recording(settings);
+            recording.setName("Techy PMA");
+            recording.setDestination(Path.of(file));
+            recording.setDumpOnExit(true);
+            recording.start();
+            LOG.info("JFR recording started, written to {} on exit", file);
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            LOG.error("Could not start JFR recording", e);
+        }
+    }
+
+    /** @return The bundled {@code techy.jfc} settings */
+    public static Configuration loadBundledSettings() throws IOException, ParseException {
+        try (InputStream in = Main.class.getResourceAsStream(SETTINGS_RESOURCE)) {
+            if (in == null) throw new IOException("Missing " + SETTINGS_RESOURCE);
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return Configuration.create(reader);
+            }
+        }
+    }
+}
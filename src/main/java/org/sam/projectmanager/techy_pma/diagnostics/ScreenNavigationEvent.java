@@ -0,0 +1,118 @@
+package org.sam.projectmanager.techy_pma.diagnostics;
+
+import javafx.scene.Scene;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JFR event for a screen change, split into the FXML load (including the new
+ * controller's {@code initialize()} and its DAO calls) and the first layout pass
+ * of the new scene.
+ *
+ * <p>Usage in a controller's navigation method:</p>
+ * <pre>
+ * ScreenNavigationEvent navigation = ScreenNavigationEvent.start(fxmlFile);
+ * Scene scene = new Scene(loader.load(), width, height);
+ * navigation.loaded();
+ * stage.setScene(scene);
+ * navigation.commitAfterFirstPulse(scene);
+ * </pre>
+ *
+ * <p>Independently of JFR, every navigation also feeds the {@link Metrics} registry:
+ * {@code screen.<name>.loadTime} and {@code screen.<name>.renderTime} histograms, and a
+ * {@code screen.<name>.heapUsedMB} gauge with the heap in use when the screen last rendered.
+ * The load is also a {@link Tracer} span, nested in the action that navigated.</p>
+ */
+@Name("techy.ScreenNavigation")
+@Label("Screen Navigation")
+@Category({"Techy PMA", "UI"})
+@Description("Navigation from one FXML screen to another")
+@StackTrace(false)
+public class ScreenNavigationEvent extends jdk.jfr.Event {
+
+    // Navigation only happens on the FX thread
+    private static String currentFxml = "login.fxml";
+
+    // Heap in use at the last render of each screen, read by the heapUsedMB gauges
+    private static final Map<String, AtomicLong> HEAP_BY_SCREEN = new ConcurrentHashMap<>();
+
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+
+    @Label("Load Time")
+    @Description("FXML load, controller initialize() and scene creation")
+    @Timespan
+    long loadTime;
+
+    @Label("Render Time")
+    @Description("From setScene until the first CSS and layout pass has completed")
+    @Timespan
+    long renderTime;
+
+    // JFR's own start time is not exposed, so keep copies for the load/render split
+    private transient long startedAt;
+    private transient long loadedAt;
+
+    /**
+     * Starts timing a navigation.
+     *
+     * @param toFxml FXML file name of the target screen, e.g. {@code "dashboard.fxml"}
+     */
+    public static ScreenNavigationEvent start(String toFxml) {
+        ScreenNavigationEvent event = new ScreenNavigationEvent();
+        event.from = currentFxml;
+        event.to = toFxml;
+        currentFxml = toFxml;
+        event.startedAt = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /** Marks the end of the FXML load, just before the scene is shown */
+    public void loaded() {
+        loadedAt = System.nanoTime();
+        loadTime = loadedAt - startedAt;
+        Tracer.complete("load " + to, Tracer.CATEGORY_UI, startedAt, loadedAt, "from", from);
+    }
+
+    /**
+     * Commits the event once the new scene has gone through its first layout pulse.
+     *
+     * @param scene The scene that was just set on the stage
+     */
+    public void commitAfterFirstPulse(Scene scene) {
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            renderTime = System.nanoTime() - loadedAt;
+            recordMetrics();
+            commit();
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    private void recordMetrics() {
+        String screen = to.endsWith(".fxml") ? to.substring(0, to.length() - ".fxml".length()) : to;
+        Metrics.histogram("screen." + screen + ".loadTime").record(loadTime);
+        Metrics.histogram("screen." + screen + ".renderTime").record(renderTime);
+
+        Runtime runtime = Runtime.getRuntime();
+        HEAP_BY_SCREEN.computeIfAbsent(screen, s -> {
+            AtomicLong heap = new AtomicLong();
+            Metrics.gauge("screen." + s + ".heapUsedMB", () -> heap.get() / (1024.0 * 1024.0));
+            return heap;
+        }).set(runtime.totalMemory() - runtime.freeMemory());
+    }
+}
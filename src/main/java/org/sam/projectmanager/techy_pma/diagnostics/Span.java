@@ -0,0 +1,72 @@
+package org.sam.projectmanager.techy_pma.diagnostics;
+
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One timed interval in a {@link Tracer} trace, ended by {@link #close()}.
+ *
+ * <p>Opened with try-with-resources around the work it measures:</p>
+ * <pre>
+ * try (Span _ = Tracer.action("Join Project", joinButton)) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>When tracing is off every factory method returns the shared {@link #NOOP} span,
+ * so an untraced call costs one field read. Spans are not thread-safe; each belongs
+ * to the thread that opened it.</p>
+ */
+public final class Span implements AutoCloseable {
+
+    static final Span NOOP = new Span(null, null, null, null);
+
+    private final String name;
+    private final String category;
+    private final long start;
+
+    // Set only for UI actions: the window whose next frame ends the interaction
+    private final Window window;
+    private final String outerAction;
+
+    private List<Object> args;
+    private boolean closed;
+
+    Span(String name, String category, Window window, String outerAction) {
+        this.name = name;
+        this.category = category;
+        this.window = window;
+        this.outerAction = outerAction;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Adds an argument shown in the trace viewer's detail pane.
+     *
+     * @return This span, for chaining
+     */
+    public Span arg(String key, Object value) {
+        if (this == NOOP) return this;
+        if (args == null) args = new ArrayList<>(4);
+        args.add(key);
+        args.add(value);
+        return this;
+    }
+
+    /** Ends the span; closing it again has no effect */
+    @Override
+    public void close() {
+        if (this == NOOP || closed) return;
+        closed = true;
+        long end = System.nanoTime();
+
+        Object[] pairs = args == null ? new Object[0] : args.toArray();
+        Tracer.complete(name, category, start, end, pairs);
+
+        if (category.equals(Tracer.CATEGORY_ACTION)) {
+            Tracer.endAction(name, outerAction, start, end, window);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package org.sam.projectmanager.techy_pma.diagnostics;
+
+import javafx.application.Platform;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+import org.sam.projectmanager.techy_pma.metrics.Counter;
+import org.sam.projectmanager.techy_pma.metrics.LatencyHistogram;
+import org.sam.projectmanager.techy_pma.metrics.Metrics;
+import org.sam.projectmanager.techy_pma.utils.CurrentScreen;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects when the JavaFX Application Thread stops processing events, and records what it was doing.
+ *
+ * <p>A background thread posts a heartbeat with {@link Platform#runLater} and waits for the
+ * FX thread to run it. While a heartbeat is overdue by more than the threshold, the FX
+ * thread's stack is sampled once per threshold interval (up to {@value #MAX_SAMPLES} times).
+ * When the heartbeat finally runs, the stall is written to the report file with its
+ * duration, the screen it happened on, the stack samples and the updated histogram of
+ * stall durations since startup. Every heartbeat's delay, and each stall, is also
+ * published through {@link Metrics} ({@code fx.heartbeat.delay}, {@code fx.stalls},
+ * {@code fx.stall.duration}).</p>
+ *
+ * <p>Configured with system properties:</p>
+ * <ul>
+ *   <li>{@code -Dtechy.stall.thresholdMillis=250} — minimum blocked time reported (default: 250)</li>
+ *   <li>{@code -Dtechy.stall.report=stalls.log} — report file (default: {@code stalls.log} next to {@code techy.log})</li>
+ *   <li>{@code -Dtechy.stall.watchdog=false} — disable the watchdog</li>
+ * </ul>
+ */
+public final class StallWatchdog {
+
+    private static final Logger LOG = Log.getLogger(StallWatchdog.class);
+
+    private static final long HEARTBEAT_MILLIS = 50;
+    private static final int MAX_SAMPLES = 5;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /** Upper bounds (exclusive, ms) of the histogram buckets; the last bucket is open-ended */
+    private static final long[] BUCKET_BOUNDS = {500, 1000, 2000, 5000};
+    private static final String[] BUCKET_LABELS = {"<0.5s", "0.5-1s", "1-2s", "2-5s", ">=5s"};
+
+    private static final LatencyHistogram HEARTBEAT_DELAY = Metrics.histogram("fx.heartbeat.delay");
+    private static final LatencyHistogram STALL_DURATION = Metrics.histogram("fx.stall.duration");
+    private static final Counter STALLS = Metrics.counter("fx.stalls");
+
+    private static StallWatchdog instance;
+
+    private final Thread fxThread;
+    private final long thresholdNanos;
+    private final Path reportFile;
+    private final ScheduledExecutorService scheduler;
+
+    // ─── STATE (watchdog thread, except where noted) ───
+    private volatile long heartbeatPostedAt;    // 0 when no heartbeat is outstanding
+    private volatile long heartbeatRanAt;       // Written by the FX thread
+    private long nextSampleAt;
+    private String stallScreen;
+    private final List<StackTraceElement[]> samples = new ArrayList<>();
+    private final List<Long> sampleOffsets = new ArrayList<>();
+    private final long[] histogram = new long[BUCKET_LABELS.length];
+
+    private StallWatchdog(Thread fxThread, long thresholdNanos, Path reportFile) {
+        this.fxThread = fxThread;
+        this.thresholdNanos = thresholdNanos;
+        this.reportFile = reportFile;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "techy-stall-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts watching the calling thread, which must be the FX Application Thread.
+     * Does nothing if disabled or already started.
+     */
+    public static synchronized void start() {
+        if (instance != null || "false".equalsIgnoreCase(System.getProperty("techy.stall.watchdog"))) return;
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("StallWatchdog.start() must be called on the FX Application Thread");
+        }
+
+        long thresholdMillis = Long.getLong("techy.stall.thresholdMillis", 250);
+        Path report = System.getProperty("techy.stall.report") != null
+                ? Path.of(System.getProperty("techy.stall.report"))
+                : Path.of(System.getProperty("techy.log.dir", "logs"), "stalls.log");
+
+        instance = new StallWatchdog(Thread.currentThread(), TimeUnit.MILLISECONDS.toNanos(thresholdMillis), report);
+        instance.scheduler.scheduleWithFixedDelay(instance::tick, HEARTBEAT_MILLIS, HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+        LOG.info("Stall watchdog started: threshold {} ms, reports to {}", thresholdMillis, report);
+    }
+
+    /** Stops the watchdog, e.g. on application exit */
+    public static synchronized void stop() {
+        if (instance == null) return;
+        instance.scheduler.shutdownNow();
+        instance = null;
+    }
+
+    /** One watchdog iteration: post, check or close out a heartbeat */
+    private void tick() {
+        try {
+            long posted = heartbeatPostedAt;
+            long now = System.nanoTime();
+
+            if (posted == 0) {
+                postHeartbeat(now);
+            } else if (heartbeatRanAt >= posted) {
+                long blocked = heartbeatRanAt - posted;
+                HEARTBEAT_DELAY.record(blocked);
+                if (blocked >= thresholdNanos) report(blocked);
+                resetStall();
+                postHeartbeat(now);
+            } else if (now - posted >= thresholdNanos && now >= nextSampleAt && samples.size() < MAX_SAMPLES) {
+                if (samples.isEmpty()) stallScreen = CurrentScreen.get();
+                samples.add(fxThread.getStackTrace());
+                sampleOffsets.add(now - posted);
+                nextSampleAt = now + thresholdNanos;
+            }
+        } catch (IllegalStateException e) {
+            // The FX toolkit has exited; nothing left to watch
+            stop();
+        } catch (RuntimeException e) {
+            LOG.error("Stall watchdog iteration failed", e);
+        }
+    }
+
+    private void postHeartbeat(long now) {
+        heartbeatPostedAt = now;
+        Platform.runLater(() -> heartbeatRanAt = System.nanoTime());
+    }
+
+    private void resetStall() {
+        heartbeatPostedAt = 0;
+        nextSampleAt = 0;
+        stallScreen = null;
+        samples.clear();
+        sampleOffsets.clear();
+    }
+
+    private void report(long blockedNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(blockedNanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS.length && millis >= BUCKET_BOUNDS[bucket]) bucket++;
+        histogram[bucket]++;
+        STALLS.increment();
+        STALL_DURATION.record(blockedNanos);
+
+        String screen = stallScreen != null ? stallScreen : CurrentScreen.get();
+        LOG.warn("FX thread stalled for {} ms on screen '{}'", millis, screen);
+
+        StringBuilder out = new StringBuilder();
+        out.append("=== FX thread stall: ").append(millis).append(" ms on screen '").append(screen)
+                .append("' at ").append(LocalDateTime.now().format(TIMESTAMP)).append(" ===\n");
+
+        StackTraceElement[] previous = null;
+        for (int i = 0; i < samples.size(); i++) {
+            StackTraceElement[] stack = samples.get(i);
+            out.append("Stack at +").append(TimeUnit.NANOSECONDS.toMillis(sampleOffsets.get(i))).append(" ms");
+            if (Arrays.equals(stack, previous)) {
+                out.append(": same as previous\n");
+            } else {
+                out.append(":\n");
+                for (StackTraceElement frame : stack) out.append("    at ").append(frame).append('\n');
+            }
+            previous = stack;
+        }
+        if (samples.isEmpty()) {
+            out.append("(no stack sample: the stall ended between two watchdog checks)\n");
+        }
+
+        out.append(histogramLine()).append("\n\n");
+        append(out.toString());
+    }
+
+    private String histogramLine() {
+        long total = Arrays.stream(histogram).sum();
+        StringBuilder line = new StringBuilder("Stalls since startup (n=").append(total).append("):");
+        for (int i = 0; i < histogram.length; i++) {
+            line.append(i == 0 ? " " : " | ").append(BUCKET_LABELS[i]).append(": ").append(histogram[i]);
+        }
+        return line.toString();
+    }
+
+    private void append(String text) {
+        try {
+            if (reportFile.getParent() != null) Files.createDirectories(reportFile.getParent());
+            Files.writeString(reportFile, text, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.error("Could not write stall report to " + reportFile, e);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package org.sam.projectmanager.techy_pma.diagnostics;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-interaction latency tracing, from a UI action down to each SQL statement,
+ * written as Chrome trace-event JSON when {@code -Dtechy.trace=<file>} is set.
+ *
+ * <p>A controller wraps each handler in {@link #action(String, Node)}. Everything the
+ * handler does on that thread nests under it in the trace:</p>
+ * <ul>
+ *   <li>{@code ui} — FXML loads on navigation, and card construction chunks</li>
+ *   <li>{@code dao} — each DAO method, from its first statement until it closes the connection</li>
+ *   <li>{@code sql} — each statement, from execute until its result set is closed</li>
+ *   <li>{@code task} — work handed to another thread through {@link #propagate(Runnable)},
+ *       linked back to the action with a flow arrow</li>
+ * </ul>
+ *
+ * <p>When the handler returns, the action is followed into the frame it caused: a
+ * {@code CSS + layout} span until the window's next post-layout pulse, then a
+ * {@code paint} span until the pulse after that (an upper bound, since it includes
+ * waiting for vsync), and an {@code interaction} span covering the whole of it.
+ * Open the file in {@code chrome://tracing} or <a href="https://ui.perfetto.dev">Perfetto</a>.</p>
+ *
+ * <p>Events are buffered in memory, capped at {@value #MAX_EVENTS}, and written when the
+ * app exits. With tracing off every call returns at once without allocating.</p>
+ */
+public final class Tracer {
+
+    private static final Logger LOG = Log.getLogger(Tracer.class);
+
+    static final String CATEGORY_ACTION = "action";
+    public static final String CATEGORY_UI = "ui";
+    public static final String CATEGORY_DAO = "dao";
+    public static final String CATEGORY_SQL = "sql";
+    private static final String CATEGORY_TASK = "task";
+    private static final String CATEGORY_INTERACTION = "interaction";
+
+    private static final int MAX_EVENTS = 1_000_000;
+
+    private static final long ORIGIN = System.nanoTime();
+    private static final long PID = ProcessHandle.current().pid();
+
+    private static final Queue<String> EVENTS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger EVENT_COUNT = new AtomicInteger();
+    private static final Set<Long> NAMED_THREADS = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong FLOW_IDS = new AtomicLong();
+
+    // The action a span belongs to, carried into background tasks by propagate()
+    private static final ThreadLocal<String> CURRENT_ACTION = new ThreadLocal<>();
+
+    private static volatile Path file;
+
+    private Tracer() {
+    }
+
+    /** Starts collecting if {@code techy.trace} is set; otherwise every call stays a no-op */
+    public static void startIfRequested() {
+        String path = System.getProperty("techy.trace");
+        if (path == null || path.isBlank()) return;
+
+        file = Path.of(path);
+        Runtime.getRuntime().addShutdownHook(new Thread(Tracer::write, "techy-trace-writer"));
+        LOG.info("Tracing UI actions, written to {} on exit", file);
+    }
+
+    /** @return Whether spans are being recorded */
+    public static boolean isEnabled() {
+        return file != null;
+    }
+
+    // ─── SPANS ───
+
+    /**
+     * Opens the span for one user action. Call on the FX thread, at the top of the handler.
+     *
+     * @param name   What the user did, e.g. {@code "Join Project"}
+     * @param source Any node in the window the action happened in; its next frame ends the interaction
+     */
+    public static Span action(String name, Node source) {
+        if (file == null) return Span.NOOP;
+
+        Scene scene = source == null ? null : source.getScene();
+        Window window = scene == null ? null : scene.getWindow();
+        String outer = CURRENT_ACTION.get();
+        CURRENT_ACTION.set(name);
+        return new Span(name, CATEGORY_ACTION, window, outer);
+    }
+
+    /**
+     * Opens a span nested in whatever is running on this thread.
+     *
+     * @param name     Shown on the span, e.g. {@code "load dashboard.fxml"}
+     * @param category One of the {@code CATEGORY_} constants
+     */
+    public static Span span(String name, String category) {
+        if (file == null) return Span.NOOP;
+        return new Span(name, category, null, null);
+    }
+
+    /**
+     * Opens a span named after the DAO method on the call stack, e.g. {@code "ProjectDAO.findProjects"}.
+     * The stack is only walked while tracing.
+     */
+    public static Span daoCall() {
+        if (file == null) return Span.NOOP;
+        return new Span(DaoQueryEvent.callingDaoMethod(), CATEGORY_DAO, null, null);
+    }
+
+    /**
+     * Records an interval that was timed elsewhere.
+     *
+     * @param startNanos {@link System#nanoTime()} at the start
+     * @param endNanos   {@link System#nanoTime()} at the end
+     * @param args       Alternating keys and values, e.g. {@code "rows", 12}
+     */
+    public static void complete(String name, String category, long startNanos, long endNanos, Object... args) {
+        if (file == null) return;
+
+        StringBuilder event = event(name, category, "X", startNanos);
+        event.append(",\"dur\":");
+        appendMicros(event, Math.max(0, endNanos - startNanos));
+        appendArgs(event, args);
+        add(event.append('}'));
+    }
+
+    /**
+     * Wraps a task that will run on another thread, so its span is attributed to the
+     * current action and linked to it in the trace. Returns {@code task} itself when tracing is off.
+     */
+    public static Runnable propagate(Runnable task) {
+        if (file == null) return task;
+
+        String action = CURRENT_ACTION.get();
+        long flowId = FLOW_IDS.incrementAndGet();
+        add(event("handoff", CATEGORY_TASK, "s", System.nanoTime()).append(",\"id\":").append(flowId).append('}'));
+
+        return () -> {
+            String previous = CURRENT_ACTION.get();
+            CURRENT_ACTION.set(action);
+            long started = System.nanoTime();
+            add(event("handoff", CATEGORY_TASK, "f", started)
+                    .append(",\"bp\":\"e\",\"id\":").append(flowId).append('}'));
+            try {
+                task.run();
+            } finally {
+                complete(Thread.currentThread().getName(), CATEGORY_TASK, started, System.nanoTime());
+                CURRENT_ACTION.set(previous);
+            }
+        };
+    }
+
+    /** Called when an action span closes: restores the outer action and follows the outermost one to the screen */
+    static void endAction(String name, String outer, long start, long handled, Window window) {
+        CURRENT_ACTION.set(outer);
+        if (outer != null || window == null) return;
+
+        // Navigation replaces the scene, so look it up now rather than when the action started
+        Scene scene = window.getScene();
+        if (scene == null) return;
+
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            long laidOut = System.nanoTime();
+            complete("CSS + layout", CATEGORY_UI, handled, laidOut, "action", name);
+
+            new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    stop();
+                    long painted = System.nanoTime();
+                    complete("paint", CATEGORY_UI, laidOut, painted, "action", name);
+                    complete(name, CATEGORY_INTERACTION, start, painted);
+                }
+            }.start();
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+        Platform.requestNextPulse();
+    }
+
+    // ─── JSON ───
+
+    private static StringBuilder event(String name, String category, String phase, long nanos) {
+        long tid = Thread.currentThread().threadId();
+        if (NAMED_THREADS.add(tid)) {
+            StringBuilder meta = new StringBuilder(128).append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":")
+                    .append(PID).append(",\"tid\":").append(tid).append(",\"args\":{\"name\":");
+            appendString(meta, Thread.currentThread().getName());
+            add(meta.append("}}"));
+        }
+
+        StringBuilder event = new StringBuilder(192).append("{\"name\":");
+        appendString(event, name);
+        event.append(",\"cat\":\"").append(category).append("\",\"ph\":\"").append(phase)
+                .append("\",\"pid\":").append(PID).append(",\"tid\":").append(tid).append(",\"ts\":");
+        appendMicros(event, nanos - ORIGIN);
+        return event;
+    }
+
+    private static void appendArgs(StringBuilder event, Object[] args) {
+        String action = CURRENT_ACTION.get();
+        if (args.length == 0 && action == null) return;
+
+        event.append(",\"args\":{");
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (i > 0) event.append(',');
+            appendString(event, String.valueOf(args[i]));
+            event.append(':');
+            if (args[i + 1] instanceof Number number) event.append(number);
+            else appendString(event, String.valueOf(args[i + 1]));
+        }
+        if (action != null && !containsKey(args, "action")) {
+            if (args.length > 1) event.append(',');
+            event.append("\"action\":");
+            appendString(event, action);
+        }
+        event.append('}');
+    }
+
+    private static boolean containsKey(Object[] args, String key) {
+        for (int i = 0; i < args.length; i += 2) {
+            if (key.equals(args[i])) return true;
+        }
+        return false;
+    }
+
+    /** Trace timestamps are microseconds; keep nanosecond precision as three decimals */
+    private static void appendMicros(StringBuilder out, long nanos) {
+        long fraction = nanos % 1000;
+        out.append(nanos / 1000).append('.');
+        if (fraction < 100) out.append('0');
+        if (fraction < 10) out.append('0');
+        out.append(fraction);
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) out.append(String.format("\\u%04x", (int) c));
+                    else out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    // ─── OUTPUT ───
+
+    private static void add(CharSequence event) {
+        if (EVENT_COUNT.incrementAndGet() <= MAX_EVENTS) EVENTS.add(event.toString());
+    }
+
+    private static synchronized void write() {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("[\n");
+            boolean first = true;
+            for (String event : EVENTS) {
+                if (!first) out.write(",\n");
+                out.write(event);
+                first = false;
+            }
+            out.write("\n]\n");
+        } catch (IOException e) {
+            // The log may already be shutting down, so say it on stderr too
+            System.err.println("Could not write trace to " + file + ": " + e);
+            return;
+        }
+
+        int dropped = EVENT_COUNT.get() - MAX_EVENTS;
+        if (dropped > 0) System.err.println("Trace buffer was full; dropped " + dropped + " events");
+    }
+}
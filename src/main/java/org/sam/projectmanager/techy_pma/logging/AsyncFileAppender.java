@@ -0,0 +1,240 @@
+package org.sam.projectmanager.techy_pma.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes log lines to a rolling file from a background thread.
+ *
+ * <p>Callers only copy the event into a fixed-size ring buffer; formatting the
+ * timestamp, writing and flushing happen on the {@code techy-log-writer} thread.
+ * When the ring is full, new events are dropped and counted rather than blocking
+ * the caller (usually the FX thread), and the writer logs how many were lost.</p>
+ *
+ * <p>The file rolls over when it reaches {@code maxBytes}: {@code techy.log} becomes
+ * {@code techy.log.1}, {@code .1} becomes {@code .2}, and so on up to {@code maxFiles}.</p>
+ */
+final class AsyncFileAppender {
+
+    private static final int CAPACITY = 8192;
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+
+    // ─── RING (guarded by lock) ───
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition written = lock.newCondition();
+    private final long[] times = new long[CAPACITY];
+    private final Level[] levels = new Level[CAPACITY];
+    private final String[] threads = new String[CAPACITY];
+    private final String[] loggers = new String[CAPACITY];
+    private final String[] messages = new String[CAPACITY];
+    private final Throwable[] errors = new Throwable[CAPACITY];
+    private long head;          // Next slot to write out
+    private long tail;          // Next free slot
+    private long writtenUpTo;   // Everything before this sequence is on disk
+    private long dropped;
+    private boolean started;
+
+    // ─── WRITER THREAD ONLY ───
+    private BufferedWriter out;
+    private long bytes;
+
+    AsyncFileAppender(Path file, long maxBytes, int maxFiles) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    void append(Level level, String logger, String message, Throwable error) {
+        lock.lock();
+        try {
+            if (!started) start();
+            if (tail - head == CAPACITY) {
+                dropped++;
+                return;
+            }
+            int slot = (int) (tail & (CAPACITY - 1));
+            times[slot] = System.currentTimeMillis();
+            levels[slot] = level;
+            threads[slot] = Thread.currentThread().getName();
+            loggers[slot] = logger;
+            messages[slot] = message;
+            errors[slot] = error;
+            if (tail++ == head) notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Waits (up to a few seconds) until every event appended so far has been written */
+    void flush() {
+        lock.lock();
+        try {
+            long target = tail;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (writtenUpTo < target && started) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !written.await(remaining, TimeUnit.NANOSECONDS)) break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Called under the lock on first use, so tools that never log create no file */
+    private void start() {
+        started = true;
+        Thread writer = new Thread(this::run, "techy-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "techy-log-flush"));
+    }
+
+    private void run() {
+        open();
+
+        long[] batchTimes = new long[CAPACITY];
+        Level[] batchLevels = new Level[CAPACITY];
+        String[] batchThreads = new String[CAPACITY];
+        String[] batchLoggers = new String[CAPACITY];
+        String[] batchMessages = new String[CAPACITY];
+        Throwable[] batchErrors = new Throwable[CAPACITY];
+
+        while (true) {
+            int count;
+            long lost;
+            long end;
+
+            lock.lock();
+            try {
+                while (head == tail) notEmpty.awaitUninterruptibly();
+
+                count = (int) (tail - head);
+                for (int i = 0; i < count; i++) {
+                    int slot = (int) ((head + i) & (CAPACITY - 1));
+                    batchTimes[i] = times[slot];
+                    batchLevels[i] = levels[slot];
+                    batchThreads[i] = threads[slot];
+                    batchLoggers[i] = loggers[slot];
+                    batchMessages[i] = messages[slot];
+                    batchErrors[i] = errors[slot];
+                    messages[slot] = null;
+                    errors[slot] = null;
+                }
+                head = tail;
+                end = tail;
+                lost = dropped;
+                dropped = 0;
+            } finally {
+                lock.unlock();
+            }
+
+            if (lost > 0) {
+                write(System.currentTimeMillis(), Level.WARN, Thread.currentThread().getName(),
+                        "AsyncFileAppender", lost + " log messages dropped (buffer full)", null);
+            }
+            for (int i = 0; i < count; i++) {
+                write(batchTimes[i], batchLevels[i], batchThreads[i], batchLoggers[i], batchMessages[i], batchErrors[i]);
+                batchMessages[i] = null;
+                batchErrors[i] = null;
+            }
+            flushFile();
+
+            lock.lock();
+            try {
+                writtenUpTo = end;
+                written.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void write(long time, Level level, String thread, String logger, String message, Throwable error) {
+        StringBuilder line = new StringBuilder(96 + message.length());
+        line.append(TIMESTAMP.format(Instant.ofEpochMilli(time)))
+                .append(' ').append(String.format("%-5s", level))
+                .append(" [").append(thread).append("] ")
+                .append(logger).append(" - ").append(message)
+                .append(System.lineSeparator());
+        if (error != null) {
+            StringWriter trace = new StringWriter();
+            error.printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+
+        String text = line.toString();
+        if (level.compareTo(Level.WARN) >= 0 || out == null) {
+            System.err.print(text);
+        }
+        if (out == null) return;
+
+        try {
+            out.write(text);
+            bytes += text.length();
+            if (bytes >= maxBytes) roll();
+        } catch (IOException e) {
+            System.err.println("Log file write failed, logging to stderr only: " + e.getMessage());
+            out = null;
+        }
+    }
+
+    private void flushFile() {
+        if (out == null) return;
+        try {
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Log file flush failed: " + e.getMessage());
+        }
+    }
+
+    private void open() {
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            bytes = Files.size(file);
+        } catch (IOException e) {
+            System.err.println("Cannot open log file " + file + ", logging to stderr only: " + e.getMessage());
+            out = null;
+        }
+    }
+
+    private void roll() throws IOException {
+        out.close();
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path older = rolled(i);
+            if (Files.exists(older)) Files.move(older, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (maxFiles > 0) {
+            Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+        open();
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
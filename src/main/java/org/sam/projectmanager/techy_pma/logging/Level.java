@@ -0,0 +1,12 @@
+package org.sam.projectmanager.techy_pma.logging;
+
+/**
+ * Log levels, least to most severe.
+ */
+public enum Level {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF
+}
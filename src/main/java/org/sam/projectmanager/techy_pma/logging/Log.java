@@ -0,0 +1,72 @@
+package org.sam.projectmanager.techy_pma.logging;
+
+import java.nio.file.Path;
+
+/**
+ * Entry point of the logging subsystem: hands out {@link Logger}s and owns the level
+ * threshold and the shared {@link AsyncFileAppender}.
+ *
+ * <p>Configured with system properties:</p>
+ * <ul>
+ *   <li>{@code -Dtechy.log.level=DEBUG} — minimum level written (default: INFO)</li>
+ *   <li>{@code -Dtechy.log.dir=logs} — directory of {@code techy.log} and its rolled copies</li>
+ *   <li>{@code -Dtechy.log.maxBytes=5242880} — size at which the file rolls over</li>
+ *   <li>{@code -Dtechy.log.files=3} — rolled copies kept</li>
+ * </ul>
+ *
+ * <p>WARN and ERROR lines are also echoed to stderr, from the writer thread.</p>
+ */
+public final class Log {
+
+    // Read on every log call, so a plain volatile int rather than the enum
+    private static volatile int threshold = parseLevel(System.getProperty("techy.log.level")).ordinal();
+
+    private static final AsyncFileAppender APPENDER = new AsyncFileAppender(
+            Path.of(System.getProperty("techy.log.dir", "logs"), "techy.log"),
+            Long.getLong("techy.log.maxBytes", 5L * 1024 * 1024),
+            Integer.getInteger("techy.log.files", 3)
+    );
+
+    private Log() {
+    }
+
+    /**
+     * @param owner Class whose simple name appears on each line
+     * @return A logger; cheap to create, usually kept in a {@code private static final} field
+     */
+    public static Logger getLogger(Class<?> owner) {
+        return new Logger(owner.getSimpleName());
+    }
+
+    public static Level getLevel() {
+        return Level.values()[threshold];
+    }
+
+    /** Changes the minimum level at runtime, e.g. to turn on DEBUG while investigating */
+    public static void setLevel(Level level) {
+        threshold = level.ordinal();
+    }
+
+    static boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold && level != Level.OFF;
+    }
+
+    static void append(Level level, String logger, String message, Throwable error) {
+        APPENDER.append(level, logger, message, error);
+    }
+
+    /** Blocks until everything logged so far has been written, e.g. before exiting */
+    public static void flush() {
+        APPENDER.flush();
+    }
+
+    private static Level parseLevel(String value) {
+        if (value == null) return Level.INFO;
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown techy.log.level '" + value + "', using INFO");
+            return Level.INFO;
+        }
+    }
+}
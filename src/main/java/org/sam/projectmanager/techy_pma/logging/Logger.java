@@ -0,0 +1,162 @@
+package org.sam.projectmanager.techy_pma.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * Named logger handed out by {@link Log#getLogger(Class)}.
+ *
+ * <p>Messages use {@code {}} placeholders, filled in only when the level is enabled.
+ * Primitive overloads ({@code long}) let hot paths pass counts and IDs without boxing,
+ * so a disabled call such as {@code LOG.debug("Retrieved {} projects", projects.size())}
+ * costs one level check and allocates nothing. For anything more expensive to build,
+ * pass a {@link Supplier}.</p>
+ */
+public final class Logger {
+
+    private final String name;
+
+    Logger(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isDebugEnabled() {
+        return Log.isEnabled(Level.DEBUG);
+    }
+
+    public boolean isEnabled(Level level) {
+        return Log.isEnabled(level);
+    }
+
+    // ─── DEBUG ───
+
+    public void debug(String message) {
+        if (Log.isEnabled(Level.DEBUG)) Log.append(Level.DEBUG, name, message, null);
+    }
+
+    public void debug(String pattern, Object arg) {
+        if (Log.isEnabled(Level.DEBUG)) Log.append(Level.DEBUG, name, format(pattern, arg), null);
+    }
+
+    public void debug(String pattern, long arg) {
+        if (Log.isEnabled(Level.DEBUG)) Log.append(Level.DEBUG, name, format(pattern, arg), null);
+    }
+
+    public void debug(String pattern, Object arg1, Object arg2) {
+        if (Log.isEnabled(Level.DEBUG)) Log.append(Level.DEBUG, name, format(pattern, arg1, arg2), null);
+    }
+
+    public void debug(String pattern, long arg1, long arg2) {
+        if (Log.isEnabled(Level.DEBUG)) Log.append(Level.DEBUG, name, format(pattern, arg1, arg2), null);
+    }
+
+    public void debug(String pattern, long arg1, Object arg2) {
+        if (Log.isEnabled(Level.DEBUG)) Log.append(Level.DEBUG, name, format(pattern, arg1, arg2), null);
+    }
+
+    public void debug(Supplier<String> message) {
+        if (Log.isEnabled(Level.DEBUG)) Log.append(Level.DEBUG, name, message.get(), null);
+    }
+
+    // ─── INFO ───
+
+    public void info(String message) {
+        if (Log.isEnabled(Level.INFO)) Log.append(Level.INFO, name, message, null);
+    }
+
+    public void info(String pattern, Object arg) {
+        if (Log.isEnabled(Level.INFO)) Log.append(Level.INFO, name, format(pattern, arg), null);
+    }
+
+    public void info(String pattern, long arg) {
+        if (Log.isEnabled(Level.INFO)) Log.append(Level.INFO, name, format(pattern, arg), null);
+    }
+
+    public void info(String pattern, Object arg1, Object arg2) {
+        if (Log.isEnabled(Level.INFO)) Log.append(Level.INFO, name, format(pattern, arg1, arg2), null);
+    }
+
+    public void info(String pattern, long arg1, long arg2) {
+        if (Log.isEnabled(Level.INFO)) Log.append(Level.INFO, name, format(pattern, arg1, arg2), null);
+    }
+
+    public void info(String pattern, long arg1, Object arg2) {
+        if (Log.isEnabled(Level.INFO)) Log.append(Level.INFO, name, format(pattern, arg1, arg2), null);
+    }
+
+    public void info(Supplier<String> message) {
+        if (Log.isEnabled(Level.INFO)) Log.append(Level.INFO, name, message.get(), null);
+    }
+
+    // ─── WARN ───
+
+    public void warn(String message) {
+        if (Log.isEnabled(Level.WARN)) Log.append(Level.WARN, name, message, null);
+    }
+
+    public void warn(String pattern, Object arg) {
+        if (Log.isEnabled(Level.WARN)) Log.append(Level.WARN, name, format(pattern, arg), null);
+    }
+
+    public void warn(String pattern, Object arg1, Object arg2) {
+        if (Log.isEnabled(Level.WARN)) Log.append(Level.WARN, name, format(pattern, arg1, arg2), null);
+    }
+
+    public void warn(String message, Throwable error) {
+        if (Log.isEnabled(Level.WARN)) Log.append(Level.WARN, name, message, error);
+    }
+
+    public void warn(Supplier<String> message) {
+        if (Log.isEnabled(Level.WARN)) Log.append(Level.WARN, name, message.get(), null);
+    }
+
+    // ─── ERROR ───
+
+    public void error(String message) {
+        if (Log.isEnabled(Level.ERROR)) Log.append(Level.ERROR, name, message, null);
+    }
+
+    public void error(String message, Throwable error) {
+        if (Log.isEnabled(Level.ERROR)) Log.append(Level.ERROR, name, message, error);
+    }
+
+    // ─── FORMATTING ───
+
+    private static String format(String pattern, Object arg) {
+        return format(pattern, String.valueOf(arg), null);
+    }
+
+    private static String format(String pattern, long arg) {
+        return format(pattern, String.valueOf(arg), null);
+    }
+
+    private static String format(String pattern, long arg1, long arg2) {
+        return format(pattern, String.valueOf(arg1), String.valueOf(arg2));
+    }
+
+    private static String format(String pattern, long arg1, Object arg2) {
+        return format(pattern, String.valueOf(arg1), String.valueOf(arg2));
+    }
+
+    private static String format(String pattern, Object arg1, Object arg2) {
+        return format(pattern, String.valueOf(arg1), String.valueOf(arg2));
+    }
+
+    /** Replaces the first {@code {}} with {@code first} and the second with {@code second} (if not null) */
+    private static String format(String pattern, String first, String second) {
+        StringBuilder out = new StringBuilder(pattern.length() + 32);
+        int from = 0;
+        String[] args = {first, second};
+        for (String arg : args) {
+            if (arg == null) break;
+            int at = pattern.indexOf("{}", from);
+            if (at < 0) break;
+            out.append(pattern, from, at).append(arg);
+            from = at + 2;
+        }
+        return out.append(pattern, from, pattern.length()).toString();
+    }
+}
@@ -0,0 +1,99 @@
+package org.sam.projectmanager.techy_pma.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import javax.management.ReflectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Read-only MBean view of one metric: a fixed set of named attributes, read on demand,
+ * and an optional {@code reset} operation. JConsole and JMC show it under
+ * {@code org.sam.projectmanager.techy_pma/<type>/<name>}.
+ */
+final class MetricBean implements DynamicMBean {
+
+    private final String description;
+    private final Map<String, Supplier<Object>> values = new LinkedHashMap<>();
+    private final Map<String, MBeanAttributeInfo> infos = new LinkedHashMap<>();
+    private Runnable reset;
+
+    MetricBean(String description) {
+        this.description = description;
+    }
+
+    MetricBean longAttribute(String name, String description, Supplier<Long> value) {
+        return attribute(name, description, "long", value::get);
+    }
+
+    MetricBean doubleAttribute(String name, String description, Supplier<Double> value) {
+        return attribute(name, description, "double", value::get);
+    }
+
+    MetricBean resetOperation(Runnable reset) {
+        this.reset = reset;
+        return this;
+    }
+
+    private MetricBean attribute(String name, String description, String type, Supplier<Object> value) {
+        values.put(name, value);
+        infos.put(name, new MBeanAttributeInfo(name, type, description, true, false, false));
+        return this;
+    }
+
+    // ─── DynamicMBean ───
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Supplier<Object> value = values.get(attribute);
+        if (value == null) throw new AttributeNotFoundException(attribute);
+        return value.get();
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String name : attributes) {
+            Supplier<Object> value = values.get(name);
+            if (value != null) list.add(new Attribute(name, value.get()));
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        if ("reset".equals(actionName) && reset != null) {
+            reset.run();
+            return null;
+        }
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        MBeanOperationInfo[] operations = reset == null
+                ? new MBeanOperationInfo[0]
+                : new MBeanOperationInfo[]{new MBeanOperationInfo("reset", "Clears the recorded values",
+                new MBeanParameterInfo[0], "void", MBeanOperationInfo.ACTION)};
+
+        return new MBeanInfo(MetricBean.class.getName(), description,
+                infos.values().toArray(MBeanAttributeInfo[]::new), null, operations, null);
+    }
+}
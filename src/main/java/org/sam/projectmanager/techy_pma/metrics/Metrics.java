@@ -0,0 +1,97 @@
+package org.sam.projectmanager.techy_pma.metrics;
+
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Application-wide metrics registry, published over JMX.
+ *
+ * <ul>
+ *   <li>{@link #counter(String)} — monotonic counts (statements run, stalls, cache misses)</li>
+ *   <li>{@link #gauge(String, DoubleSupplier)} — values read when JMX asks for them (hit rates, heap per screen)</li>
+ *   <li>{@link #histogram(String)} — lock-free {@link LatencyHistogram}s of nanosecond durations,
+ *       shown as millisecond percentiles</li>
+ * </ul>
+ *
+ * <p>Metrics are created on first use and live for the life of the process, so callers
+ * keep the returned object in a {@code static final} field. Each one is registered as
+ * an MBean named {@code org.sam.projectmanager.techy_pma:type=<Counter|Gauge|Histogram>,name=<name>}
+ * on the platform MBean server, where JConsole and JMC can watch it with no extra setup.
+ * {@code -Dtechy.metrics.jmx=false} keeps the registry but skips the MBeans.</p>
+ */
+public final class Metrics {
+
+    private static final Logger LOG = Log.getLogger(Metrics.class);
+
+    private static final String DOMAIN = "org.sam.projectmanager.techy_pma";
+    private static final boolean JMX = !"false".equalsIgnoreCase(System.getProperty("techy.metrics.jmx"));
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, DoubleSupplier> GAUGES = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    /**
+     * @param name Dotted metric name, e.g. {@code "db.connections.opened"}
+     * @return The counter with this name, created on first use
+     */
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, n -> {
+            Counter counter = new Counter();
+            register("Counter", n, new MetricBean("Count of " + n)
+                    .longAttribute("Count", "Total since startup or the last reset", counter::get)
+                    .resetOperation(counter::reset));
+            return counter;
+        });
+    }
+
+    /**
+     * Registers a gauge; later registrations under the same name are ignored.
+     *
+     * @param name  Dotted metric name, e.g. {@code "db.querySqlCache.hitRate"}
+     * @param value Computes the current value; called from JMX threads, so it must be thread-safe
+     */
+    public static void gauge(String name, DoubleSupplier value) {
+        if (GAUGES.putIfAbsent(name, value) != null) return;
+        register("Gauge", name, new MetricBean("Current value of " + name)
+                .doubleAttribute("Value", "Value at the time of reading", value::getAsDouble));
+    }
+
+    /**
+     * @param name Dotted metric name, e.g. {@code "db.query.latency"}
+     * @return The histogram with this name, created on first use; record nanoseconds into it
+     */
+    public static LatencyHistogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, n -> {
+            LatencyHistogram histogram = new LatencyHistogram();
+            register("Histogram", n, new MetricBean("Distribution of " + n)
+                    .longAttribute("Count", "Values recorded", histogram::getCount)
+                    .doubleAttribute("MeanMillis", "Mean", () -> histogram.getMean() / 1e6)
+                    .doubleAttribute("P50Millis", "Median", () -> histogram.getValueAtPercentile(50) / 1e6)
+                    .doubleAttribute("P90Millis", "90th percentile", () -> histogram.getValueAtPercentile(90) / 1e6)
+                    .doubleAttribute("P99Millis", "99th percentile", () -> histogram.getValueAtPercentile(99) / 1e6)
+                    .doubleAttribute("MaxMillis", "Largest value", () -> histogram.getMax() / 1e6)
+                    .resetOperation(histogram::reset));
+            return histogram;
+        });
+    }
+
+    private static void register(String type, String name, MetricBean bean) {
+        if (!JMX) return;
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",name=" + name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(bean, objectName);
+        } catch (JMException e) {
+            LOG.warn("Could not publish metric " + name + " over JMX", e);
+        }
+    }
+}
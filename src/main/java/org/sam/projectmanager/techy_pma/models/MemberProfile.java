@@ -0,0 +1,72 @@
+package org.sam.projectmanager.techy_pma.models;
+
+import java.util.Objects;
+
+/**
+ * Read-only pairing of a project membership with the member's user record.
+ * Returned by queries that join project_members with users, so a member
+ * list can be rendered without looking up each user separately.
+ */
+public class MemberProfile {
+
+    private final ProjectMember membership;
+    private final User user;            // Password is never loaded for profiles
+
+    /**
+     * Constructor used by the DAO layer when reading joined rows.
+     *
+     * @param membership the project_members row
+     * @param user the matching users row (without password)
+     */
+    public MemberProfile(ProjectMember membership, User user) {
+        this.membership = membership;
+        this.user = user;
+    }
+
+    // Getters
+
+    public ProjectMember getMembership() {
+        return membership;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Returns a readable string representation of the MemberProfile object.
+     *
+     * @return string representation with membership and user details
+     */
+    @Override
+    public String toString() {
+        return "MemberProfile{" +
+                "membership=" + membership +
+                ", user=" + user +
+                '}';
+    }
+
+    /**
+     * Checks equality based on the membership id (primary key).
+     *
+     * @param o object to compare
+     * @return true if both profiles describe the same membership
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MemberProfile that = (MemberProfile) o;
+        return membership.getId() == that.membership.getId();
+    }
+
+    /**
+     * Generates hash code based on the membership id.
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(membership.getId());
+    }
+}
@@ -0,0 +1,92 @@
+package org.sam.projectmanager.techy_pma.models;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * A project's progress over one day, week or month, aggregated from every
+ * progress change in that period. Buckets without a change do not exist.
+ */
+public class ProgressBucket {
+
+    /** Bucket length; stored lower-case in the granularity column */
+    public enum Granularity {
+        DAY,    // UTC calendar day
+        WEEK,   // Monday to Sunday, UTC
+        MONTH;  // UTC calendar month
+
+        public String dbValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final LocalDateTime start;     // First instant of the bucket, UTC
+    private final int samples;             // Progress changes recorded in the bucket
+    private final int minProgress;
+    private final int maxProgress;
+    private final double averageProgress;  // Mean of the recorded values, not weighted by time
+    private final int lastProgress;        // Value at the end of the bucket
+
+    /**
+     * Constructor used by the DAO layer when reading rollups.
+     *
+     * @param start first instant of the bucket, in UTC
+     * @param samples number of progress changes recorded in it
+     * @param minProgress lowest recorded value
+     * @param maxProgress highest recorded value
+     * @param averageProgress mean of the recorded values
+     * @param lastProgress latest recorded value
+     */
+    public ProgressBucket(LocalDateTime start, int samples, int minProgress, int maxProgress,
+                          double averageProgress, int lastProgress) {
+        this.start = start;
+        this.samples = samples;
+        this.minProgress = minProgress;
+        this.maxProgress = maxProgress;
+        this.averageProgress = averageProgress;
+        this.lastProgress = lastProgress;
+    }
+
+    // Getters
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public int getMinProgress() {
+        return minProgress;
+    }
+
+    public int getMaxProgress() {
+        return maxProgress;
+    }
+
+    public double getAverageProgress() {
+        return averageProgress;
+    }
+
+    public int getLastProgress() {
+        return lastProgress;
+    }
+
+    /**
+     * Returns a readable string representation of the ProgressBucket object.
+     *
+     * @return string representation with all bucket values
+     */
+    @Override
+    public String toString() {
+        return "ProgressBucket{" +
+                "start=" + start +
+                ", samples=" + samples +
+                ", min=" + minProgress +
+                ", max=" + maxProgress +
+                ", avg=" + averageProgress +
+                ", last=" + lastProgress +
+                '}';
+    }
+}
@@ -25,6 +25,8 @@ public class Project {
     private int createdBy;              // User ID (foreign key)
     private LocalDateTime createdAt;    // Database-managed timestamp
     private String status;              // Allowed values: not started, in progress, completed, published, canceled
+    private boolean archived;           // Read from the archive database; read-only
+    private int memberCount;            // Kept by triggers on project_members; 0 for archived projects
 
     /**
      * Constructor for creating a new project (before database insertion).
@@ -145,6 +147,28 @@ public class Project {
         this.status = status.toLowerCase();
     }
 
+    /**
+     * @return true if the project was moved to the archive database and can no longer be edited
+     */
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    /**
+     * @return Number of members, as stored on the project row rather than counted
+     */
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(int memberCount) {
+        this.memberCount = memberCount;
+    }
+
     /**
      * Returns a readable string representation of the Project object.
      *
@@ -160,6 +184,7 @@ public class Project {
                 ", createdBy=" + createdBy +
                 ", createdAt=" + createdAt +
                 ", status='" + status + '\'' +
+                ", memberCount=" + memberCount +
                 '}';
     }
 
@@ -0,0 +1,144 @@
+package org.sam.projectmanager.techy_pma.models;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * One entry of a project's activity log: who did what to the project, and when.
+ * Entries are append-only; they are never updated or deleted once written.
+ */
+public class ProjectActivity {
+
+    /** What happened; stored lower-case in the action column */
+    public enum Action {
+        PROGRESS,   // detail: new progress, 0-100
+        STATUS,     // detail: new status
+        JOINED,     // subject joined or was added; detail: role
+        LEFT,       // subject left or was removed
+        ROLE;       // subject's role changed; detail: new role
+
+        public String dbValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Action fromDbValue(String value) {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final long id;                  // Primary key
+    private final int projectId;
+    private final Integer actorId;          // User who did it; null when done outside a session (tools)
+    private final String actorName;
+    private final Action action;
+    private final Integer subjectId;        // Member the action was about, for JOINED/LEFT/ROLE
+    private final String subjectName;
+    private final String detail;
+    private final LocalDateTime timestamp;  // UTC, millisecond precision
+
+    /**
+     * Constructor used by the DAO layer when reading the log.
+     *
+     * @param id the entry's unique identifier
+     * @param projectId the project the entry belongs to
+     * @param actorId the acting user's ID, or null
+     * @param actorName the acting user's username, or null if unknown
+     * @param action what happened
+     * @param subjectId the affected member's ID, or null
+     * @param subjectName the affected member's username, or null if unknown
+     * @param detail the new value (progress, status or role), or null
+     * @param timestamp when it happened, in UTC
+     */
+    public ProjectActivity(long id, int projectId, Integer actorId, String actorName, Action action,
+                           Integer subjectId, String subjectName, String detail, LocalDateTime timestamp) {
+        this.id = id;
+        this.projectId = projectId;
+        this.actorId = actorId;
+        this.actorName = actorName;
+        this.action = action;
+        this.subjectId = subjectId;
+        this.subjectName = subjectName;
+        this.detail = detail;
+        this.timestamp = timestamp;
+    }
+
+    // Getters
+
+    public long getId() {
+        return id;
+    }
+
+    public int getProjectId() {
+        return projectId;
+    }
+
+    public Integer getActorId() {
+        return actorId;
+    }
+
+    public String getActorName() {
+        return actorName;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public Integer getSubjectId() {
+        return subjectId;
+    }
+
+    public String getSubjectName() {
+        return subjectName;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns a readable string representation of the ProjectActivity object.
+     *
+     * @return string representation with all entry details
+     */
+    @Override
+    public String toString() {
+        return "ProjectActivity{" +
+                "id=" + id +
+                ", projectId=" + projectId +
+                ", actorId=" + actorId +
+                ", action=" + action +
+                ", subjectId=" + subjectId +
+                ", detail='" + detail + '\'' +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+
+    /**
+     * Checks equality based on id (primary key).
+     *
+     * @param o object to compare
+     * @return true if both describe the same log entry
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return id == ((ProjectActivity) o).id;
+    }
+
+    /**
+     * Generates hash code based on id.
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
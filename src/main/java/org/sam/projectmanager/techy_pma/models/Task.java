@@ -0,0 +1,212 @@
+package org.sam.projectmanager.techy_pma.models;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents a unit of work within a Project.
+ * A project's progress is the share of its task weight that is done.
+ */
+public class Task {
+
+    // Allowed status values
+    private static final Set<String> ALLOWED_STATUSES = new HashSet<>(
+            Arrays.asList("todo", "in progress", "done")
+    );
+
+    // Private fields
+    private int taskId;                 // Primary key
+    private int projectId;              // Foreign key to Project
+    private String title;
+    private Integer assigneeId;         // Foreign key to User, null when unassigned
+    private String assigneeName;        // Joined from users when read, not stored
+    private String status;              // Allowed values: todo, in progress, done
+    private int weight;                 // Share of the project's progress, at least 1
+    private LocalDateTime createdAt;    // Database-managed creation timestamp
+
+    /**
+     * Constructor for creating a new task (before saving to database).
+     *
+     * @param projectId the ID of the project
+     * @param title what needs doing
+     * @param assigneeId the ID of the user doing it, or null
+     * @param weight relative size of the task, at least 1
+     */
+    public Task(int projectId, String title, Integer assigneeId, int weight) {
+        this.projectId = projectId;
+        this.title = title;
+        this.assigneeId = assigneeId;
+        this.status = "todo";
+        setWeight(weight); // Use setter for validation
+    }
+
+    /**
+     * Constructor for creating a task object from database records.
+     * Used by DAO layer when retrieving existing tasks.
+     *
+     * @param taskId the unique task identifier
+     * @param projectId the ID of the project
+     * @param title what needs doing
+     * @param assigneeId the ID of the assigned user, or null
+     * @param assigneeName the assigned user's username, or null
+     * @param status the task status
+     * @param weight relative size of the task
+     * @param createdAt the timestamp when the task was created
+     */
+    public Task(int taskId, int projectId, String title, Integer assigneeId, String assigneeName,
+                String status, int weight, LocalDateTime createdAt) {
+        this.taskId = taskId;
+        this.projectId = projectId;
+        this.title = title;
+        this.assigneeId = assigneeId;
+        this.assigneeName = assigneeName;
+        setStatus(status); // Use setter for validation
+        setWeight(weight);
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+
+    public int getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(int taskId) {
+        this.taskId = taskId;
+    }
+
+    public int getProjectId() {
+        return projectId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Integer getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Integer assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public String getAssigneeName() {
+        return assigneeName;
+    }
+
+    public void setAssigneeName(String assigneeName) {
+        this.assigneeName = assigneeName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Sets the task's status with validation.
+     *
+     * @param status the status (must be one of: todo, in progress, done)
+     * @throws IllegalArgumentException if status is not one of the allowed values
+     */
+    public void setStatus(String status) {
+        if (status == null || !ALLOWED_STATUSES.contains(status)) {
+            throw new IllegalArgumentException(
+                    "Invalid status. Allowed values: " + ALLOWED_STATUSES + ". Provided: " + status
+            );
+        }
+        this.status = status;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * Sets the task's weight with validation.
+     *
+     * @param weight relative size of the task
+     * @throws IllegalArgumentException if weight is less than 1
+     */
+    public void setWeight(int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Weight must be at least 1. Provided: " + weight);
+        }
+        this.weight = weight;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Returns a readable string representation of the Task object.
+     *
+     * @return string representation with all task details
+     */
+    @Override
+    public String toString() {
+        return "Task{" +
+                "taskId=" + taskId +
+                ", projectId=" + projectId +
+                ", title='" + title + '\'' +
+                ", assigneeId=" + assigneeId +
+                ", status='" + status + '\'' +
+                ", weight=" + weight +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+
+    /**
+     * Checks equality based on taskId (primary key).
+     *
+     * @param o object to compare
+     * @return true if tasks have the same taskId
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Task task = (Task) o;
+        return taskId == task.taskId;
+    }
+
+    /**
+     * Generates hash code based on taskId.
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(taskId);
+    }
+
+    /**
+     * Utility method to get all allowed status values.
+     *
+     * @return set of allowed status values
+     */
+    public static Set<String> getAllowedStatuses() {
+        return new HashSet<>(ALLOWED_STATUSES);
+    }
+
+    /**
+     * Utility method to check if the task is done.
+     *
+     * @return true if status is done
+     */
+    public boolean isDone() {
+        return "done".equals(this.status);
+    }
+}
@@ -0,0 +1,70 @@
+package org.sam.projectmanager.techy_pma.models;
+
+/**
+ * A project's task counts and weights, kept current by triggers as tasks change,
+ * from which its progress is derived.
+ */
+public class TaskTotals {
+
+    private final int tasks;
+    private final int tasksDone;
+    private final long weightTotal;
+    private final long weightDone;
+
+    /**
+     * Constructor used by the DAO layer.
+     *
+     * @param tasks number of tasks
+     * @param tasksDone number of tasks that are done
+     * @param weightTotal sum of every task's weight
+     * @param weightDone sum of the done tasks' weight
+     */
+    public TaskTotals(int tasks, int tasksDone, long weightTotal, long weightDone) {
+        this.tasks = tasks;
+        this.tasksDone = tasksDone;
+        this.weightTotal = weightTotal;
+        this.weightDone = weightDone;
+    }
+
+    // Getters
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public int getTasksDone() {
+        return tasksDone;
+    }
+
+    public long getWeightTotal() {
+        return weightTotal;
+    }
+
+    public long getWeightDone() {
+        return weightDone;
+    }
+
+    /**
+     * The progress the project is given: done weight as a whole percentage of the total, rounded down.
+     *
+     * @return 0 to 100, or 0 when the project has no tasks
+     */
+    public int getProgress() {
+        return weightTotal == 0 ? 0 : (int) (weightDone * 100 / weightTotal);
+    }
+
+    /**
+     * Returns a readable string representation of the TaskTotals object.
+     *
+     * @return string representation with all totals
+     */
+    @Override
+    public String toString() {
+        return "TaskTotals{" +
+                "tasks=" + tasks +
+                ", done=" + tasksDone +
+                ", weightTotal=" + weightTotal +
+                ", weightDone=" + weightDone +
+                '}';
+    }
+}
@@ -0,0 +1,116 @@
+package org.sam.projectmanager.techy_pma.ui;
+
+import javafx.animation.AnimationTimer;
+import org.sam.projectmanager.techy_pma.diagnostics.Span;
+import org.sam.projectmanager.techy_pma.diagnostics.Tracer;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Spreads a long piece of UI work over several JavaFX pulses so the
+ * Application Thread keeps handling input and animation while it runs.
+ *
+ * <p>The work is supplied as a step function that does one small unit
+ * (e.g. building one card) and returns whether more remains. On {@link #render}:</p>
+ * <ol>
+ *   <li>The first {@code initialSteps} steps run immediately, so the first screenful appears at once</li>
+ *   <li>The rest run from an {@link AnimationTimer}, at most {@code frameBudgetMillis} per pulse</li>
+ *   <li>Starting a new render, or calling {@link #cancel()}, drops any steps still pending</li>
+ * </ol>
+ *
+ * <p>Each synchronous batch and each later chunk is a {@link Tracer} span when tracing is on.</p>
+ *
+ * <p>Must only be used from the JavaFX Application Thread.</p>
+ */
+public class ChunkedRenderer {
+
+    private final int initialSteps;
+    private final long frameBudgetNanos;
+
+    private BooleanSupplier currentTask;
+    private Runnable currentOnComplete;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            runChunk();
+        }
+    };
+
+    /**
+     * @param initialSteps      Steps to run synchronously before the first pulse (the first screenful)
+     * @param frameBudgetMillis Maximum time spent on the task per pulse, in milliseconds
+     */
+    public ChunkedRenderer(int initialSteps, double frameBudgetMillis) {
+        this.initialSteps = initialSteps;
+        this.frameBudgetNanos = (long) (frameBudgetMillis * 1_000_000);
+    }
+
+    /**
+     * Cancels whatever is still pending and starts rendering {@code task}.
+     *
+     * @param task       Performs one unit of work per call, returning true while more remains
+     * @param onComplete Called once the task has finished, never called if it is cancelled (may be null)
+     */
+    public void render(BooleanSupplier task, Runnable onComplete) {
+        cancel();
+
+        // ─── FIRST SCREENFUL: synchronously ───
+        boolean more = true;
+        try (Span span = Tracer.span("render first screenful", Tracer.CATEGORY_UI)) {
+            int steps = 0;
+            for (; steps < initialSteps && more; steps++) {
+                more = task.getAsBoolean();
+            }
+            span.arg("steps", steps);
+        }
+
+        if (!more) {
+            if (onComplete != null) onComplete.run();
+            return;
+        }
+
+        // ─── REMAINDER: time-boxed per pulse ───
+        currentTask = task;
+        currentOnComplete = onComplete;
+        timer.start();
+    }
+
+    /** Drops any pending steps of the current task; a no-op if nothing is running. */
+    public void cancel() {
+        timer.stop();
+        currentTask = null;
+        currentOnComplete = null;
+    }
+
+    /** @return true while a task still has steps waiting for the next pulse */
+    public boolean isRunning() {
+        return currentTask != null;
+    }
+
+    /** Runs steps of the current task until it finishes or the frame budget is spent */
+    private void runChunk() {
+        BooleanSupplier task = currentTask;
+        if (task == null) {
+            timer.stop();
+            return;
+        }
+
+        long deadline = System.nanoTime() + frameBudgetNanos;
+        boolean more;
+        try (Span span = Tracer.span("render chunk", Tracer.CATEGORY_UI)) {
+            int steps = 0;
+            do {
+                more = task.getAsBoolean();
+                steps++;
+            } while (more && System.nanoTime() < deadline);
+            span.arg("steps", steps);
+        }
+
+        if (!more && currentTask == task) {
+            Runnable onComplete = currentOnComplete;
+            cancel();
+            if (onComplete != null) onComplete.run();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.sam.projectmanager.techy_pma.ui;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.Arrays;
+
+/**
+ * Records the time between consecutive JavaFX pulses, i.e. the frame time.
+ *
+ * <p>A 60 Hz pulse gives ~16.7 ms frames; anything the Application Thread does
+ * that takes longer (layout, CSS, effects, blocking calls) shows up as longer
+ * frames. Samples are kept in a fixed-size array, so sampling does not allocate.</p>
+ *
+ * <p>Must be started and stopped from the JavaFX Application Thread.</p>
+ */
+public class FrameTimeSampler {
+
+    private final long[] samples;
+    private int count;
+    private long lastPulse;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (lastPulse != 0 && count < samples.length) {
+                samples[count++] = now - lastPulse;
+            }
+            lastPulse = now;
+        }
+    };
+
+    /**
+     * @param capacity Maximum number of frames recorded; later frames are ignored
+     */
+    public FrameTimeSampler(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    /** Clears previous samples and starts recording */
+    public void start() {
+        count = 0;
+        lastPulse = 0;
+        timer.start();
+    }
+
+    /** Stops recording; samples stay available until the next {@link #start()} */
+    public void stop() {
+        timer.stop();
+    }
+
+    /** @return Number of frames recorded */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns a frame-time percentile in milliseconds.
+     *
+     * @param percentile Between 0 and 100, e.g. 99 for p99
+     * @return The frame time at that percentile, or 0 if nothing was recorded
+     */
+    public double percentileMillis(double percentile) {
+        if (count == 0) return 0;
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+    }
+
+    /**
+     * Counts frames slower than a threshold, e.g. 16.7 ms for a 60 Hz display.
+     *
+     * @param thresholdMillis The frame budget in milliseconds
+     * @return Number of frames that exceeded it
+     */
+    public int countSlowerThan(double thresholdMillis) {
+        long threshold = (long) (thresholdMillis * 1_000_000);
+        int slow = 0;
+        for (int i = 0; i < count; i++) {
+            if (samples[i] > threshold) slow++;
+        }
+        return slow;
+    }
+
+    /** @return One-line summary: frames, p50, p95, p99, max and frames over 16.7 ms */
+    public String summary() {
+        return String.format("frames=%d p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms over16.7ms=%d",
+                count, percentileMillis(50), percentileMillis(95), percentileMillis(99),
+                percentileMillis(100), countSlowerThan(16.7));
+    }
+}
@@ -0,0 +1,187 @@
+package org.sam.projectmanager.techy_pma.ui;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Keeps the children of a {@link Pane} in sync with a list of items,
+ * reusing the node already built for each key instead of rebuilding everything.
+ *
+ * <p>On every {@link #reconcile(List)} call:</p>
+ * <ul>
+ *   <li>Nodes whose key is no longer present are removed in a single change</li>
+ *   <li>Nodes whose key is still present are kept and passed the new item via {@link Binding#update(Object)}</li>
+ *   <li>Nodes for new keys are created with the factory and inserted at their position</li>
+ *   <li>Nodes already in the right position are not touched at all</li>
+ * </ul>
+ *
+ * <p>Filtering 1,000 cards down to 990 therefore removes 10 nodes and leaves the
+ * other 990 in place, instead of clearing and rebuilding the whole container.</p>
+ *
+ * <p>The reconciler assumes it owns every child of the container.</p>
+ *
+ * @param <K> key type, e.g. the project ID
+ * @param <T> item type, e.g. {@code Project}
+ */
+public class KeyedNodeReconciler<K, T> {
+
+    /**
+     * A node built for one item, able to refresh itself in place when the item changes.
+     *
+     * @param <T> item type
+     */
+    public interface Binding<T> {
+
+        /** @return The node added to the container for this item */
+        Node getNode();
+
+        /**
+         * Refreshes the node with the latest version of its item.
+         * Implementations should only touch the properties whose value actually changed.
+         *
+         * @param item The latest version of the item with the same key
+         */
+        void update(T item);
+    }
+
+    private final Pane container;
+    private final Function<T, K> keyFunction;
+    private final Function<T, Binding<T>> factory;
+
+    // Live bindings, always exactly the set of nodes currently in the container
+    private final Map<K, Binding<T>> bindings = new HashMap<>();
+
+    /**
+     * @param container   The pane whose children are managed
+     * @param keyFunction Extracts the stable identity of an item, e.g. {@code Project::getProjectId}
+     * @param factory     Builds a new binding for an item that has no node yet
+     */
+    public KeyedNodeReconciler(Pane container, Function<T, K> keyFunction, Function<T, Binding<T>> factory) {
+        this.container = container;
+        this.keyFunction = keyFunction;
+        this.factory = factory;
+    }
+
+    /**
+     * Brings the container's children in line with {@code items}, in order, in one go.
+     *
+     * @param items The items to display, in display order (keys must be unique)
+     * @return The number of nodes that were inserted, moved or removed
+     */
+    public int reconcile(List<T> items) {
+        Pass pass = begin(items);
+        while (pass.step()) {
+            // run to completion
+        }
+        return pass.getTouched();
+    }
+
+    /**
+     * Starts an incremental reconciliation that can be spread over several pulses.
+     *
+     * <p>Stale keys are removed immediately; every later {@link Pass#step()} places one item.
+     * Between steps the container holds the already placed items followed by surviving
+     * nodes that have not been reached yet, so a pass can be abandoned at any point and a
+     * newer one started without leaving duplicate or orphaned nodes behind.</p>
+     *
+     * @param items The items to display, in display order (keys must be unique)
+     * @return The pass to drive with {@link Pass#step()}
+     */
+    public Pass begin(List<T> items) {
+        return new Pass(items);
+    }
+
+    /**
+     * One in-flight reconciliation, advanced one item at a time.
+     */
+    public class Pass {
+
+        private final List<T> items;
+        private int index;
+        private int touched;
+
+        private Pass(List<T> items) {
+            this.items = items;
+
+            // ─── REMOVE STALE KEYS (one change event for the whole batch) ───
+            Set<K> keep = new HashSet<>(items.size() * 2);
+            for (T item : items) {
+                keep.add(keyFunction.apply(item));
+            }
+
+            List<Node> stale = new ArrayList<>();
+            bindings.entrySet().removeIf(entry -> {
+                if (keep.contains(entry.getKey())) return false;
+                stale.add(entry.getValue().getNode());
+                return true;
+            });
+            if (!stale.isEmpty()) {
+                container.getChildren().removeAll(stale);
+                touched += stale.size();
+            }
+        }
+
+        /**
+         * Updates, inserts or moves the next item into place.
+         *
+         * @return true if more items remain, false once the container matches the list
+         */
+        public boolean step() {
+            if (index >= items.size()) return false;
+
+            ObservableList<Node> children = container.getChildren();
+            int i = index++;
+            T item = items.get(i);
+            K key = keyFunction.apply(item);
+            Binding<T> binding = bindings.get(key);
+
+            if (binding == null) {
+                binding = factory.apply(item);
+                bindings.put(key, binding);
+                children.add(i, binding.getNode());
+                touched++;
+            } else {
+                binding.update(item);
+
+                Node node = binding.getNode();
+                if (i >= children.size() || children.get(i) != node) {
+                    children.remove(node);
+                    children.add(i, node);
+                    touched++;
+                }
+            }
+
+            return index < items.size();
+        }
+
+        /** @return The number of nodes inserted, moved or removed so far */
+        public int getTouched() {
+            return touched;
+        }
+    }
+
+    /**
+     * Returns the binding currently displayed for a key.
+     *
+     * @param key The item key
+     * @return The live binding, or null if the key is not displayed
+     */
+    public Binding<T> getBinding(K key) {
+        return bindings.get(key);
+    }
+
+    /** Removes every node and forgets all bindings */
+    public void clear() {
+        bindings.clear();
+        container.getChildren().clear();
+    }
+}
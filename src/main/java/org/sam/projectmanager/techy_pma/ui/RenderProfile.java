@@ -0,0 +1,102 @@
+package org.sam.projectmanager.techy_pma.ui;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import org.sam.projectmanager.techy_pma.Main;
+import org.sam.projectmanager.techy_pma.logging.Log;
+import org.sam.projectmanager.techy_pma.logging.Logger;
+
+/**
+ * Application-wide rendering profile, switchable at runtime.
+ *
+ * <ul>
+ *   <li>{@link #STANDARD} — the full look: drop shadows and hover effects from dashboard.css</li>
+ *   <li>{@link #PERFORMANCE} — adds {@code low-effects.css} on top (flat borders, no blur effects)
+ *       and caches static card content as bitmaps with {@link CacheHint#SPEED}</li>
+ * </ul>
+ *
+ * <p>The starting profile is read from the {@code techy.renderProfile} system property
+ * (e.g. {@code -Dtechy.renderProfile=performance}) and defaults to STANDARD.</p>
+ */
+public enum RenderProfile {
+
+    STANDARD,
+    PERFORMANCE;
+
+    private static final Logger LOG = Log.getLogger(RenderProfile.class);
+
+    private static final String LOW_EFFECTS_CSS =
+            Main.class.getResource("/org/sam/projectmanager/techy_pma/css/low-effects.css").toExternalForm();
+
+    // Nodes registered via cacheStatic() bind to this, so switching profiles updates them all
+    private static final BooleanProperty CACHE_STATIC_CONTENT = new SimpleBooleanProperty(false);
+
+    private static RenderProfile active =
+            "performance".equalsIgnoreCase(System.getProperty("techy.renderProfile")) ? PERFORMANCE : STANDARD;
+
+    static {
+        CACHE_STATIC_CONTENT.set(active == PERFORMANCE);
+    }
+
+    /** @return The profile currently in effect */
+    public static RenderProfile getActive() {
+        return active;
+    }
+
+    /**
+     * Switches profile and re-applies it to every open window.
+     *
+     * @param profile The profile to use from now on
+     */
+    public static void setActive(RenderProfile profile) {
+        active = profile;
+        CACHE_STATIC_CONTENT.set(profile == PERFORMANCE);
+
+        for (Window window : Window.getWindows()) {
+            if (window.getScene() != null) applyTo(window.getScene());
+        }
+        LOG.info("Render profile: {}", profile);
+    }
+
+    /** Flips between STANDARD and PERFORMANCE */
+    public static void toggle() {
+        setActive(active == PERFORMANCE ? STANDARD : PERFORMANCE);
+    }
+
+    /**
+     * Adds or removes the low-effects stylesheet on a scene's root.
+     *
+     * <p>The stylesheet goes on the root rather than the scene because the FXML
+     * screens declare dashboard.css on their root, and root stylesheets take
+     * precedence over scene stylesheets.</p>
+     *
+     * @param scene The scene to update (e.g. right after navigation)
+     */
+    public static void applyTo(Scene scene) {
+        if (scene.getRoot() == null) return;
+
+        var stylesheets = scene.getRoot().getStylesheets();
+        if (active == PERFORMANCE) {
+            if (!stylesheets.contains(LOW_EFFECTS_CSS)) stylesheets.add(LOW_EFFECTS_CSS);
+        } else {
+            stylesheets.remove(LOW_EFFECTS_CSS);
+        }
+    }
+
+    /**
+     * Marks nodes whose content rarely changes (labels, progress rows) as cacheable.
+     * Caching is switched on only while the PERFORMANCE profile is active.
+     *
+     * @param nodes Static content nodes, e.g. the text rows of a project card
+     */
+    public static void cacheStatic(Node... nodes) {
+        for (Node node : nodes) {
+            node.setCacheHint(CacheHint.SPEED);
+            node.cacheProperty().bind(CACHE_STATIC_CONTENT);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.sam.projectmanager.techy_pma.utils;
+
+/**
+ * Name of the screen currently shown, set by each controller's {@code initialize()}.
+ * Diagnostics (query stats, stall reports) use it to attribute work to a screen.
+ */
+public class CurrentScreen {
+    // Read from background threads, written on the FX thread
+    private static volatile String name = "Login";
+
+    public static void set(String screen) { name = screen; }
+    public static String get() { return name; }
+}